@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.metadata.BillOfMaterials;
+import io.spring.initializr.metadata.Dependency;
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.web.project.ProjectRequest;
+import io.spring.initializr.web.project.WebProjectRequest;
+
+/**
+ * Create the {@link InitializrMetadata} and the {@link ProjectRequest project requests}
+ * that the benchmarks use. The metadata is built using
+ * {@link InitializrMetadataTestBuilder} and has dependencies with compatibility ranges,
+ * version mappings, facets, boms and repositories so that the benchmarks exercise the
+ * same code paths as a production instance.
+ *
+ * @author agent
+ */
+public final class BenchmarkMetadata {
+
+	private static final List<String> WEB_DEPENDENCIES = List.of("web", "validation", "data-jpa", "postgresql",
+			"security", "actuator", "devtools", "configuration-processor", "cloud-config-client", "testcontainers");
+
+	private BenchmarkMetadata() {
+	}
+
+	/**
+	 * Create a new {@link InitializrMetadata} instance.
+	 * @return the metadata
+	 */
+	public static InitializrMetadata create() {
+		return new InitializrMetadataTestBuilder().addDefaultTypes()
+			.addType("gradle-project-kotlin", false, "/starter.zip", "gradle", "kotlin", "project")
+			.addDefaultPackagings()
+			.addJavaVersion("17", false)
+			.addJavaVersion("21", true)
+			.addJavaVersion("25", false)
+			.addDefaultLanguages()
+			.addDefaultConfigurationFileFormats()
+			.addBootVersion("3.4.10", false)
+			.addBootVersion("3.5.6", true)
+			.addBootVersion("4.0.0-SNAPSHOT", false)
+			.setGradleEnv("1.1.7")
+			.setKotlinEnv("2.1.0")
+			.addDependencyGroup("Developer Tools",
+					library("devtools", "org.springframework.boot", "spring-boot-devtools", Dependency.SCOPE_RUNTIME),
+					library("lombok", "org.projectlombok", "lombok", Dependency.SCOPE_ANNOTATION_PROCESSOR),
+					starter("configuration-processor", "spring-boot-configuration-processor",
+							Dependency.SCOPE_ANNOTATION_PROCESSOR))
+			.addDependencyGroup("Web", withFacets(starter("web", "spring-boot-starter-web"), "web", "json"),
+					withFacets(starter("webflux", "spring-boot-starter-webflux"), "reactive", "json"),
+					starter("validation", "spring-boot-starter-validation"),
+					starter("thymeleaf", "spring-boot-starter-thymeleaf"), htmx(), vaadin())
+			.addDependencyGroup("Security", starter("security", "spring-boot-starter-security"),
+					starter("oauth2-client", "spring-boot-starter-oauth2-client"))
+			.addDependencyGroup("SQL", withFacets(starter("data-jpa", "spring-boot-starter-data-jpa"), "jpa"),
+					library("h2", "com.h2database", "h2", Dependency.SCOPE_RUNTIME),
+					library("postgresql", "org.postgresql", "postgresql", Dependency.SCOPE_RUNTIME),
+					library("flyway", "org.flywaydb", "flyway-core", Dependency.SCOPE_COMPILE))
+			.addDependencyGroup("I/O", starter("batch", "spring-boot-starter-batch"),
+					starter("mail", "spring-boot-starter-mail"), starter("cache", "spring-boot-starter-cache"))
+			.addDependencyGroup("Ops", starter("actuator", "spring-boot-starter-actuator"))
+			.addDependencyGroup("Spring Cloud", springCloud("cloud-config-client", "spring-cloud-starter-config"),
+					springCloud("cloud-eureka", "spring-cloud-starter-netflix-eureka-client"),
+					springCloud("cloud-gateway", "spring-cloud-starter-gateway"))
+			.addDependencyGroup("Testing", testcontainers())
+			.addBom("spring-cloud", springCloudBom())
+			.addBom("testcontainers", "org.testcontainers", "testcontainers-bom", "1.21.3")
+			.addBom("vaadin", "com.vaadin", "vaadin-bom", "24.8.0")
+			.addReleasesRepository("spring-milestones", "Spring Milestones", "https://repo.spring.io/milestone")
+			.build();
+	}
+
+	/**
+	 * Create a {@link ProjectRequest} for a typical web project, with a dozen of
+	 * dependencies.
+	 * @param metadata the metadata to use to initialize the request
+	 * @param type the type of the project
+	 * @param language the language of the project
+	 * @return the project request
+	 */
+	public static ProjectRequest createWebProjectRequest(InitializrMetadata metadata, String type, String language) {
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType(type);
+		request.setLanguage(language);
+		request.setGroupId("com.example");
+		request.setArtifactId("demo");
+		request.setName("demo");
+		request.setApplicationName("DemoApplication");
+		request.setDependencies(new ArrayList<>(WEB_DEPENDENCIES));
+		return request;
+	}
+
+	private static Dependency starter(String id, String artifactId) {
+		return starter(id, artifactId, null);
+	}
+
+	private static Dependency starter(String id, String artifactId, String scope) {
+		return Dependency.withId(id, "org.springframework.boot", artifactId, null, scope);
+	}
+
+	private static Dependency library(String id, String groupId, String artifactId, String scope) {
+		Dependency dependency = Dependency.withId(id, groupId, artifactId, null, scope);
+		dependency.setStarter(false);
+		return dependency;
+	}
+
+	private static Dependency withFacets(Dependency dependency, String... facets) {
+		dependency.setFacets(List.of(facets));
+		return dependency;
+	}
+
+	private static Dependency htmx() {
+		Dependency htmx = library("htmx", "io.github.wimdeblauwe", "htmx-spring-boot", Dependency.SCOPE_COMPILE);
+		htmx.setCompatibilityRange("[3.4.0,4.0.0-M1)");
+		htmx.getMappings().add(Dependency.Mapping.create("[3.4.0,3.5.0-M1)", null, null, "4.0.1", null, null, null));
+		htmx.getMappings().add(Dependency.Mapping.create("[3.5.0-M1,4.0.0-M1)", null, null, "4.0.2", null, null, null));
+		return htmx;
+	}
+
+	private static Dependency vaadin() {
+		Dependency vaadin = Dependency.withId("vaadin", "com.vaadin", "vaadin-spring-boot-starter");
+		vaadin.setBom("vaadin");
+		vaadin.setCompatibilityRange("[3.4.0,4.0.0-M1)");
+		return vaadin;
+	}
+
+	private static Dependency springCloud(String id, String artifactId) {
+		Dependency dependency = Dependency.withId(id, "org.springframework.cloud", artifactId);
+		dependency.setBom("spring-cloud");
+		dependency.setCompatibilityRange("[3.4.0,4.1.0-M1)");
+		return dependency;
+	}
+
+	private static Dependency testcontainers() {
+		Dependency testcontainers = library("testcontainers", "org.testcontainers", "junit-jupiter",
+				Dependency.SCOPE_TEST);
+		testcontainers.setBom("testcontainers");
+		return testcontainers;
+	}
+
+	private static BillOfMaterials springCloudBom() {
+		BillOfMaterials bom = BillOfMaterials.create("org.springframework.cloud", "spring-cloud-dependencies");
+		bom.setVersionProperty("spring-cloud.version");
+		bom.getMappings().add(BillOfMaterials.Mapping.create("[3.4.0,3.5.0-M1)", "2024.0.2"));
+		bom.getMappings().add(BillOfMaterials.Mapping.create("[3.5.0-M1,4.0.0-M1)", "2025.0.0"));
+		bom.getMappings()
+			.add(BillOfMaterials.Mapping.create("[4.0.0-M1,4.1.0-M1)", "2025.1.0-M3", "spring-milestones"));
+		return bom;
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.buildsystem;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.buildsystem.Build;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyScope;
+import io.spring.initializr.generator.buildsystem.MavenRepository;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
+import io.spring.initializr.generator.buildsystem.gradle.GroovyDslGradleBuildWriter;
+import io.spring.initializr.generator.buildsystem.gradle.KotlinDslGradleBuildWriter;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildWriter;
+import io.spring.initializr.generator.io.IndentingWriter;
+import io.spring.initializr.generator.io.SimpleIndentStrategy;
+import io.spring.initializr.generator.version.VersionReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the rendering of a typical build by {@link MavenBuildWriter},
+ * {@link GroovyDslGradleBuildWriter} and {@link KotlinDslGradleBuildWriter}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuildWriterBenchmark {
+
+	private static final SimpleIndentStrategy INDENT_STRATEGY = new SimpleIndentStrategy("\t");
+
+	private final MavenBuild mavenBuild = createMavenBuild();
+
+	private final GradleBuild gradleBuild = createGradleBuild();
+
+	private final MavenBuildWriter mavenBuildWriter = new MavenBuildWriter();
+
+	private final GroovyDslGradleBuildWriter groovyDslGradleBuildWriter = new GroovyDslGradleBuildWriter();
+
+	private final KotlinDslGradleBuildWriter kotlinDslGradleBuildWriter = new KotlinDslGradleBuildWriter();
+
+	@Benchmark
+	public String writeMavenBuild() {
+		StringWriter out = new StringWriter();
+		this.mavenBuildWriter.writeTo(new IndentingWriter(out, INDENT_STRATEGY), this.mavenBuild);
+		return out.toString();
+	}
+
+	@Benchmark
+	public String writeGroovyDslGradleBuild() {
+		StringWriter out = new StringWriter();
+		this.groovyDslGradleBuildWriter.writeTo(new IndentingWriter(out, INDENT_STRATEGY), this.gradleBuild);
+		return out.toString();
+	}
+
+	@Benchmark
+	public String writeKotlinDslGradleBuild() {
+		StringWriter out = new StringWriter();
+		this.kotlinDslGradleBuildWriter.writeTo(new IndentingWriter(out, INDENT_STRATEGY), this.gradleBuild);
+		return out.toString();
+	}
+
+	private static MavenBuild createMavenBuild() {
+		MavenBuild build = new MavenBuild();
+		build.settings()
+			.parent("org.springframework.boot", "spring-boot-starter-parent", "3.5.6")
+			.coordinates("com.example", "demo")
+			.version("0.0.1-SNAPSHOT")
+			.name("demo")
+			.description("Demo project for Spring Boot");
+		build.properties().property("java.version", "21");
+		configureBuild(build);
+		build.plugins()
+			.add("org.hibernate.orm.tooling", "hibernate-enhance-maven-plugin",
+					(plugin) -> plugin.version("${hibernate.version}")
+						.execution("enhance", (execution) -> execution.goal("enhance")
+							.configuration((configuration) -> configuration.add("enableLazyInitialization", "true")
+								.add("enableDirtyTracking", "true")
+								.add("enableAssociationManagement", "true"))));
+		build.plugins()
+			.add("org.springframework.boot", "spring-boot-maven-plugin", (plugin) -> plugin.configuration(
+					(configuration) -> configuration.configure("excludes", (excludes) -> excludes.add("exclude",
+							(exclude) -> exclude.add("groupId", "org.projectlombok").add("artifactId", "lombok")))));
+		return build;
+	}
+
+	private static GradleBuild createGradleBuild() {
+		GradleBuild build = new GradleBuild();
+		build.settings().group("com.example").version("0.0.1-SNAPSHOT").description("Demo project for Spring Boot");
+		build.plugins().add("java");
+		build.plugins().add("org.springframework.boot", (plugin) -> plugin.setVersion("3.5.6"));
+		build.plugins().add("io.spring.dependency-management", (plugin) -> plugin.setVersion("1.1.7"));
+		build.plugins().add("org.hibernate.orm", (plugin) -> plugin.setVersion("6.6.29.Final"));
+		build.configurations()
+			.customize("compileOnly", (configuration) -> configuration.extendsFrom("annotationProcessor"));
+		configureBuild(build);
+		build.tasks().customizeWithType("Test", (task) -> task.invoke("useJUnitPlatform"));
+		return build;
+	}
+
+	private static void configureBuild(Build build) {
+		build.properties().version("spring-cloud.version", "2025.0.0");
+		build.dependencies().add("web", "org.springframework.boot", "spring-boot-starter-web", DependencyScope.COMPILE);
+		build.dependencies()
+			.add("validation", "org.springframework.boot", "spring-boot-starter-validation", DependencyScope.COMPILE);
+		build.dependencies()
+			.add("data-jpa", "org.springframework.boot", "spring-boot-starter-data-jpa", DependencyScope.COMPILE);
+		build.dependencies()
+			.add("security", "org.springframework.boot", "spring-boot-starter-security", DependencyScope.COMPILE);
+		build.dependencies()
+			.add("actuator", "org.springframework.boot", "spring-boot-starter-actuator", DependencyScope.COMPILE);
+		build.dependencies()
+			.add("cloud-config-client", "org.springframework.cloud", "spring-cloud-starter-config",
+					DependencyScope.COMPILE);
+		build.dependencies()
+			.add("htmx",
+					Dependency.withCoordinates("io.github.wimdeblauwe", "htmx-spring-boot")
+						.version(VersionReference.ofValue("4.0.2"))
+						.scope(DependencyScope.COMPILE));
+		build.dependencies()
+			.add("devtools", "org.springframework.boot", "spring-boot-devtools", DependencyScope.RUNTIME);
+		build.dependencies().add("postgresql", "org.postgresql", "postgresql", DependencyScope.RUNTIME);
+		build.dependencies().add("lombok", "org.projectlombok", "lombok", DependencyScope.ANNOTATION_PROCESSOR);
+		build.dependencies()
+			.add("configuration-processor", "org.springframework.boot", "spring-boot-configuration-processor",
+					DependencyScope.ANNOTATION_PROCESSOR);
+		build.dependencies()
+			.add("test", "org.springframework.boot", "spring-boot-starter-test", DependencyScope.TEST_COMPILE);
+		build.dependencies()
+			.add("security-test", "org.springframework.security", "spring-security-test", DependencyScope.TEST_COMPILE);
+		build.dependencies().add("testcontainers", "org.testcontainers", "junit-jupiter", DependencyScope.TEST_COMPILE);
+		build.dependencies()
+			.add("junit-launcher", "org.junit.platform", "junit-platform-launcher", DependencyScope.TEST_RUNTIME);
+		build.boms()
+			.add("spring-cloud",
+					BillOfMaterials.withCoordinates("org.springframework.cloud", "spring-cloud-dependencies")
+						.version(VersionReference.ofProperty("spring-cloud.version")));
+		build.boms()
+			.add("testcontainers", BillOfMaterials.withCoordinates("org.testcontainers", "testcontainers-bom")
+				.version(VersionReference.ofValue("1.21.3")));
+		build.repositories().add("maven-central");
+		build.repositories()
+			.add(MavenRepository.withIdAndUrl("spring-milestones", "https://repo.spring.io/milestone")
+				.name("Spring Milestones")
+				.onlyReleases());
+	}
+
+}
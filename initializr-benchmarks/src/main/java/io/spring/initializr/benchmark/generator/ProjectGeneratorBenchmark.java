@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.spring.initializr.benchmark.BenchmarkMetadata;
+import io.spring.initializr.generator.buildsystem.BuildItemResolver;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.SimpleIndentStrategy;
+import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.project.DefaultProjectAssetGenerator;
+import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationContext;
+import io.spring.initializr.generator.project.ProjectGenerator;
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.metadata.support.MetadataBuildItemResolver;
+import io.spring.initializr.web.project.DefaultProjectRequestToDescriptionConverter;
+import io.spring.initializr.web.project.MetadataProjectDescriptionCustomizer;
+import io.spring.initializr.web.project.ProjectRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmarks for {@link ProjectGenerator} using all the available project generation
+ * configurations, with a context that is customized the same way as the web layer does.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectGeneratorBenchmark {
+
+	private final InitializrMetadata metadata = BenchmarkMetadata.create();
+
+	private final DefaultProjectRequestToDescriptionConverter requestConverter = new DefaultProjectRequestToDescriptionConverter();
+
+	private final IndentingWriterFactory indentingWriterFactory = IndentingWriterFactory.create(
+			new SimpleIndentStrategy("\t"),
+			(builder) -> builder.indentingStrategy("yaml", new SimpleIndentStrategy("  ")));
+
+	private final MustacheTemplateRenderer templateRenderer = new MustacheTemplateRenderer("classpath:/templates",
+			new ConcurrentMapCache("initializr.templates"));
+
+	private ProjectRequest mavenJavaProject;
+
+	private ProjectRequest gradleKotlinProject;
+
+	private Path directory;
+
+	@Setup
+	public void setup() throws IOException {
+		this.mavenJavaProject = BenchmarkMetadata.createWebProjectRequest(this.metadata, "maven-project", "java");
+		this.gradleKotlinProject = BenchmarkMetadata.createWebProjectRequest(this.metadata, "gradle-project-kotlin",
+				"kotlin");
+		this.directory = Files.createTempDirectory("initializr-benchmark-");
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteProjects() throws IOException {
+		for (Path project : listProjects()) {
+			FileSystemUtils.deleteRecursively(project);
+		}
+	}
+
+	@TearDown
+	public void deleteDirectory() throws IOException {
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Path generateMavenJavaProject() {
+		return generate(this.mavenJavaProject);
+	}
+
+	@Benchmark
+	public Path generateGradleKotlinProject() {
+		return generate(this.gradleKotlinProject);
+	}
+
+	private Path generate(ProjectRequest request) {
+		ProjectDescription description = this.requestConverter.convert(request, this.metadata);
+		ProjectGenerator projectGenerator = new ProjectGenerator(this::customizeProjectGenerationContext);
+		return projectGenerator.generate(description, new DefaultProjectAssetGenerator());
+	}
+
+	private void customizeProjectGenerationContext(ProjectGenerationContext context) {
+		context.registerBean(InitializrMetadata.class, () -> this.metadata);
+		context.registerBean(BuildItemResolver.class, () -> new MetadataBuildItemResolver(this.metadata,
+				context.getBean(ProjectDescription.class).getPlatformVersion()));
+		context.registerBean(MetadataProjectDescriptionCustomizer.class,
+				() -> new MetadataProjectDescriptionCustomizer(this.metadata));
+		context.registerBean(ProjectDirectoryFactory.class,
+				() -> (description) -> Files.createTempDirectory(this.directory, "project-"));
+		context.registerBean(IndentingWriterFactory.class, () -> this.indentingWriterFactory);
+		context.registerBean(MustacheTemplateRenderer.class, () -> this.templateRenderer);
+	}
+
+	private List<Path> listProjects() throws IOException {
+		try (Stream<Path> projects = Files.list(this.directory)) {
+			return projects.toList();
+		}
+	}
+
+}
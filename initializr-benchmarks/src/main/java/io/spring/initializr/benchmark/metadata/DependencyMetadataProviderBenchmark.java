@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.metadata;
+
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.benchmark.BenchmarkMetadata;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.DependencyMetadata;
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.web.support.DefaultDependencyMetadataProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the resolution of the {@link DependencyMetadata} of a Spring Boot
+ * version by {@link DefaultDependencyMetadataProvider}, as used by the
+ * {@code /dependencies} endpoint when its result is not cached.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DependencyMetadataProviderBenchmark {
+
+	@Param({ "3.4.10", "3.5.6", "4.0.0-SNAPSHOT" })
+	public String bootVersion;
+
+	private final InitializrMetadata metadata = BenchmarkMetadata.create();
+
+	private final DefaultDependencyMetadataProvider dependencyMetadataProvider = new DefaultDependencyMetadataProvider();
+
+	private Version version;
+
+	@Setup
+	public void setup() {
+		this.version = Version.parse(this.bootVersion);
+	}
+
+	@Benchmark
+	public DependencyMetadata get() {
+		return this.dependencyMetadataProvider.get(this.metadata, this.version);
+	}
+
+}
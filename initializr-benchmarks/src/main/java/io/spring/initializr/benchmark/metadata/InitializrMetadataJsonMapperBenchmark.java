@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.metadata;
+
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.benchmark.BenchmarkMetadata;
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.web.mapper.InitializrMetadataJsonMapper;
+import io.spring.initializr.web.mapper.InitializrMetadataV21JsonMapper;
+import io.spring.initializr.web.mapper.InitializrMetadataV22JsonMapper;
+import io.spring.initializr.web.mapper.InitializrMetadataV23JsonMapper;
+import io.spring.initializr.web.mapper.InitializrMetadataV2JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the serialization of the metadata by the
+ * {@link InitializrMetadataJsonMapper} of each version of the metadata format, as used by
+ * the {@code /metadata/client} endpoint when its result is not cached.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InitializrMetadataJsonMapperBenchmark {
+
+	private static final String APP_URL = "http://localhost:8080";
+
+	@Param({ "v2", "v2.1", "v2.2", "v2.3" })
+	public String format;
+
+	private final InitializrMetadata metadata = BenchmarkMetadata.create();
+
+	private InitializrMetadataJsonMapper jsonMapper;
+
+	@Setup
+	public void setup() {
+		this.jsonMapper = createJsonMapper(this.format);
+	}
+
+	@Benchmark
+	public String write() {
+		return this.jsonMapper.write(this.metadata, APP_URL);
+	}
+
+	private static InitializrMetadataJsonMapper createJsonMapper(String format) {
+		return switch (format) {
+			case "v2" -> new InitializrMetadataV2JsonMapper();
+			case "v2.1" -> new InitializrMetadataV21JsonMapper();
+			case "v2.2" -> new InitializrMetadataV22JsonMapper();
+			case "v2.3" -> new InitializrMetadataV23JsonMapper();
+			default -> throw new IllegalArgumentException("Unsupported format '" + format + "'");
+		};
+	}
+
+}
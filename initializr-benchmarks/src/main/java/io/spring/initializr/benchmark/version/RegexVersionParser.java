@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.version;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.spring.initializr.generator.version.InvalidVersionException;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.generator.version.Version.Qualifier;
+import io.spring.initializr.generator.version.VersionParser;
+import io.spring.initializr.generator.version.VersionRange;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Baseline for {@link VersionParser}: parses versions and version ranges using the
+ * regular expressions that were used before the parser scanned the text itself.
+ *
+ * @author agent
+ */
+class RegexVersionParser {
+
+	private static final Pattern VERSION_REGEX = Pattern
+		.compile("^(\\d+)\\.(\\d+|x)\\.(\\d+|x)(?:([.|-])([^0-9]+)(\\d+)?)?$");
+
+	private static final Pattern RANGE_REGEX = Pattern.compile("([(\\[])(.*),(.*)([)\\]])");
+
+	private final List<Version> latestVersions;
+
+	RegexVersionParser(List<Version> latestVersions) {
+		this.latestVersions = latestVersions;
+	}
+
+	Version parse(String text) {
+		Matcher matcher = VERSION_REGEX.matcher(text.trim());
+		if (!matcher.matches()) {
+			throw new InvalidVersionException("Could not determine version based on '" + text + "'");
+		}
+		Integer major = Integer.valueOf(matcher.group(1));
+		String minor = matcher.group(2);
+		String patch = matcher.group(3);
+		Qualifier qualifier = parseQualifier(matcher);
+		if ("x".equals(minor) || "x".equals(patch)) {
+			Integer minorInt = ("x".equals(minor) ? null : Integer.parseInt(minor));
+			Version latest = findLatestVersion(major, minorInt, qualifier);
+			if (latest == null) {
+				return new Version(major, ("x".equals(minor) ? 999 : Integer.parseInt(minor)),
+						("x".equals(patch) ? 999 : Integer.parseInt(patch)), qualifier);
+			}
+			return new Version(major, latest.getMinor(), latest.getPatch(), latest.getQualifier());
+		}
+		return new Version(major, Integer.parseInt(minor), Integer.parseInt(patch), qualifier);
+	}
+
+	VersionRange parseRange(String text) {
+		Matcher matcher = RANGE_REGEX.matcher(text.trim());
+		if (!matcher.matches()) {
+			return new VersionRange(parse(text));
+		}
+		boolean lowerInclusive = matcher.group(1).equals("[");
+		Version lowerVersion = parse(matcher.group(2));
+		Version higherVersion = parse(matcher.group(3));
+		boolean higherInclusive = matcher.group(4).equals("]");
+		return new BaselineVersionRange(lowerVersion, lowerInclusive, higherVersion, higherInclusive);
+	}
+
+	private Qualifier parseQualifier(Matcher matcher) {
+		String qualifierSeparator = matcher.group(4);
+		String qualifierId = matcher.group(5);
+		if (StringUtils.hasText(qualifierSeparator) && StringUtils.hasText(qualifierId)) {
+			String versionString = matcher.group(6);
+			return new Qualifier(qualifierId, (versionString != null) ? Integer.valueOf(versionString) : null,
+					qualifierSeparator);
+		}
+		return null;
+	}
+
+	private Version findLatestVersion(Integer major, Integer minor, Qualifier qualifier) {
+		List<Version> matches = this.latestVersions.stream().filter((it) -> {
+			if (major != null && !major.equals(it.getMajor())) {
+				return false;
+			}
+			if (minor != null && !minor.equals(it.getMinor())) {
+				return false;
+			}
+			return qualifier == null || qualifier.equals(it.getQualifier());
+		}).toList();
+		return (matches.size() != 1) ? null : matches.get(0);
+	}
+
+	private static final class BaselineVersionRange extends VersionRange {
+
+		BaselineVersionRange(Version lowerVersion, boolean lowerInclusive, Version higherVersion,
+				boolean higherInclusive) {
+			super(lowerVersion, lowerInclusive, higherVersion, higherInclusive);
+		}
+
+	}
+
+}
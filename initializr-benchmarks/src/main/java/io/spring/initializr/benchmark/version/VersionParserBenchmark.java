@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.version;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.generator.version.VersionParser;
+import io.spring.initializr.generator.version.VersionRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link VersionParser}, compared to the {@link RegexVersionParser regular
+ * expression based implementation}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionParserBenchmark {
+
+	private static final List<Version> LATEST_VERSIONS = List.of(Version.parse("3.4.5"), Version.parse("3.5.0"),
+			Version.parse("4.0.0-SNAPSHOT"));
+
+	private final VersionParser parser = new VersionParser(LATEST_VERSIONS);
+
+	private final RegexVersionParser regexParser = new RegexVersionParser(LATEST_VERSIONS);
+
+	@Benchmark
+	public Version parse(VersionText text) {
+		return this.parser.parse(text.value);
+	}
+
+	@Benchmark
+	public Version parseWithRegex(VersionText text) {
+		return this.regexParser.parse(text.value);
+	}
+
+	@Benchmark
+	public VersionRange parseRange(RangeText text) {
+		return this.parser.parseRange(text.value);
+	}
+
+	@Benchmark
+	public VersionRange parseRangeWithRegex(RangeText text) {
+		return this.regexParser.parseRange(text.value);
+	}
+
+	@State(Scope.Benchmark)
+	public static class VersionText {
+
+		@Param({ "3.5.0", "4.0.0-SNAPSHOT", "2.7.18.RELEASE", "3.5.0-RC1", "3.4.x" })
+		public String value;
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class RangeText {
+
+		@Param({ "3.4.0", "[3.4.0,3.6.0-M1)", "[2.7.0.RELEASE,3.4.x]" })
+		public String value;
+
+	}
+
+}
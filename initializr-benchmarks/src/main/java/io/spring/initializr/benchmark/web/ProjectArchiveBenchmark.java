@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmark.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.benchmark.BenchmarkMetadata;
+import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.SimpleIndentStrategy;
+import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.metadata.InitializrMetadataProvider;
+import io.spring.initializr.web.controller.DefaultProjectGenerationController;
+import io.spring.initializr.web.controller.ProjectGenerationController;
+import io.spring.initializr.web.project.DefaultProjectRequestToDescriptionConverter;
+import io.spring.initializr.web.project.ProjectGenerationInvoker;
+import io.spring.initializr.web.project.ProjectRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Benchmarks for the {@code /starter.zip} and {@code /starter.tgz} endpoints of
+ * {@link ProjectGenerationController}. Each operation generates the project structure
+ * using a {@link ProjectGenerationInvoker} and writes the archive to memory.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectArchiveBenchmark {
+
+	private final InitializrMetadata metadata = BenchmarkMetadata.create();
+
+	private Path directory;
+
+	private GenericApplicationContext context;
+
+	private DefaultProjectGenerationController controller;
+
+	private ProjectRequest request;
+
+	@Setup
+	public void setup() throws IOException {
+		this.directory = Files.createTempDirectory("initializr-benchmark-");
+		this.context = createApplicationContext(this.metadata, this.directory);
+		ProjectGenerationInvoker<ProjectRequest> invoker = new ProjectGenerationInvoker<>(this.context,
+				new DefaultProjectRequestToDescriptionConverter());
+		this.controller = new DefaultProjectGenerationController(this.context.getBean(InitializrMetadataProvider.class),
+				invoker);
+		this.request = BenchmarkMetadata.createWebProjectRequest(this.metadata, "maven-project", "java");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.context.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public int zip() throws IOException {
+		return size(this.controller.springZip(this.request));
+	}
+
+	@Benchmark
+	public int tgz() throws IOException {
+		return size(this.controller.springTgz(this.request));
+	}
+
+	private int size(ResponseEntity<StreamingResponseBody> response) throws IOException {
+		StreamingResponseBody body = response.getBody();
+		Assert.state(body != null, "'body' must not be null");
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		body.writeTo(output);
+		return output.size();
+	}
+
+	private static GenericApplicationContext createApplicationContext(InitializrMetadata metadata, Path directory) {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(InitializrMetadataProvider.class, () -> () -> metadata);
+		context.registerBean(ProjectDirectoryFactory.class,
+				() -> (description) -> Files.createTempDirectory(directory, "project-"));
+		context.registerBean(IndentingWriterFactory.class,
+				() -> IndentingWriterFactory.create(new SimpleIndentStrategy("\t"),
+						(builder) -> builder.indentingStrategy("yaml", new SimpleIndentStrategy("  "))));
+		context.registerBean(MustacheTemplateRenderer.class, () -> new MustacheTemplateRenderer("classpath:/templates",
+				new ConcurrentMapCache("initializr.templates")));
+		context.refresh();
+		return context;
+	}
+
+}
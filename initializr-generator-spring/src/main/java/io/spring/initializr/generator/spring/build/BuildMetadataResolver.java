@@ -17,6 +17,7 @@
 package io.spring.initializr.generator.spring.build;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import io.spring.initializr.generator.buildsystem.Build;
@@ -62,7 +63,8 @@ public class BuildMetadataResolver {
 	 * @return {@code true} if this build defines at least a dependency with that facet
 	 */
 	public boolean hasFacet(Build build, String facet) {
-		return dependencies(build).anyMatch((dependency) -> dependency.getFacets().contains(facet));
+		Set<String> ids = this.metadata.getDependencies().getIdsWithFacet(facet);
+		return !ids.isEmpty() && build.dependencies().ids().anyMatch(ids::contains);
 	}
 
 }
@@ -85,7 +85,7 @@ public class WarPackagingWebStarterBuildCustomizer implements BuildCustomizer<Bu
 	}
 
 	private void addTomcatInProvidedScope(Build build) {
-		Dependency tomcat = determineTomcatDependency(this.metadata);
+		Dependency tomcat = new Dependency(determineTomcatDependency(this.metadata));
 		tomcat.setScope(Dependency.SCOPE_PROVIDED);
 		build.dependencies().add("tomcat", MetadataBuildItemMapper.toDependency(tomcat.resolve(this.platformVersion)));
 	}
@@ -26,6 +26,7 @@ import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuildWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -34,7 +35,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  * @author Andy Wilkinson
  * @author Jean-Baptiste Nizet
  */
-public class GradleBuildProjectContributor implements BuildWriter, ProjectContributor {
+public class GradleBuildProjectContributor implements BuildWriter, ConcurrentProjectContributor {
 
 	private final GradleBuildWriter buildWriter;
 
@@ -35,6 +35,7 @@ import io.spring.initializr.generator.language.java.JavaLanguage;
 import io.spring.initializr.generator.packaging.war.WarPackaging;
 import io.spring.initializr.generator.project.ProjectDescription;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.contributor.ProjectResourceResolver;
 import io.spring.initializr.generator.spring.build.BuildCustomizer;
 import io.spring.initializr.generator.spring.util.LambdaSafe;
 import io.spring.initializr.metadata.InitializrMetadata;
@@ -146,8 +147,8 @@ public class GradleProjectGenerationConfiguration {
 	static class Gradle8ProjectGenerationConfiguration {
 
 		@Bean
-		GradleWrapperContributor gradle8WrapperContributor() {
-			return new GradleWrapperContributor("8");
+		GradleWrapperContributor gradle8WrapperContributor(ObjectProvider<ProjectResourceResolver> resourceResolver) {
+			return new GradleWrapperContributor("8", resourceResolver.getIfAvailable(ProjectResourceResolver::new));
 		}
 
 	}
@@ -160,8 +161,8 @@ public class GradleProjectGenerationConfiguration {
 	static class Gradle9ProjectGenerationConfiguration {
 
 		@Bean
-		GradleWrapperContributor gradle9WrapperContributor() {
-			return new GradleWrapperContributor("9");
+		GradleWrapperContributor gradle9WrapperContributor(ObjectProvider<ProjectResourceResolver> resourceResolver) {
+			return new GradleWrapperContributor("9", resourceResolver.getIfAvailable(ProjectResourceResolver::new));
 		}
 
 	}
@@ -16,7 +16,9 @@
 
 package io.spring.initializr.generator.spring.build.gradle;
 
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.MultipleResourcesProjectContributor;
+import io.spring.initializr.generator.project.contributor.ProjectResourceResolver;
 
 /**
  * A {@link MultipleResourcesProjectContributor} that contributes Gradle's wrapper to a
@@ -24,11 +26,15 @@ import io.spring.initializr.generator.project.contributor.MultipleResourcesProje
  *
  * @author Andy Wilkinson
  */
-class GradleWrapperContributor extends MultipleResourcesProjectContributor {
+class GradleWrapperContributor extends MultipleResourcesProjectContributor implements ConcurrentProjectContributor {
 
 	GradleWrapperContributor(String gradleVersion) {
+		this(gradleVersion, new ProjectResourceResolver());
+	}
+
+	GradleWrapperContributor(String gradleVersion, ProjectResourceResolver resourceResolver) {
 		super("classpath:gradle/" + gradleVersion + "/wrapper",
-				(filename) -> filename.equals("gradlew") || filename.equals("gradlew.bat"));
+				(filename) -> filename.equals("gradlew") || filename.equals("gradlew.bat"), resourceResolver);
 	}
 
 }
@@ -24,6 +24,7 @@ import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
 import io.spring.initializr.generator.buildsystem.gradle.GradleSettingsWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -32,7 +33,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  * @author Andy Wilkinson
  * @author Jean-Baptiste Nizet
  */
-class SettingsGradleProjectContributor implements ProjectContributor {
+class SettingsGradleProjectContributor implements ConcurrentProjectContributor {
 
 	private final GradleBuild build;
 
@@ -26,6 +26,7 @@ import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -34,7 +35,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  * @author Andy Wilkinson
  * @author Stephane Nicoll
  */
-public class MavenBuildProjectContributor implements BuildWriter, ProjectContributor {
+public class MavenBuildProjectContributor implements BuildWriter, ConcurrentProjectContributor {
 
 	private final MavenBuild build;
 
@@ -27,6 +27,7 @@ import io.spring.initializr.generator.io.IndentingWriterFactory;
 import io.spring.initializr.generator.packaging.war.WarPackaging;
 import io.spring.initializr.generator.project.ProjectDescription;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.contributor.ProjectResourceResolver;
 import io.spring.initializr.generator.spring.build.BuildCustomizer;
 import io.spring.initializr.generator.spring.util.LambdaSafe;
 import io.spring.initializr.metadata.InitializrMetadata;
@@ -53,8 +54,8 @@ public class MavenProjectGenerationConfiguration {
 	}
 
 	@Bean
-	MavenWrapperContributor mavenWrapperContributor() {
-		return new MavenWrapperContributor("3");
+	MavenWrapperContributor mavenWrapperContributor(ObjectProvider<ProjectResourceResolver> resourceResolver) {
+		return new MavenWrapperContributor("3", resourceResolver.getIfAvailable(ProjectResourceResolver::new));
 	}
 
 	@Bean
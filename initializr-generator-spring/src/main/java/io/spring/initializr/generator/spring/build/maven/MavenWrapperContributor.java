@@ -16,7 +16,9 @@
 
 package io.spring.initializr.generator.spring.build.maven;
 
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.MultipleResourcesProjectContributor;
+import io.spring.initializr.generator.project.contributor.ProjectResourceResolver;
 
 /**
  * A {@link MultipleResourcesProjectContributor} that contributes Maven's wrapper to a
@@ -24,11 +26,15 @@ import io.spring.initializr.generator.project.contributor.MultipleResourcesProje
  *
  * @author Andy Wilkinson
  */
-class MavenWrapperContributor extends MultipleResourcesProjectContributor {
+class MavenWrapperContributor extends MultipleResourcesProjectContributor implements ConcurrentProjectContributor {
 
 	MavenWrapperContributor(String mavenVersion) {
+		this(mavenVersion, new ProjectResourceResolver());
+	}
+
+	MavenWrapperContributor(String mavenVersion, ProjectResourceResolver resourceResolver) {
 		super("classpath:maven/" + mavenVersion + "/wrapper",
-				(filename) -> filename.equals("mvnw") || filename.equals("mvnw.cmd"));
+				(filename) -> filename.equals("mvnw") || filename.equals("mvnw.cmd"), resourceResolver);
 	}
 
 }
@@ -28,6 +28,7 @@ import io.spring.initializr.generator.language.SourceCode;
 import io.spring.initializr.generator.language.SourceCodeWriter;
 import io.spring.initializr.generator.language.TypeDeclaration;
 import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 import io.spring.initializr.generator.spring.util.LambdaSafe;
 
@@ -43,7 +44,7 @@ import org.springframework.util.Assert;
  * @author Stephane Nicoll
  */
 public class TestSourceCodeProjectContributor<T extends TypeDeclaration, C extends CompilationUnit<T>, S extends SourceCode<T, C>>
-		implements ProjectContributor {
+		implements ConcurrentProjectContributor {
 
 	private final ProjectDescription description;
 
@@ -25,6 +25,7 @@ import io.spring.initializr.generator.container.docker.compose.ComposeFile;
 import io.spring.initializr.generator.container.docker.compose.ComposeFileWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -34,7 +35,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  * @author Moritz Halbritter
  * @author Stephane Nicoll
  */
-public class ComposeProjectContributor implements ProjectContributor {
+public class ComposeProjectContributor implements ConcurrentProjectContributor {
 
 	private final ComposeFile composeFile;
 
@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -32,7 +33,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  * @author Stephane Nicoll
  * @author Moritz Halbritter
  */
-public class ApplicationPropertiesContributor implements ProjectContributor {
+public class ApplicationPropertiesContributor implements ConcurrentProjectContributor {
 
 	private static final String FILE = "src/main/resources/application.properties";
 
@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -31,7 +32,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  *
  * @author Sijun Yang
  */
-public class ApplicationYamlPropertiesContributor implements ProjectContributor {
+public class ApplicationYamlPropertiesContributor implements ConcurrentProjectContributor {
 
 	private static final String FILE = "src/main/resources/application.yaml";
 
@@ -21,6 +21,7 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -29,7 +30,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  *
  * @author Moritz Halbritter
  */
-public class GitAttributesContributor implements ProjectContributor {
+public class GitAttributesContributor implements ConcurrentProjectContributor {
 
 	private final GitAttributes gitAttributes;
 
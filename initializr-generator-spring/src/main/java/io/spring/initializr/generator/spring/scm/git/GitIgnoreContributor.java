@@ -21,6 +21,7 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -29,7 +30,7 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  * @author Andy Wilkinson
  * @author Stephane Nicoll
  */
-public class GitIgnoreContributor implements ProjectContributor {
+public class GitIgnoreContributor implements ConcurrentProjectContributor {
 
 	private final GitIgnore gitIgnore;
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring;
+
+import java.util.List;
+
+import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the runtime hints that are required to generate a project in a native image.
+ *
+ * @author agent
+ */
+class ProjectGenerationRuntimeHintsTests {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@BeforeEach
+	void registerHints() {
+		ClassLoader classLoader = getClass().getClassLoader();
+		SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories", classLoader)
+			.load(RuntimeHintsRegistrar.class)
+			.forEach((registrar) -> registrar.registerHints(this.hints, classLoader));
+	}
+
+	@Test
+	void projectGenerationConfigurationsCanBeParsedAndInvoked() {
+		List<String> configurations = getProjectGenerationConfigurations();
+		assertThat(configurations).isNotEmpty();
+		for (String configuration : configurations) {
+			assertThat(RuntimeHintsPredicates.resource().forResource(configuration.replace('.', '/') + ".class"))
+				.accepts(this.hints);
+			assertThat(RuntimeHintsPredicates.reflection()
+				.onType(TypeReference.of(configuration))
+				.withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+						MemberCategory.INVOKE_DECLARED_METHODS))
+				.accepts(this.hints);
+		}
+	}
+
+	@Test
+	void projectGenerationConfigurationsCanBeLoaded() {
+		assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/spring.factories")).accepts(this.hints);
+	}
+
+	@Test
+	void conditionsOfProjectGenerationConfigurationsCanBeInstantiated() {
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(TypeReference.of("io.spring.initializr.generator.condition.OnBuildSystemCondition"))
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(TypeReference.of("io.spring.initializr.generator.condition.OnLanguageCondition"))
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(this.hints);
+	}
+
+	@Test
+	void templatesCanBeLoaded() {
+		assertThat(RuntimeHintsPredicates.resource().forResource("templates/documentation/guides.mustache"))
+			.accepts(this.hints);
+	}
+
+	@SuppressWarnings("deprecation")
+	private List<String> getProjectGenerationConfigurations() {
+		return SpringFactoriesLoader.loadFactoryNames(ProjectGenerationConfiguration.class,
+				getClass().getClassLoader());
+	}
+
+}
@@ -90,9 +90,18 @@ class BuildMetadataResolverTests {
 		assertThat(new BuildMetadataResolver(metadata, PLATFORM_VERSION).hasFacet(build, "nope")).isFalse();
 	}
 
+	@Test
+	void hasFacetWithAliasOfMatchingFacet() {
+		InitializrMetadata metadata = createSampleMetadata();
+		Build build = createBuild(metadata);
+		build.dependencies().add("my-web-alias", "com.example", "my-web", DependencyScope.COMPILE);
+		assertThat(new BuildMetadataResolver(metadata, PLATFORM_VERSION).hasFacet(build, "web")).isTrue();
+	}
+
 	private InitializrMetadata createSampleMetadata() {
 		Dependency web = Dependency.withId("my-web");
 		web.getFacets().addAll(Arrays.asList("test", "web", "another"));
+		web.getAliases().add("my-web-alias");
 		Dependency custom = Dependency.withId("my-custom");
 		custom.getFacets().add("custom");
 		return InitializrMetadataTestBuilder.withDefaults()
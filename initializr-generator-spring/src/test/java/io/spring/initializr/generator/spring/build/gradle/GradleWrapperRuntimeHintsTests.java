@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build.gradle;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GradleWrapperRuntimeHints}.
+ *
+ * @author agent
+ */
+class GradleWrapperRuntimeHintsTests {
+
+	@Test
+	void registerHints() {
+		RuntimeHints hints = new RuntimeHints();
+		new GradleWrapperRuntimeHints().registerHints(hints, getClass().getClassLoader());
+		assertThat(RuntimeHintsPredicates.resource().forResource("gradle/8/wrapper/gradlew")).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource()
+			.forResource("gradle/9/wrapper/gradle/wrapper/gradle-wrapper.properties")).accepts(hints);
+	}
+
+}
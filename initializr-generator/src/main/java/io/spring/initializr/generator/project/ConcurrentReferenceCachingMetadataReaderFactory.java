@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * A {@link MetadataReaderFactory} that caches {@link MetadataReader} instances in a
+ * {@link ConcurrentReferenceHashMap} so that it can be shared by several contexts.
+ *
+ * @author agent
+ */
+class ConcurrentReferenceCachingMetadataReaderFactory implements MetadataReaderFactory {
+
+	private final MetadataReaderFactory delegate;
+
+	private final Map<String, MetadataReader> classNameCache = new ConcurrentReferenceHashMap<>();
+
+	private final Map<Resource, MetadataReader> resourceCache = new ConcurrentReferenceHashMap<>();
+
+	ConcurrentReferenceCachingMetadataReaderFactory(MetadataReaderFactory delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public MetadataReader getMetadataReader(String className) throws IOException {
+		MetadataReader metadataReader = this.classNameCache.get(className);
+		if (metadataReader == null) {
+			metadataReader = this.delegate.getMetadataReader(className);
+			this.classNameCache.put(className, metadataReader);
+		}
+		return metadataReader;
+	}
+
+	@Override
+	public MetadataReader getMetadataReader(Resource resource) throws IOException {
+		MetadataReader metadataReader = this.resourceCache.get(resource);
+		if (metadataReader == null) {
+			metadataReader = this.delegate.getMetadataReader(resource);
+			this.resourceCache.put(resource, metadataReader);
+		}
+		return metadataReader;
+	}
+
+	@Override
+	public ResourceLoader getResourceLoader() {
+		return this.delegate.getResourceLoader();
+	}
+
+}
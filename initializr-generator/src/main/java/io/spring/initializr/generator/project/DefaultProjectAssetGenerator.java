@@ -60,10 +60,21 @@ public class DefaultProjectAssetGenerator implements ProjectAssetGenerator<Path>
 		List<ProjectContributor> contributors = context.getBeanProvider(ProjectContributor.class)
 			.orderedStream()
 			.toList();
+		contribute(contributors, projectDirectory);
+		return projectRoot;
+	}
+
+	/**
+	 * Invoke the specified {@link ProjectContributor contributors} against the project
+	 * directory. By default, contributors are invoked one after the other.
+	 * @param contributors the contributors to invoke, sorted by order
+	 * @param projectDirectory the project directory
+	 * @throws IOException if a contributor failed
+	 */
+	protected void contribute(List<ProjectContributor> contributors, Path projectDirectory) throws IOException {
 		for (ProjectContributor contributor : contributors) {
 			contributor.contribute(projectDirectory);
 		}
-		return projectRoot;
 	}
 
 	private ProjectDirectoryFactory resolveProjectDirectoryFactory(ProjectGenerationContext context) {
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
+import io.spring.initializr.generator.project.contributor.ProjectContributor;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DefaultProjectAssetGenerator} that invokes independent
+ * {@link ProjectContributor project contributors} concurrently.
+ * <p>
+ * Contributors are invoked in the same order as with
+ * {@link DefaultProjectAssetGenerator}, except that consecutive
+ * {@link ConcurrentProjectContributor concurrent contributors} with the same
+ * {@link ProjectContributor#getOrder() order} are invoked concurrently. The next
+ * contributor is only invoked once all of them have completed. A contributor that depends
+ * on the resources written by another concurrent contributor should therefore have a
+ * higher order.
+ * <p>
+ * Concurrent contributors are invoked by the calling thread and by at most
+ * {@code concurrencyLimit - 1} tasks submitted to an {@link Executor}. The calling thread
+ * invokes any contributor that the tasks have not picked up, so a generation never waits
+ * for the executor to be available: if the executor is busy with other generations, or
+ * rejects the tasks, contributors are invoked by the calling thread, in order.
+ *
+ * @author agent
+ */
+public class ParallelProjectAssetGenerator extends DefaultProjectAssetGenerator {
+
+	private static final int DEFAULT_CONCURRENCY_LIMIT = 4;
+
+	private final Executor executor;
+
+	private final int concurrencyLimit;
+
+	/**
+	 * Create a new instance with the {@link ProjectDirectoryFactory}, the
+	 * {@link Executor} and the maximum number of contributors of a project that can be
+	 * invoked concurrently.
+	 * @param projectDirectoryFactory the project directory factory to use
+	 * @param executor the executor to use to invoke concurrent contributors
+	 * @param concurrencyLimit the maximum number of contributors of a project that can be
+	 * invoked concurrently, including by the calling thread
+	 */
+	public ParallelProjectAssetGenerator(@Nullable ProjectDirectoryFactory projectDirectoryFactory, Executor executor,
+			int concurrencyLimit) {
+		super(projectDirectoryFactory);
+		Assert.isTrue(concurrencyLimit > 0, "'concurrencyLimit' must be positive");
+		this.executor = executor;
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * Create a new instance with the {@link ProjectDirectoryFactory} and the
+	 * {@link Executor} to use. Up to 4 contributors of a project are invoked
+	 * concurrently.
+	 * @param projectDirectoryFactory the project directory factory to use
+	 * @param executor the executor to use to invoke concurrent contributors
+	 */
+	public ParallelProjectAssetGenerator(@Nullable ProjectDirectoryFactory projectDirectoryFactory, Executor executor) {
+		this(projectDirectoryFactory, executor, DEFAULT_CONCURRENCY_LIMIT);
+	}
+
+	/**
+	 * Create a new instance without an explicit {@link ProjectDirectoryFactory}. A bean
+	 * of that type is expected to be available in the context.
+	 * @param executor the executor to use to invoke concurrent contributors
+	 * @param concurrencyLimit the maximum number of contributors of a project that can be
+	 * invoked concurrently, including by the calling thread
+	 */
+	public ParallelProjectAssetGenerator(Executor executor, int concurrencyLimit) {
+		this(null, executor, concurrencyLimit);
+	}
+
+	/**
+	 * Create a new instance without an explicit {@link ProjectDirectoryFactory}. A bean
+	 * of that type is expected to be available in the context. Up to 4 contributors of a
+	 * project are invoked concurrently.
+	 * @param executor the executor to use to invoke concurrent contributors
+	 */
+	public ParallelProjectAssetGenerator(Executor executor) {
+		this(null, executor, DEFAULT_CONCURRENCY_LIMIT);
+	}
+
+	@Override
+	protected void contribute(List<ProjectContributor> contributors, Path projectDirectory) throws IOException {
+		int index = 0;
+		while (index < contributors.size()) {
+			ProjectContributor contributor = contributors.get(index);
+			int end = index + 1;
+			if (contributor instanceof ConcurrentProjectContributor) {
+				while (end < contributors.size() && isConcurrentWith(contributors.get(end), contributor)) {
+					end++;
+				}
+			}
+			contributeConcurrently(contributors.subList(index, end), projectDirectory);
+			index = end;
+		}
+	}
+
+	private boolean isConcurrentWith(ProjectContributor candidate, ProjectContributor contributor) {
+		return candidate instanceof ConcurrentProjectContributor && candidate.getOrder() == contributor.getOrder();
+	}
+
+	private void contributeConcurrently(List<ProjectContributor> contributors, Path projectDirectory)
+			throws IOException {
+		if (contributors.size() <= 1 || this.concurrencyLimit == 1) {
+			super.contribute(contributors, projectDirectory);
+			return;
+		}
+		ConcurrentContributions contributions = new ConcurrentContributions(contributors, projectDirectory);
+		int tasks = Math.min(contributors.size(), this.concurrencyLimit) - 1;
+		for (int i = 0; i < tasks; i++) {
+			try {
+				this.executor.execute(contributions::invoke);
+			}
+			catch (RejectedExecutionException ex) {
+				break;
+			}
+		}
+		contributions.invoke();
+		contributions.await();
+	}
+
+	/**
+	 * The concurrent contributors of a group, invoked by the calling thread and the tasks
+	 * submitted to the executor, whichever picks them first.
+	 */
+	private static final class ConcurrentContributions {
+
+		private final List<ProjectContributor> contributors;
+
+		private final Path projectDirectory;
+
+		private final AtomicInteger next = new AtomicInteger();
+
+		private final @Nullable Throwable[] failures;
+
+		private final CountDownLatch completed;
+
+		ConcurrentContributions(List<ProjectContributor> contributors, Path projectDirectory) {
+			this.contributors = contributors;
+			this.projectDirectory = projectDirectory;
+			this.failures = new Throwable[contributors.size()];
+			this.completed = new CountDownLatch(contributors.size());
+		}
+
+		void invoke() {
+			int index;
+			while ((index = this.next.getAndIncrement()) < this.contributors.size()) {
+				try {
+					this.contributors.get(index).contribute(this.projectDirectory);
+				}
+				catch (Throwable ex) {
+					this.failures[index] = ex;
+				}
+				finally {
+					this.completed.countDown();
+				}
+			}
+		}
+
+		void await() throws IOException {
+			try {
+				this.completed.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for project contributors");
+			}
+			// Report the failure of the first contributor, in order, that failed
+			for (Throwable failure : this.failures) {
+				if (failure instanceof IOException ioException) {
+					throw ioException;
+				}
+				if (failure instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (failure instanceof Error error) {
+					throw error;
+				}
+				if (failure != null) {
+					throw new IllegalStateException(failure);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.condition.ConditionalOnBuildSystem;
+import io.spring.initializr.generator.condition.ConditionalOnLanguage;
+import io.spring.initializr.generator.language.Language;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolved {@link ProjectGenerationConfiguration} candidates for a given
+ * {@link ClassLoader}. Resolving candidates requires to load classes and to instantiate
+ * the {@link ProjectGenerationConfigurationTypeFilter type filters}, so this is done once
+ * per class loader rather than for each project.
+ *
+ * @author agent
+ */
+final class ProjectGenerationConfigurationCandidates {
+
+	private static final Map<@Nullable ClassLoader, ProjectGenerationConfigurationCandidates> cache = new ConcurrentReferenceHashMap<>();
+
+	private final @Nullable ClassLoader classLoader;
+
+	private final Map<String, Optional<Candidate>> candidates = new ConcurrentReferenceHashMap<>();
+
+	private volatile @Nullable ProjectGenerationConfigurationTypeFilter typeFilter;
+
+	private ProjectGenerationConfigurationCandidates(@Nullable ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Return the {@link ProjectGenerationConfigurationCandidates} for the specified
+	 * {@link ClassLoader}.
+	 * @param classLoader the class loader to use
+	 * @return the candidates for that class loader
+	 */
+	static ProjectGenerationConfigurationCandidates get(@Nullable ClassLoader classLoader) {
+		return cache.computeIfAbsent(classLoader, ProjectGenerationConfigurationCandidates::new);
+	}
+
+	/**
+	 * Return the {@link ProjectGenerationConfigurationTypeFilter} that combines all the
+	 * filters registered in {@code META-INF/spring.factories}.
+	 * @return the type filter
+	 */
+	ProjectGenerationConfigurationTypeFilter getTypeFilter() {
+		ProjectGenerationConfigurationTypeFilter typeFilter = this.typeFilter;
+		if (typeFilter == null) {
+			List<ProjectGenerationConfigurationTypeFilter> filters = SpringFactoriesLoader
+				.loadFactories(ProjectGenerationConfigurationTypeFilter.class, this.classLoader);
+			typeFilter = ProjectGenerationConfigurationTypeFilter.allMatch(filters);
+			this.typeFilter = typeFilter;
+		}
+		return typeFilter;
+	}
+
+	/**
+	 * Return the {@link Candidate} for the specified class name, or {@code null} if the
+	 * class is not available.
+	 * @param className the name of the configuration class
+	 * @return the candidate or {@code null}
+	 */
+	@Nullable Candidate getCandidate(String className) {
+		return this.candidates.computeIfAbsent(className, this::resolveCandidate).orElse(null);
+	}
+
+	private Optional<Candidate> resolveCandidate(String className) {
+		try {
+			Class<?> type = ClassUtils.forName(className, this.classLoader);
+			return Optional.of(new Candidate(type, typeConditions(type)));
+		}
+		catch (ClassNotFoundException ex) {
+			return Optional.empty();
+		}
+	}
+
+	private static Predicate<ProjectDescription> typeConditions(Class<?> type) {
+		MergedAnnotations annotations = MergedAnnotations.from(type);
+		Predicate<ProjectDescription> typeConditions = (description) -> true;
+		MergedAnnotation<ConditionalOnBuildSystem> onBuildSystem = annotations.get(ConditionalOnBuildSystem.class);
+		if (onBuildSystem.isPresent()) {
+			String id = onBuildSystem.getString("value");
+			String dialect = onBuildSystem.getString("dialect");
+			typeConditions = typeConditions.and((description) -> matchesBuildSystem(description, id, dialect));
+		}
+		MergedAnnotation<ConditionalOnLanguage> onLanguage = annotations.get(ConditionalOnLanguage.class);
+		if (onLanguage.isPresent()) {
+			String id = onLanguage.getString("value");
+			typeConditions = typeConditions.and((description) -> matchesLanguage(description, id));
+		}
+		return typeConditions;
+	}
+
+	private static boolean matchesBuildSystem(ProjectDescription description, String id, String dialect) {
+		BuildSystem buildSystem = description.getBuildSystem();
+		if (buildSystem != null && buildSystem.id().equals(id)) {
+			return !StringUtils.hasText(dialect) || dialect.equals(buildSystem.dialect());
+		}
+		return false;
+	}
+
+	private static boolean matchesLanguage(ProjectDescription description, String id) {
+		Language language = description.getLanguage();
+		return language != null && language.id().equals(id);
+	}
+
+	/**
+	 * A resolved candidate.
+	 *
+	 * @param type the configuration class
+	 * @param typeConditions a predicate that evaluates the
+	 * {@link ConditionalOnBuildSystem @ConditionalOnBuildSystem} and
+	 * {@link ConditionalOnLanguage @ConditionalOnLanguage} conditions declared on the
+	 * configuration class
+	 */
+	record Candidate(Class<?> type, Predicate<ProjectDescription> typeConditions) {
+
+		/**
+		 * Return whether the type-level conditions of this candidate match the specified
+		 * {@link ProjectDescription}. Other conditions are not evaluated.
+		 * @param description the description of the project
+		 * @return {@code false} if this candidate cannot match the description
+		 */
+		boolean matchesTypeConditions(ProjectDescription description) {
+			return this.typeConditions.test(description);
+		}
+
+	}
+
+}
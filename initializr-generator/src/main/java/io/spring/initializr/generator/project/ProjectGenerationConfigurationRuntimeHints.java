@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RuntimeHintsRegistrar} for {@link ProjectGenerationConfiguration} classes.
+ * <p>
+ * Project generation contexts are created for each {@link ProjectDescription} and their
+ * conditions depend on it, so they cannot be processed ahead-of-time like a regular
+ * application context. Rather, this registrar makes sure that the configuration classes
+ * listed in {@code META-INF/spring.factories}, the classes they import, their conditions
+ * and the {@link ProjectGenerationConfigurationTypeFilter type filters} can be processed
+ * at runtime in a native image.
+ * <p>
+ * As {@link ProjectGenerator} registers configuration classes by name, their class files
+ * are parsed to determine their annotations and bean methods. The class files of the
+ * configurations and of their superclasses are therefore registered as resources.
+ *
+ * @author agent
+ */
+class ProjectGenerationConfigurationRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final MemberCategory[] CONFIGURATION_MEMBER_CATEGORIES = {
+			MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS };
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		registerHints(hints, classLoader,
+				SpringFactoriesLoader.loadFactoryNames(ProjectGenerationConfiguration.class, classLoader),
+				SpringFactoriesLoader.loadFactoryNames(ProjectGenerationConfigurationTypeFilter.class, classLoader));
+	}
+
+	void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader, List<String> configurations,
+			List<String> typeFilters) {
+		Set<Class<?>> processed = new HashSet<>();
+		hints.resources().registerPattern(SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION);
+		for (String configuration : configurations) {
+			Class<?> type = resolveClass(configuration, classLoader);
+			if (type != null) {
+				registerConfiguration(hints, type, processed);
+			}
+		}
+		for (String typeFilter : typeFilters) {
+			hints.reflection()
+				.registerTypeIfPresent(classLoader, typeFilter, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+		}
+	}
+
+	private void registerConfiguration(RuntimeHints hints, Class<?> type, Set<Class<?>> processed) {
+		if (!processed.add(type)) {
+			return;
+		}
+		hints.reflection().registerType(type, CONFIGURATION_MEMBER_CATEGORIES);
+		hints.resources().registerType(type);
+		Class<?> superclass = type.getSuperclass();
+		if (superclass != null && superclass != Object.class) {
+			registerConfiguration(hints, superclass, processed);
+		}
+		registerConditions(hints, MergedAnnotations.from(type, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY));
+		ReflectionUtils.doWithLocalMethods(type, (method) -> registerConditions(hints, MergedAnnotations.from(method)));
+		MergedAnnotations.from(type, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY)
+			.stream(Import.class)
+			.flatMap((annotation) -> List.of(annotation.getClassArray(MergedAnnotation.VALUE)).stream())
+			.forEach((importedType) -> registerConfiguration(hints, importedType, processed));
+		for (Class<?> nestedType : type.getDeclaredClasses()) {
+			if (MergedAnnotations.from(nestedType).isPresent(Configuration.class)) {
+				registerConfiguration(hints, nestedType, processed);
+			}
+		}
+	}
+
+	private void registerConditions(RuntimeHints hints, MergedAnnotations annotations) {
+		annotations.stream(Conditional.class)
+			.flatMap((annotation) -> List.of(annotation.getClassArray(MergedAnnotation.VALUE)).stream())
+			.forEach((condition) -> hints.reflection()
+				.registerType(condition, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+	}
+
+	private @Nullable Class<?> resolveClass(String className, @Nullable ClassLoader classLoader) {
+		try {
+			return ClassUtils.forName(className, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+/**
+ * A factory for {@link ProjectGenerationContext} instances that share the parsed model of
+ * {@link ProjectGenerationConfiguration} classes.
+ * <p>
+ * By default, each context reads the class files of all configuration classes to
+ * determine their annotations, imports and bean methods. Contexts created by this factory
+ * share a {@link MetadataReaderFactory} so that class files are parsed only once for the
+ * lifetime of the factory. Conditions are still evaluated against each
+ * {@link ProjectDescription}. Similarly to the default factory used by
+ * {@link ProjectGenerator}, bean definition overriding is disabled.
+ *
+ * @author agent
+ * @see ProjectGenerator#ProjectGenerator(java.util.function.Consumer, Supplier)
+ */
+public class ProjectGenerationContextFactory implements Supplier<ProjectGenerationContext> {
+
+	private final MetadataReaderFactory metadataReaderFactory;
+
+	/**
+	 * Create an instance using the {@link ClassLoader} that loaded this class.
+	 */
+	public ProjectGenerationContextFactory() {
+		this(ProjectGenerationContextFactory.class.getClassLoader());
+	}
+
+	/**
+	 * Create an instance using the specified {@link ClassLoader} to read configuration
+	 * classes.
+	 * @param classLoader the class loader to use
+	 */
+	public ProjectGenerationContextFactory(@Nullable ClassLoader classLoader) {
+		this.metadataReaderFactory = new ConcurrentReferenceCachingMetadataReaderFactory(
+				MetadataReaderFactory.create(classLoader));
+	}
+
+	@Override
+	public ProjectGenerationContext get() {
+		ProjectGenerationContext context = new ProjectGenerationContext();
+		context.setAllowBeanDefinitionOverriding(false);
+		configureConfigurationClassPostProcessor(context);
+		return context;
+	}
+
+	private void configureConfigurationClassPostProcessor(GenericApplicationContext context) {
+		String beanName = AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME;
+		if (context.containsBeanDefinition(beanName)) {
+			BeanDefinition definition = context.getBeanDefinition(beanName);
+			definition.getPropertyValues().add("metadataReaderFactory", this.metadataReaderFactory);
+		}
+	}
+
+	/**
+	 * Return the {@link MetadataReaderFactory} that is shared by the contexts created by
+	 * this instance.
+	 * @return the shared metadata reader factory
+	 * @see ConfigurationClassPostProcessor#setMetadataReaderFactory(MetadataReaderFactory)
+	 */
+	MetadataReaderFactory getMetadataReaderFactory() {
+		return this.metadataReaderFactory;
+	}
+
+}
@@ -21,12 +21,13 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import org.jspecify.annotations.Nullable;
+import io.spring.initializr.generator.condition.ConditionalOnBuildSystem;
+import io.spring.initializr.generator.condition.ConditionalOnLanguage;
+import io.spring.initializr.generator.project.ProjectGenerationConfigurationCandidates.Candidate;
 
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.io.support.SpringFactoriesLoader;
-import org.springframework.util.ClassUtils;
 
 /**
  * Main entry point for project generation that processes a {@link ProjectDescription} by
@@ -46,6 +47,8 @@ public class ProjectGenerator {
 
 	private final Supplier<? extends ProjectGenerationContext> contextFactory;
 
+	private boolean filterCandidatesByTypeConditions;
+
 	/**
 	 * Create an instance with a customizer for the project generator application context
 	 * and a factory for the {@link ProjectGenerationContext}.
@@ -82,6 +85,22 @@ public class ProjectGenerator {
 		};
 	}
 
+	/**
+	 * Specify whether candidate configurations should be discarded before they are
+	 * registered if the {@link ConditionalOnBuildSystem @ConditionalOnBuildSystem} or
+	 * {@link ConditionalOnLanguage @ConditionalOnLanguage} conditions declared on the
+	 * configuration class do not match the {@link ProjectDescription}. Such
+	 * configurations are ignored anyway, but discarding them early avoids processing
+	 * them. The conditions are evaluated against the description before it is customized
+	 * by {@link ProjectDescriptionCustomizer} beans, so this should only be enabled if
+	 * those customizers do not change the build system or the language.
+	 * @param filterCandidatesByTypeConditions whether to filter candidates based on their
+	 * type-level conditions
+	 */
+	public void setFilterCandidatesByTypeConditions(boolean filterCandidatesByTypeConditions) {
+		this.filterCandidatesByTypeConditions = filterCandidatesByTypeConditions;
+	}
+
 	/**
 	 * Generate project assets using the specified {@link ProjectAssetGenerator} for the
 	 * specified {@link ProjectDescription}.
@@ -125,7 +144,9 @@ public class ProjectGenerator {
 	 * {@link SpringFactoriesLoader} with {@link ProjectGenerationConfiguration} and
 	 * exclude those which are not matched by the
 	 * {@link ProjectGenerationConfigurationTypeFilter}, also loaded by
-	 * {@link SpringFactoriesLoader}.
+	 * {@link SpringFactoriesLoader}. Candidates are resolved once per class loader. If
+	 * {@link #setFilterCandidatesByTypeConditions(boolean) enabled}, candidates whose
+	 * type-level conditions do not match the description are excluded as well.
 	 * @param description the description of the project to generate
 	 * @return a list of candidate configurations
 	 */
@@ -133,21 +154,15 @@ public class ProjectGenerator {
 	protected List<String> getCandidateProjectGenerationConfigurations(ProjectDescription description) {
 		List<String> candidates = getProjectGenerationConfigurationFactoryNames();
 		ProjectGenerationConfigurationTypeFilter filter = getProjectGenerationConfigurationExclusionFilter();
+		ProjectGenerationConfigurationCandidates resolvedCandidates = ProjectGenerationConfigurationCandidates
+			.get(getClass().getClassLoader());
 		return candidates.stream().filter((candidate) -> {
-			Class<?> type = resolveClass(candidate);
-			return type != null && filter.test(type);
+			Candidate resolvedCandidate = resolvedCandidates.getCandidate(candidate);
+			return resolvedCandidate != null && filter.test(resolvedCandidate.type())
+					&& (!this.filterCandidatesByTypeConditions || resolvedCandidate.matchesTypeConditions(description));
 		}).toList();
 	}
 
-	private @Nullable Class<?> resolveClass(String candidate) {
-		try {
-			return ClassUtils.forName(candidate, getClass().getClassLoader());
-		}
-		catch (ClassNotFoundException ex) {
-			return null;
-		}
-	}
-
 	@SuppressWarnings("deprecation")
 	List<String> getProjectGenerationConfigurationFactoryNames() {
 		return SpringFactoriesLoader.loadFactoryNames(ProjectGenerationConfiguration.class,
@@ -155,9 +170,7 @@ public class ProjectGenerator {
 	}
 
 	ProjectGenerationConfigurationTypeFilter getProjectGenerationConfigurationExclusionFilter() {
-		List<ProjectGenerationConfigurationTypeFilter> filters = SpringFactoriesLoader
-			.loadFactories(ProjectGenerationConfigurationTypeFilter.class, getClass().getClassLoader());
-		return ProjectGenerationConfigurationTypeFilter.allMatch(filters);
+		return ProjectGenerationConfigurationCandidates.get(getClass().getClassLoader()).getTypeFilter();
 	}
 
 	private void registerProjectDescription(ProjectGenerationContext context, ProjectDescription description) {
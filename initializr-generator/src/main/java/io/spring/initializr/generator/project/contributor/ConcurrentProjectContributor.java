@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.contributor;
+
+/**
+ * A {@link ProjectContributor} that only writes resources that no other contributor
+ * writes or reads. Such a contributor can be invoked concurrently with other concurrent
+ * contributors of the same {@link #getOrder() order}.
+ * <p>
+ * Contributors that modify a resource that is shared with other contributors, for
+ * instance by appending content to an existing file, should not implement this interface
+ * so that they are invoked in a deterministic order.
+ *
+ * @author agent
+ * @see io.spring.initializr.generator.project.ParallelProjectAssetGenerator
+ */
+public interface ConcurrentProjectContributor extends ProjectContributor {
+
+}
@@ -17,14 +17,17 @@
 package io.spring.initializr.generator.project.contributor;
 
 import java.io.IOException;
-import java.net.URI;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -36,7 +39,7 @@ import org.springframework.util.StringUtils;
  */
 public class MultipleResourcesProjectContributor implements ProjectContributor {
 
-	private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+	private final ProjectResourceResolver resourceResolver;
 
 	private final String rootResource;
 
@@ -53,32 +56,53 @@ public class MultipleResourcesProjectContributor implements ProjectContributor {
 	}
 
 	public MultipleResourcesProjectContributor(String rootResource, Predicate<String> executable) {
+		this(rootResource, executable, new ProjectResourceResolver());
+	}
+
+	/**
+	 * Create a new instance with the {@code rootResource} to use to locate resources to
+	 * copy to the project structure and the {@link ProjectResourceResolver} to use to
+	 * resolve their content.
+	 * @param rootResource the root resource path
+	 * @param executable whether a resource should be executable, based on its file name
+	 * @param resourceResolver the resolver to use to resolve the content of resources
+	 */
+	public MultipleResourcesProjectContributor(String rootResource, Predicate<String> executable,
+			ProjectResourceResolver resourceResolver) {
 		this.rootResource = StringUtils.trimTrailingCharacter(rootResource, '/');
 		this.executable = executable;
+		this.resourceResolver = resourceResolver;
 	}
 
 	@Override
 	public void contribute(Path projectRoot) throws IOException {
-		Resource root = this.resolver.getResource(this.rootResource);
-		Resource[] resources = this.resolver.getResources(this.rootResource + "/**");
-		for (Resource resource : resources) {
-			if (resource.isReadable()) {
-				String filename = extractFileName(root.getURI(), resource.getURI());
-				Path output = projectRoot.resolve(filename);
-				if (!Files.exists(output)) {
-					Files.createDirectories(output.getParent());
-					Files.createFile(output);
-				}
-				FileCopyUtils.copy(resource.getInputStream(), Files.newOutputStream(output));
-				// TODO Set executable using NIO
-				output.toFile().setExecutable(this.executable.test(filename));
+		Map<String, byte[]> resources = this.resourceResolver.resolve(this.rootResource);
+		for (Map.Entry<String, byte[]> resource : resources.entrySet()) {
+			String filename = resource.getKey();
+			Path output = projectRoot.resolve(filename);
+			if (!Files.exists(output)) {
+				Files.createDirectories(output.getParent());
 			}
+			Files.write(output, resource.getValue());
+			setExecutable(output, this.executable.test(filename));
 		}
 	}
 
-	private String extractFileName(URI root, URI resource) {
-		String candidate = resource.toString().substring(root.toString().length());
-		return StringUtils.trimLeadingCharacter(candidate, '/');
+	private void setExecutable(Path output, boolean executable) throws IOException {
+		PosixFileAttributeView view = Files.getFileAttributeView(output, PosixFileAttributeView.class);
+		if (view != null) {
+			Set<PosixFilePermission> permissions = new HashSet<>(view.readAttributes().permissions());
+			if (executable) {
+				permissions.add(PosixFilePermission.OWNER_EXECUTE);
+			}
+			else {
+				permissions.remove(PosixFilePermission.OWNER_EXECUTE);
+			}
+			view.setPermissions(permissions);
+		}
+		else if (FileSystems.getDefault().equals(output.getFileSystem())) {
+			output.toFile().setExecutable(executable);
+		}
 	}
 
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.contributor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolve the content of all of the resources found beneath a root location. If a
+ * {@link Cache} is available, the resolved content of a root location is cached so that
+ * static resources are only read once.
+ *
+ * @author agent
+ * @see MultipleResourcesProjectContributor
+ */
+public class ProjectResourceResolver {
+
+	private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+	private final @Nullable Cache resourceCache;
+
+	/**
+	 * Create a new instance with the {@link Cache} to use.
+	 * @param resourceCache the cache to use for the content of resources (can be
+	 * {@code null} to not use caching)
+	 */
+	public ProjectResourceResolver(@Nullable Cache resourceCache) {
+		this.resourceCache = resourceCache;
+	}
+
+	/**
+	 * Create a new instance that does not cache the content of resources.
+	 * @see #ProjectResourceResolver(Cache)
+	 */
+	public ProjectResourceResolver() {
+		this(null);
+	}
+
+	/**
+	 * Resolve the content of the readable resources found beneath the specified root
+	 * location.
+	 * @param rootResource the root resource path
+	 * @return the content of each resource, keyed by its path relative to the root
+	 * resource
+	 * @throws IOException if a resource could not be read
+	 * @see PathMatchingResourcePatternResolver#getResources(String)
+	 */
+	public Map<String, byte[]> resolve(String rootResource) throws IOException {
+		String location = StringUtils.trimTrailingCharacter(rootResource, '/');
+		if (this.resourceCache != null) {
+			try {
+				Map<String, byte[]> resources = this.resourceCache.get(location, () -> load(location));
+				Assert.state(resources != null, "'resources' must not be null");
+				return resources;
+			}
+			catch (ValueRetrievalException ex) {
+				if (ex.getCause() instanceof IOException ioException) {
+					throw ioException;
+				}
+				throw ex;
+			}
+		}
+		return load(location);
+	}
+
+	private Map<String, byte[]> load(String rootResource) throws IOException {
+		Resource root = this.resolver.getResource(rootResource);
+		Map<String, byte[]> resources = new LinkedHashMap<>();
+		for (Resource resource : this.resolver.getResources(rootResource + "/**")) {
+			if (resource.isReadable()) {
+				try (InputStream content = resource.getInputStream()) {
+					resources.put(extractFileName(root.getURI(), resource.getURI()), content.readAllBytes());
+				}
+			}
+		}
+		return Collections.unmodifiableMap(resources);
+	}
+
+	private String extractFileName(URI root, URI resource) {
+		String candidate = resource.toString().substring(root.toString().length());
+		return StringUtils.trimLeadingCharacter(candidate, '/');
+	}
+
+}
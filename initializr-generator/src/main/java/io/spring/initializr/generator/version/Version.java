@@ -54,6 +54,16 @@ public final class Version implements Serializable, Comparable<Version> {
 
 	private static final VersionParser parser = new VersionParser(Collections.emptyList());
 
+	private static final int PACKED_VALUE_BITS = 30;
+
+	private static final long PACKED_VALUE_LIMIT = 1L << PACKED_VALUE_BITS;
+
+	private static final int QUALIFIER_RANK_BITS = 3;
+
+	private static final long UNKNOWN_QUALIFIER_RANK = 0;
+
+	private static final long NOT_PACKED = -1;
+
 	private final @Nullable Integer major;
 
 	private final @Nullable Integer minor;
@@ -64,6 +74,18 @@ public final class Version implements Serializable, Comparable<Version> {
 
 	private final Format format;
 
+	/**
+	 * The major and minor values, packed in a single sortable long, or
+	 * {@value #NOT_PACKED} if this version could not be packed.
+	 */
+	private final long packedVersion;
+
+	/**
+	 * The patch value, the rank of the qualifier and its version, packed in a single
+	 * sortable long, or {@value #NOT_PACKED} if this version could not be packed.
+	 */
+	private final long packedPatchAndQualifier;
+
 	public Version(@Nullable Integer major, @Nullable Integer minor, @Nullable Integer patch,
 			@Nullable Qualifier qualifier) {
 		this.major = major;
@@ -71,6 +93,34 @@ public final class Version implements Serializable, Comparable<Version> {
 		this.patch = patch;
 		this.qualifier = qualifier;
 		this.format = determineFormat(qualifier);
+		long packedQualifier = packQualifier(qualifier);
+		if (isPackable(major) && isPackable(minor) && isPackable(patch) && packedQualifier != NOT_PACKED) {
+			this.packedVersion = (packValue(major) << PACKED_VALUE_BITS) | packValue(minor);
+			this.packedPatchAndQualifier = (packValue(patch) << (QUALIFIER_RANK_BITS + PACKED_VALUE_BITS))
+					| packedQualifier;
+		}
+		else {
+			this.packedVersion = NOT_PACKED;
+			this.packedPatchAndQualifier = NOT_PACKED;
+		}
+	}
+
+	private static boolean isPackable(@Nullable Integer value) {
+		return value == null || (value >= 0 && value < PACKED_VALUE_LIMIT);
+	}
+
+	private static long packValue(@Nullable Integer value) {
+		return (value != null) ? value : 0;
+	}
+
+	private static long packQualifier(@Nullable Qualifier qualifier) {
+		String id = (qualifier != null) ? qualifier.getId() : VersionQualifierComparator.RELEASE;
+		long rank = VersionQualifierComparator.getQualifierIndex(id) + 1;
+		Integer version = (qualifier != null) ? qualifier.getVersion() : null;
+		if (!isPackable(version)) {
+			return NOT_PACKED;
+		}
+		return (rank << PACKED_VALUE_BITS) | packValue(version);
 	}
 
 	private static Format determineFormat(@Nullable Qualifier qualifier) {
@@ -148,6 +198,9 @@ public final class Version implements Serializable, Comparable<Version> {
 	/**
 	 * Parse the string representation of a {@link Version}. Throws an
 	 * {@link InvalidVersionException} if the version could not be parsed.
+	 * <p>
+	 * Parsed versions are interned so that parsing the same text several times is likely
+	 * to return the same instance.
 	 * @param text the version text
 	 * @return a Version instance for the specified version text
 	 * @throws InvalidVersionException if the version text could not be parsed
@@ -182,6 +235,9 @@ public final class Version implements Serializable, Comparable<Version> {
 		if (other == null) {
 			return 1;
 		}
+		if (this.packedVersion != NOT_PACKED && other.packedVersion != NOT_PACKED) {
+			return comparePacked(other);
+		}
 		int majorDiff = safeCompare(this.major, other.major);
 		if (majorDiff != 0) {
 			return majorDiff;
@@ -197,6 +253,23 @@ public final class Version implements Serializable, Comparable<Version> {
 		return qualifierComparator.compare(this.qualifier, other.qualifier);
 	}
 
+	private int comparePacked(Version other) {
+		if (this.packedVersion != other.packedVersion) {
+			return Long.compare(this.packedVersion, other.packedVersion);
+		}
+		long thisPatchAndRank = this.packedPatchAndQualifier >>> PACKED_VALUE_BITS;
+		long otherPatchAndRank = other.packedPatchAndQualifier >>> PACKED_VALUE_BITS;
+		if (thisPatchAndRank == otherPatchAndRank && isUnknownQualifierRank(thisPatchAndRank)) {
+			// Unknown qualifiers are ordered alphabetically
+			return qualifierComparator.compare(this.qualifier, other.qualifier);
+		}
+		return Long.compare(this.packedPatchAndQualifier, other.packedPatchAndQualifier);
+	}
+
+	private static boolean isUnknownQualifierRank(long patchAndRank) {
+		return (patchAndRank & ((1L << QUALIFIER_RANK_BITS) - 1)) == UNKNOWN_QUALIFIER_RANK;
+	}
+
 	private static int safeCompare(@Nullable Integer first, @Nullable Integer second) {
 		Integer firstIndex = (first != null) ? first : 0;
 		Integer secondIndex = (second != null) ? second : 0;
@@ -215,6 +288,10 @@ public final class Version implements Serializable, Comparable<Version> {
 			return false;
 		}
 		Version other = (Version) obj;
+		if (this.packedVersion != other.packedVersion
+				|| this.packedPatchAndQualifier != other.packedPatchAndQualifier) {
+			return false;
+		}
 		if (this.major == null) {
 			if (other.major != null) {
 				return false;
@@ -25,6 +25,7 @@ import io.spring.initializr.generator.version.Version.Qualifier;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -37,6 +38,10 @@ import org.springframework.util.StringUtils;
  * {@code 1.3.8.BUILD-SNAPSHOT} would be parsed as {@code 1.3.999.BUILD-SNAPSHOT} as the
  * parser doesn't know the latest {@code BUILD-SNAPSHOT} in the {@code 1.3.x} release
  * line.
+ * <p>
+ * Parsed versions are interned: parsing the same text again returns the same
+ * {@link Version} instance, as long as it is still held by a bounded cache. Versions that
+ * do not use a placeholder are shared by all parsers.
  *
  * @author Stephane Nicoll
  */
@@ -52,10 +57,31 @@ public class VersionParser {
 
 	private static final Pattern RANGE_REGEX = Pattern.compile("([(\\[])(.*),(.*)([)\\]])");
 
+	private static final int MAX_DIGITS = 9;
+
+	private static final String[] COMMON_QUALIFIER_IDS = { "RELEASE", "SNAPSHOT", "BUILD-SNAPSHOT", "M", "RC" };
+
+	private static final ConcurrentLruCache<String, Version> sharedVersions = new ConcurrentLruCache<>(512,
+			DEFAULT::parseVersion);
+
 	private final List<Version> latestVersions;
 
+	private final @Nullable ConcurrentLruCache<String, Version> resolvedVersions;
+
 	public VersionParser(List<Version> latestVersions) {
 		this.latestVersions = latestVersions;
+		this.resolvedVersions = (!latestVersions.isEmpty()) ? new ConcurrentLruCache<>(128, this::parseVersion) : null;
+	}
+
+	/**
+	 * Specify if the specified version or version range uses an {@code x} placeholder, so
+	 * that parsing it depends on the latest versions the parser is configured with.
+	 * @param text the version or version range text
+	 * @return {@code true} if the text may have a placeholder for the minor or patch
+	 * value
+	 */
+	public static boolean hasPlaceholder(String text) {
+		return text.contains(".x");
 	}
 
 	/**
@@ -68,6 +94,18 @@ public class VersionParser {
 	 */
 	public Version parse(String text) {
 		Assert.notNull(text, "Text must not be null");
+		if (this.resolvedVersions != null && hasPlaceholder(text)) {
+			return this.resolvedVersions.get(text);
+		}
+		return sharedVersions.get(text);
+	}
+
+	private Version parseVersion(String text) {
+		Version version = scan(text, 0, text.length());
+		return (version != null) ? version : parseWithRegex(text);
+	}
+
+	private Version parseWithRegex(String text) {
 		Matcher matcher = VERSION_REGEX.matcher(text.trim());
 		if (!matcher.matches()) {
 			throw new InvalidVersionException("Could not determine version based on '" + text + "': version format "
@@ -77,18 +115,119 @@ public class VersionParser {
 		String minor = matcher.group(2);
 		String patch = matcher.group(3);
 		Qualifier qualifier = parseQualifier(matcher);
-		if ("x".equals(minor) || "x".equals(patch)) {
-			Integer minorInt = ("x".equals(minor) ? null : Integer.parseInt(minor));
-			Version latest = findLatestVersion(major, minorInt, qualifier);
-			if (latest == null) {
-				return new Version(major, ("x".equals(minor) ? 999 : Integer.parseInt(minor)),
-						("x".equals(patch) ? 999 : Integer.parseInt(patch)), qualifier);
+		return createVersion(major, ("x".equals(minor) ? null : Integer.parseInt(minor)),
+				("x".equals(patch) ? null : Integer.parseInt(patch)), qualifier);
+	}
+
+	/**
+	 * Scan the version in the specified region of the text, in a single pass. Only
+	 * handles the well-formed versions, with a qualifier made of printable ASCII
+	 * characters: {@code null} is returned for anything else so that the regular
+	 * expression decides whether the text is valid or not.
+	 * @param text the text
+	 * @param start the start index of the region, inclusive
+	 * @param end the end index of the region, exclusive
+	 * @return the version or {@code null} if the region should be parsed using the
+	 * regular expression
+	 */
+	private @Nullable Version scan(String text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		int majorEnd = scanDigits(text, start, end);
+		if (majorEnd == start || majorEnd - start > MAX_DIGITS || majorEnd == end || text.charAt(majorEnd) != '.') {
+			return null;
+		}
+		int minorStart = majorEnd + 1;
+		int minorEnd = scanNumberOrPlaceholder(text, minorStart, end);
+		if (minorEnd == -1 || minorEnd == end || text.charAt(minorEnd) != '.') {
+			return null;
+		}
+		int patchStart = minorEnd + 1;
+		int patchEnd = scanNumberOrPlaceholder(text, patchStart, end);
+		if (patchEnd == -1) {
+			return null;
+		}
+		Qualifier qualifier = null;
+		if (patchEnd < end) {
+			char separator = text.charAt(patchEnd);
+			if (separator != '.' && separator != '|' && separator != '-') {
+				return null;
+			}
+			int idStart = patchEnd + 1;
+			int idEnd = idStart;
+			while (idEnd < end && isQualifierIdCharacter(text.charAt(idEnd))) {
+				idEnd++;
 			}
-			return new Version(major, latest.getMinor(), latest.getPatch(), latest.getQualifier());
+			int versionEnd = scanDigits(text, idEnd, end);
+			if (idEnd == idStart || versionEnd != end || versionEnd - idEnd > MAX_DIGITS) {
+				return null;
+			}
+			Integer qualifierVersion = (versionEnd > idEnd) ? parseDigits(text, idEnd, versionEnd) : null;
+			qualifier = new Qualifier(qualifierId(text, idStart, idEnd), qualifierVersion, String.valueOf(separator));
+		}
+		return createVersion(parseDigits(text, start, majorEnd), parseNumberOrPlaceholder(text, minorStart, minorEnd),
+				parseNumberOrPlaceholder(text, patchStart, patchEnd), qualifier);
+	}
+
+	private static int scanDigits(String text, int start, int end) {
+		int index = start;
+		while (index < end && isDigit(text.charAt(index))) {
+			index++;
 		}
-		else {
-			return new Version(major, Integer.parseInt(minor), Integer.parseInt(patch), qualifier);
+		return index;
+	}
+
+	private static int scanNumberOrPlaceholder(String text, int start, int end) {
+		if (start < end && text.charAt(start) == 'x') {
+			return start + 1;
 		}
+		int digitsEnd = scanDigits(text, start, end);
+		return (digitsEnd == start || digitsEnd - start > MAX_DIGITS) ? -1 : digitsEnd;
+	}
+
+	private static @Nullable Integer parseNumberOrPlaceholder(String text, int start, int end) {
+		return (text.charAt(start) == 'x') ? null : parseDigits(text, start, end);
+	}
+
+	private static int parseDigits(String text, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			value = value * 10 + (text.charAt(i) - '0');
+		}
+		return value;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isQualifierIdCharacter(char c) {
+		return c > ' ' && c < 127 && !isDigit(c);
+	}
+
+	private static String qualifierId(String text, int start, int end) {
+		for (String id : COMMON_QUALIFIER_IDS) {
+			if (id.length() == end - start && text.startsWith(id, start)) {
+				return id;
+			}
+		}
+		return text.substring(start, end);
+	}
+
+	private Version createVersion(Integer major, @Nullable Integer minor, @Nullable Integer patch,
+			@Nullable Qualifier qualifier) {
+		if (minor == null || patch == null) {
+			Version latest = findLatestVersion(major, minor, qualifier);
+			if (latest == null) {
+				return new Version(major, (minor != null) ? minor : 999, (patch != null) ? patch : 999, qualifier);
+			}
+			return latest;
+		}
+		return new Version(major, minor, patch, qualifier);
 	}
 
 	private @Nullable Qualifier parseQualifier(Matcher matcher) {
@@ -128,6 +267,11 @@ public class VersionParser {
 	 */
 	public VersionRange parseRange(String text) {
 		Assert.notNull(text, "Text must not be null");
+		VersionRange range = scanRange(text);
+		return (range != null) ? range : parseRangeWithRegex(text);
+	}
+
+	private VersionRange parseRangeWithRegex(String text) {
 		Matcher matcher = RANGE_REGEX.matcher(text.trim());
 		if (!matcher.matches()) {
 			// Try to read it as simple string
@@ -141,6 +285,42 @@ public class VersionParser {
 		return new VersionRange(lowerVersion, lowerInclusive, higherVersion, higherInclusive);
 	}
 
+	private @Nullable VersionRange scanRange(String text) {
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return null;
+		}
+		char first = text.charAt(start);
+		if (first != '[' && first != '(') {
+			return new VersionRange(parse(text), true, null, true);
+		}
+		char last = text.charAt(end - 1);
+		int comma = text.lastIndexOf(',', end - 2);
+		if ((last != ']' && last != ')') || comma <= start || hasLineTerminator(text, start, end)) {
+			return null;
+		}
+		Version lowerVersion = parse(text.substring(start + 1, comma));
+		Version higherVersion = parse(text.substring(comma + 1, end - 1));
+		return new VersionRange(lowerVersion, first == '[', higherVersion, last == ']');
+	}
+
+	private static boolean hasLineTerminator(String text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private @Nullable Version findLatestVersion(@Nullable Integer major, @Nullable Integer minor,
 			Version.@Nullable Qualifier qualifier) {
 		List<Version> matches = this.latestVersions.stream().filter((it) -> {
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.version;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of elements that are associated with a {@link VersionRange}, answering which
+ * elements match a given {@link Version} in logarithmic time rather than by checking the
+ * range of each element.
+ * <p>
+ * The bounds of all ranges split the versions in a sorted table of segments: each bound
+ * is a segment and so is the interval between two consecutive bounds. The elements that
+ * match any version of a segment are computed once, so that a lookup only has to find the
+ * segment of a version. An element without a range matches every version.
+ *
+ * @param <T> the type of the indexed elements
+ * @author agent
+ */
+public final class VersionRangeIndex<T> {
+
+	private final Version[] bounds;
+
+	private final List<List<T>> segments;
+
+	private VersionRangeIndex(Version[] bounds, List<List<T>> segments) {
+		this.bounds = bounds;
+		this.segments = segments;
+	}
+
+	/**
+	 * Create an index of the specified elements.
+	 * @param elements the elements to index
+	 * @param rangeExtractor the function that returns the range of an element, or
+	 * {@code null} if the element matches every version
+	 * @param <T> the type of the elements
+	 * @return an index of the elements
+	 */
+	public static <T> VersionRangeIndex<T> of(Collection<T> elements,
+			Function<T, @Nullable VersionRange> rangeExtractor) {
+		List<T> candidates = List.copyOf(elements);
+		List<@Nullable VersionRange> ranges = new ArrayList<>(candidates.size());
+		TreeSet<Version> sortedBounds = new TreeSet<>();
+		for (T candidate : candidates) {
+			VersionRange range = rangeExtractor.apply(candidate);
+			ranges.add(range);
+			if (range != null) {
+				sortedBounds.add(range.getLowerVersion());
+				Version higherVersion = range.getHigherVersion();
+				if (higherVersion != null) {
+					sortedBounds.add(higherVersion);
+				}
+			}
+		}
+		Version[] bounds = sortedBounds.toArray(new Version[0]);
+		List<List<T>> segments = new ArrayList<>(bounds.length * 2 + 1);
+		for (int segment = 0; segment < bounds.length * 2 + 1; segment++) {
+			List<T> matches = new ArrayList<>();
+			for (int i = 0; i < candidates.size(); i++) {
+				if (matches(ranges.get(i), bounds, segment)) {
+					matches.add(candidates.get(i));
+				}
+			}
+			// Consecutive segments often have the same elements
+			@Nullable List<T> previous = (segment > 0) ? segments.get(segment - 1) : null;
+			segments.add((previous != null && previous.equals(matches)) ? previous : List.copyOf(matches));
+		}
+		return new VersionRangeIndex<>(bounds, segments);
+	}
+
+	private static boolean matches(@Nullable VersionRange range, Version[] bounds, int segment) {
+		if (range == null) {
+			return true;
+		}
+		int index = segment / 2;
+		if (segment % 2 == 1) {
+			return range.match(bounds[index]);
+		}
+		// Versions strictly between bounds[index - 1] and bounds[index]
+		if (index == 0 || range.getLowerVersion().compareTo(bounds[index - 1]) > 0) {
+			return false;
+		}
+		Version higherVersion = range.getHigherVersion();
+		return higherVersion == null || (index < bounds.length && higherVersion.compareTo(bounds[index]) >= 0);
+	}
+
+	/**
+	 * Return the elements that match the specified {@link Version}, in the order they
+	 * were indexed.
+	 * @param version the version
+	 * @return the matching elements
+	 */
+	public List<T> match(Version version) {
+		int index = Arrays.binarySearch(this.bounds, version);
+		return this.segments.get((index >= 0) ? index * 2 + 1 : (-index - 1) * 2);
+	}
+
+	/**
+	 * Return the first element that matches the specified {@link Version}, or
+	 * {@code null} if no element matches.
+	 * @param version the version
+	 * @return the first matching element or {@code null}
+	 */
+	public @Nullable T first(Version version) {
+		List<T> matches = match(version);
+		return (matches.isEmpty()) ? null : matches.get(0);
+	}
+
+}
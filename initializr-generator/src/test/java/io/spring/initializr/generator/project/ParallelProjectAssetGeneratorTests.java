@@ -0,0 +1,238 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.initializr.generator.project.contributor.ConcurrentProjectContributor;
+import io.spring.initializr.generator.project.contributor.ProjectContributor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link ParallelProjectAssetGenerator}.
+ *
+ * @author agent
+ */
+class ParallelProjectAssetGeneratorTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final ParallelProjectAssetGenerator generator = new ParallelProjectAssetGenerator(this.executor);
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentContributorsWithSameOrderAreInvokedConcurrently(@TempDir Path projectDir) throws IOException {
+		CountDownLatch latch = new CountDownLatch(2);
+		ProjectContributor first = concurrent(0, (dir) -> awaitOthers(latch));
+		ProjectContributor second = concurrent(0, (dir) -> awaitOthers(latch));
+		this.generator.contribute(List.of(first, second), projectDir);
+		assertThat(latch.getCount()).isZero();
+	}
+
+	@Test
+	void contributorsWithHigherOrderAreInvokedOnceLowerOrderHaveCompleted(@TempDir Path projectDir) throws IOException {
+		ProjectContributor first = concurrent(0, (dir) -> writeFile(dir, "one.txt"));
+		ProjectContributor second = concurrent(0, (dir) -> writeFile(dir, "two.txt"));
+		List<String> files = Collections.synchronizedList(new ArrayList<>());
+		ProjectContributor third = concurrent(1, (dir) -> {
+			try (var paths = Files.list(dir)) {
+				paths.forEach((path) -> files.add(path.getFileName().toString()));
+			}
+		});
+		this.generator.contribute(List.of(first, second, third), projectDir);
+		assertThat(files).containsOnly("one.txt", "two.txt");
+	}
+
+	@Test
+	void contributorsAreInvokedInTheSameOrderAsWithDefaultProjectAssetGenerator(@TempDir Path projectDir)
+			throws IOException {
+		List<String> expected = invokeContributors(new DefaultProjectAssetGenerator(), projectDir);
+		assertThat(expected).containsExactly("first", "second", "third", "fourth", "fifth", "sixth");
+		List<String> invocations = invokeContributors(this.generator, projectDir);
+		assertThat(invocations).hasSize(6).startsWith("first").endsWith("fourth", "fifth", "sixth");
+		assertThat(invocations.subList(1, 3)).containsExactlyInAnyOrder("second", "third");
+	}
+
+	private List<String> invokeContributors(DefaultProjectAssetGenerator generator, Path projectDir)
+			throws IOException {
+		List<String> invocations = Collections.synchronizedList(new ArrayList<>());
+		generator.contribute(List.of(sequential(0, (dir) -> invocations.add("first")),
+				concurrent(0, (dir) -> invocations.add("second")), concurrent(0, (dir) -> invocations.add("third")),
+				sequential(0, (dir) -> invocations.add("fourth")), concurrent(0, (dir) -> invocations.add("fifth")),
+				concurrent(1, (dir) -> invocations.add("sixth"))), projectDir);
+		return invocations;
+	}
+
+	@Test
+	void contributorFailureIsPropagated(@TempDir Path projectDir) {
+		ProjectContributor first = concurrent(0, (dir) -> {
+		});
+		ProjectContributor second = concurrent(0, (dir) -> {
+			throw new IOException("test");
+		});
+		assertThatIOException().isThrownBy(() -> this.generator.contribute(List.of(first, second), projectDir))
+			.withMessage("test");
+	}
+
+	@Test
+	void concurrentContributorsAreInvokedByCallingThreadWhenExecutorRejectsTasks(@TempDir Path projectDir)
+			throws IOException {
+		ParallelProjectAssetGenerator generator = new ParallelProjectAssetGenerator((task) -> {
+			throw new RejectedExecutionException("test");
+		});
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ProjectContributor first = concurrent(0, (dir) -> threads.add(Thread.currentThread()));
+		ProjectContributor second = concurrent(0, (dir) -> threads.add(Thread.currentThread()));
+		generator.contribute(List.of(first, second), projectDir);
+		assertThat(threads).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	void concurrentContributorsHonorConcurrencyLimit(@TempDir Path projectDir) throws IOException {
+		ParallelProjectAssetGenerator generator = new ParallelProjectAssetGenerator(this.executor, 2);
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		List<ProjectContributor> contributors = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			contributors.add(concurrent(0, (dir) -> {
+				maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(20);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				active.decrementAndGet();
+			}));
+		}
+		generator.contribute(contributors, projectDir);
+		assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void concurrentGenerationsDoNotSerializeEachOther(@TempDir Path firstDir, @TempDir Path secondDir)
+			throws Exception {
+		ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+		ExecutorService caller = Executors.newSingleThreadExecutor();
+		try {
+			ParallelProjectAssetGenerator generator = new ParallelProjectAssetGenerator(singleThreadExecutor, 2);
+			CountDownLatch started = new CountDownLatch(2);
+			CountDownLatch release = new CountDownLatch(1);
+			ProjectContributor blocking = concurrent(0, (dir) -> {
+				started.countDown();
+				try {
+					assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+				try {
+					generator.contribute(List.of(blocking, blocking), firstDir);
+				}
+				catch (IOException ex) {
+					throw new IllegalStateException(ex);
+				}
+			}, caller);
+			// The only thread of the executor is now busy with the first generation
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			ProjectContributor one = concurrent(0, (dir) -> writeFile(dir, "one.txt"));
+			ProjectContributor two = concurrent(0, (dir) -> writeFile(dir, "two.txt"));
+			generator.contribute(List.of(one, two), secondDir);
+			assertThat(secondDir.resolve("one.txt")).exists();
+			assertThat(secondDir.resolve("two.txt")).exists();
+			assertThat(first).isNotDone();
+			release.countDown();
+			first.get(5, TimeUnit.SECONDS);
+		}
+		finally {
+			singleThreadExecutor.shutdownNow();
+			caller.shutdownNow();
+		}
+	}
+
+	private static void awaitOthers(CountDownLatch latch) {
+		latch.countDown();
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void writeFile(Path directory, String name) throws IOException {
+		Files.writeString(directory.resolve(name), name);
+	}
+
+	private static ProjectContributor concurrent(int order, ProjectContributor action) {
+		return new ConcurrentProjectContributor() {
+
+			@Override
+			public void contribute(Path projectRoot) throws IOException {
+				action.contribute(projectRoot);
+			}
+
+			@Override
+			public int getOrder() {
+				return order;
+			}
+
+		};
+	}
+
+	private static ProjectContributor sequential(int order, ProjectContributor action) {
+		return new ProjectContributor() {
+
+			@Override
+			public void contribute(Path projectRoot) throws IOException {
+				action.contribute(projectRoot);
+			}
+
+			@Override
+			public int getOrder() {
+				return order;
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import io.spring.initializr.generator.project.ProjectGenerationConfigurationCandidates.Candidate;
+import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfiguration2;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectGenerationConfigurationCandidates}.
+ *
+ * @author agent
+ */
+class ProjectGenerationConfigurationCandidatesTests {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	void getWithSameClassLoaderReturnsSameInstance() {
+		assertThat(ProjectGenerationConfigurationCandidates.get(this.classLoader))
+			.isSameAs(ProjectGenerationConfigurationCandidates.get(this.classLoader));
+	}
+
+	@Test
+	void getTypeFilterIsCreatedOnce() {
+		ProjectGenerationConfigurationCandidates candidates = ProjectGenerationConfigurationCandidates
+			.get(this.classLoader);
+		ProjectGenerationConfigurationTypeFilter typeFilter = candidates.getTypeFilter();
+		assertThat(typeFilter.test(TestProjectGenerationConfiguration.class)).isFalse();
+		assertThat(typeFilter.test(TestProjectGenerationConfiguration2.class)).isFalse();
+		assertThat(typeFilter.test(Integer.class)).isTrue();
+		assertThat(candidates.getTypeFilter()).isSameAs(typeFilter);
+	}
+
+	@Test
+	void getCandidateResolvesType() {
+		Candidate candidate = ProjectGenerationConfigurationCandidates.get(this.classLoader)
+			.getCandidate(TestProjectGenerationConfiguration.class.getName());
+		assertThat(candidate).isNotNull();
+		assertThat(candidate.type()).isEqualTo(TestProjectGenerationConfiguration.class);
+		assertThat(candidate.matchesTypeConditions(new MutableProjectDescription())).isTrue();
+	}
+
+	@Test
+	void getCandidateWithUnknownType() {
+		assertThat(
+				ProjectGenerationConfigurationCandidates.get(this.classLoader).getCandidate("com.example.DoesNotExist"))
+			.isNull();
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfiguration;
+import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfigurationExcludingTypeFilter;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectGenerationConfigurationRuntimeHints}.
+ *
+ * @author agent
+ */
+class ProjectGenerationConfigurationRuntimeHintsTests {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@Test
+	void registerHintsForConfiguration() {
+		registerHints(TestProjectGenerationConfiguration.class);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(TestProjectGenerationConfiguration.class)
+			.withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS))
+			.accepts(this.hints);
+	}
+
+	@Test
+	void registerHintsForClassFileOfConfiguration() {
+		registerHints(TestProjectGenerationConfiguration.class);
+		assertThat(RuntimeHintsPredicates.resource().forResource(classFile(TestProjectGenerationConfiguration.class)))
+			.accepts(this.hints);
+	}
+
+	@Test
+	void registerHintsForClassFileOfImportedConfigurationAndSuperclass() {
+		registerHints(ImportingConfiguration.class);
+		assertThat(RuntimeHintsPredicates.resource().forResource(classFile(TestProjectGenerationConfiguration.class)))
+			.accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource(classFile(BaseConfiguration.class)))
+			.accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(BaseConfiguration.class)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource(classFile(Object.class))).rejects(this.hints);
+	}
+
+	@Test
+	void registerHintsForSpringFactories() {
+		registerHints(TestProjectGenerationConfiguration.class);
+		assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/spring.factories")).accepts(this.hints);
+	}
+
+	@Test
+	void registerHintsForConditionsOfBeanMethods() {
+		registerHints(TestProjectGenerationConfiguration.class);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(TypeReference.of("io.spring.initializr.generator.condition.OnBuildSystemCondition"))
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(this.hints);
+	}
+
+	@Test
+	void registerHintsForImportedAndNestedConfigurations() {
+		registerHints(ImportingConfiguration.class);
+		assertThat(RuntimeHintsPredicates.reflection().onType(TestProjectGenerationConfiguration.class))
+			.accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(ImportingConfiguration.NestedConfiguration.class))
+			.accepts(this.hints);
+	}
+
+	@Test
+	void registerHintsForTypeFilters() {
+		new ProjectGenerationConfigurationRuntimeHints().registerHints(this.hints, getClass().getClassLoader(),
+				Collections.emptyList(),
+				List.of(TestProjectGenerationConfigurationExcludingTypeFilter.class.getName()));
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(TestProjectGenerationConfigurationExcludingTypeFilter.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(this.hints);
+	}
+
+	@Test
+	void registerHintsIgnoresUnknownConfiguration() {
+		new ProjectGenerationConfigurationRuntimeHints().registerHints(this.hints, getClass().getClassLoader(),
+				List.of("com.example.DoesNotExist"), Collections.emptyList());
+		assertThat(this.hints.reflection().typeHints()).isEmpty();
+	}
+
+	private static String classFile(Class<?> type) {
+		return type.getName().replace('.', '/') + ".class";
+	}
+
+	private void registerHints(Class<?> configuration) {
+		new ProjectGenerationConfigurationRuntimeHints().registerHints(this.hints, getClass().getClassLoader(),
+				List.of(configuration.getName()), Collections.emptyList());
+	}
+
+	static class BaseConfiguration {
+
+		@Bean
+		Integer base() {
+			return 42;
+		}
+
+	}
+
+	@ProjectGenerationConfiguration
+	@Import(TestProjectGenerationConfiguration.class)
+	static class ImportingConfiguration extends BaseConfiguration {
+
+		@Configuration(proxyBeanMethods = false)
+		static class NestedConfiguration {
+
+			@Bean
+			String test() {
+				return "test";
+			}
+
+		}
+
+	}
+
+}
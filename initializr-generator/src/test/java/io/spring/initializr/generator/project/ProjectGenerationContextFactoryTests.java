@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.support.BeanDefinitionOverrideException;
+import org.springframework.core.type.classreading.MetadataReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ProjectGenerationContextFactory}.
+ *
+ * @author agent
+ */
+class ProjectGenerationContextFactoryTests {
+
+	private final ProjectGenerationContextFactory contextFactory = new ProjectGenerationContextFactory();
+
+	@Test
+	void getDoesNotAllowBeanDefinitionOverriding() {
+		ProjectGenerator generator = new ProjectGenerator((context) -> {
+			context.registerBean("testBean", String.class, () -> "test");
+			context.registerBean("testBean", String.class, () -> "duplicate");
+		}, this.contextFactory);
+		ProjectAssetGenerator<?> assetGenerator = mock(ProjectAssetGenerator.class);
+		assertThatThrownBy(() -> generator.generate(new MutableProjectDescription(), assetGenerator))
+			.isInstanceOf(BeanDefinitionOverrideException.class)
+			.hasMessageContaining("testBean");
+	}
+
+	@Test
+	void getSharesConfigurationClassesMetadata(@TempDir Path directory) throws IOException {
+		ProjectGenerator generator = createProjectGenerator();
+		generator.generate(createDescription(new MavenBuildSystem()),
+				new DefaultProjectAssetGenerator((description) -> directory.resolve("first")));
+		MetadataReader metadataReader = this.contextFactory.getMetadataReaderFactory()
+			.getMetadataReader(TestProjectGenerationConfiguration.class.getName());
+		generator.generate(createDescription(new MavenBuildSystem()),
+				new DefaultProjectAssetGenerator((description) -> directory.resolve("second")));
+		assertThat(this.contextFactory.getMetadataReaderFactory()
+			.getMetadataReader(TestProjectGenerationConfiguration.class.getName())).isSameAs(metadataReader);
+	}
+
+	@Test
+	void getEvaluatesConditionsForEachProject(@TempDir Path directory) {
+		ProjectGenerator generator = createProjectGenerator();
+		Path mavenProject = generator.generate(createDescription(new MavenBuildSystem()),
+				new DefaultProjectAssetGenerator((description) -> directory.resolve("maven")));
+		Path gradleProject = generator.generate(createDescription(new GradleBuildSystem()),
+				new DefaultProjectAssetGenerator((description) -> directory.resolve("gradle")));
+		assertThat(mavenProject.resolve("artifact-id.txt")).hasContent("demo");
+		assertThat(gradleProject.resolve("artifact-id.txt")).doesNotExist();
+	}
+
+	private ProjectGenerator createProjectGenerator() {
+		return new ProjectGenerator((context) -> {
+		}, this.contextFactory) {
+			@Override
+			protected List<String> getCandidateProjectGenerationConfigurations(ProjectDescription description) {
+				return Collections.singletonList(TestProjectGenerationConfiguration.class.getName());
+			}
+		};
+	}
+
+	private MutableProjectDescription createDescription(BuildSystem buildSystem) {
+		MutableProjectDescription description = new MutableProjectDescription();
+		description.setArtifactId("demo");
+		description.setBuildSystem(buildSystem);
+		return description;
+	}
+
+}
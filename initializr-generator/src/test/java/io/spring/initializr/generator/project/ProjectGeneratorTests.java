@@ -18,12 +18,18 @@ package io.spring.initializr.generator.project;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.condition.ConditionalOnBuildSystem;
+import io.spring.initializr.generator.condition.ConditionalOnLanguage;
+import io.spring.initializr.generator.language.java.JavaLanguage;
+import io.spring.initializr.generator.language.kotlin.KotlinLanguage;
 import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfiguration;
 import io.spring.initializr.generator.project.contributor.TestProjectGenerationConfiguration2;
 import org.assertj.core.util.Lists;
@@ -229,9 +235,75 @@ class ProjectGeneratorTests {
 		assertThat(candidates).containsOnly(TestProjectGenerationConfiguration.class.getCanonicalName());
 	}
 
+	@Test
+	void candidateProjectContributorsIgnoreTypeConditionsByDefault() {
+		MutableProjectDescription description = new MutableProjectDescription();
+		description.setBuildSystem(new GradleBuildSystem());
+		description.setLanguage(new KotlinLanguage());
+		ProjectGenerator generator = createProjectGenerator(MavenConfiguration.class, JavaConfiguration.class);
+		assertThat(generator.getCandidateProjectGenerationConfigurations(description))
+			.containsExactly(MavenConfiguration.class.getName(), JavaConfiguration.class.getName());
+	}
+
+	@Test
+	void candidateProjectContributorsFilteredByTypeConditions() {
+		MutableProjectDescription description = new MutableProjectDescription();
+		description.setBuildSystem(new MavenBuildSystem());
+		description.setLanguage(new KotlinLanguage());
+		ProjectGenerator generator = createProjectGenerator(MavenConfiguration.class, JavaConfiguration.class,
+				GradleGroovyConfiguration.class);
+		generator.setFilterCandidatesByTypeConditions(true);
+		assertThat(generator.getCandidateProjectGenerationConfigurations(description))
+			.containsExactly(MavenConfiguration.class.getName());
+	}
+
+	@Test
+	void candidateProjectContributorsFilteredByTypeConditionsWithDialect() {
+		MutableProjectDescription description = new MutableProjectDescription();
+		description.setBuildSystem(new GradleBuildSystem(GradleBuildSystem.DIALECT_KOTLIN));
+		description.setLanguage(new JavaLanguage());
+		ProjectGenerator generator = createProjectGenerator(MavenConfiguration.class, JavaConfiguration.class,
+				GradleGroovyConfiguration.class);
+		generator.setFilterCandidatesByTypeConditions(true);
+		assertThat(generator.getCandidateProjectGenerationConfigurations(description))
+			.containsExactly(JavaConfiguration.class.getName());
+	}
+
+	private ProjectGenerator createProjectGenerator(Class<?>... configurations) {
+		return new ProjectGenerator(mockContextInitializr()) {
+			@Override
+			List<String> getProjectGenerationConfigurationFactoryNames() {
+				return Arrays.stream(configurations).map(Class::getName).toList();
+			}
+
+			@Override
+			ProjectGenerationConfigurationTypeFilter getProjectGenerationConfigurationExclusionFilter() {
+				return (type) -> true;
+			}
+		};
+	}
+
 	@SuppressWarnings("unchecked")
 	private Consumer<ProjectGenerationContext> mockContextInitializr() {
 		return mock(Consumer.class);
 	}
 
+	@ProjectGenerationConfiguration
+	@ConditionalOnBuildSystem(MavenBuildSystem.ID)
+	static class MavenConfiguration {
+
+	}
+
+	@ProjectGenerationConfiguration
+	@ConditionalOnBuildSystem(id = GradleBuildSystem.ID, dialect = GradleBuildSystem.DIALECT_GROOVY)
+	static class GradleGroovyConfiguration {
+
+	}
+
+	@ProjectGenerationConfiguration
+	@ConditionalOnLanguage(JavaLanguage.ID)
+	static class JavaConfiguration {
+
+	}
+
 }
@@ -18,10 +18,13 @@ package io.spring.initializr.generator.project.contributor;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -46,4 +49,14 @@ class MultipleResourcesProjectContributorTests {
 		assertThat(directory.resolve("two.xml")).exists().isRegularFile();
 	}
 
+	@Test
+	void contributeWithResourceResolver(@TempDir Path directory) throws IOException {
+		ProjectResourceResolver resourceResolver = new ProjectResourceResolver(new ConcurrentMapCache("test"));
+		Map<String, byte[]> resources = resourceResolver.resolve("classpath:/data/multi");
+		new MultipleResourcesProjectContributor("classpath:/data/multi", (filename) -> false, resourceResolver)
+			.contribute(directory);
+		assertThat(directory.resolve("one.properties")).hasBinaryContent(resources.get("one.properties"));
+		assertThat(directory.resolve("two.xml")).hasBinaryContent(resources.get("two.xml"));
+	}
+
 }
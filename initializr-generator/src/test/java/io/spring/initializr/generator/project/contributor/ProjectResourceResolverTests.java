@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.project.contributor;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectResourceResolver}.
+ *
+ * @author agent
+ */
+class ProjectResourceResolverTests {
+
+	@Test
+	void resolveReturnsContentOfResourcesKeyedByFileName() throws IOException {
+		Map<String, byte[]> resources = new ProjectResourceResolver().resolve("classpath:/data/multi");
+		assertThat(resources).containsOnlyKeys("one.properties", "two.xml");
+		assertThat(resources.get("one.properties")).isNotEmpty();
+	}
+
+	@Test
+	void resolveWithTrailingSlash() throws IOException {
+		Map<String, byte[]> resources = new ProjectResourceResolver().resolve("classpath:/data/multi/");
+		assertThat(resources).containsOnlyKeys("one.properties", "two.xml");
+	}
+
+	@Test
+	void resolveWithoutCacheReadsResourcesForEachInvocation() throws IOException {
+		ProjectResourceResolver resolver = new ProjectResourceResolver();
+		assertThat(resolver.resolve("classpath:/data/multi")).isNotSameAs(resolver.resolve("classpath:/data/multi"));
+	}
+
+	@Test
+	void resolveWithCacheReadsResourcesOnce() throws IOException {
+		Cache cache = new ConcurrentMapCache("test");
+		ProjectResourceResolver resolver = new ProjectResourceResolver(cache);
+		Map<String, byte[]> resources = resolver.resolve("classpath:/data/multi");
+		assertThat(cache.get("classpath:/data/multi", Map.class)).isSameAs(resources);
+		assertThat(resolver.resolve("classpath:/data/multi/")).isSameAs(resources);
+	}
+
+}
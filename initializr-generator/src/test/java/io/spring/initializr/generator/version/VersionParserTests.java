@@ -64,6 +64,35 @@ class VersionParserTests {
 		assertThat(version.toString()).isEqualTo("1.2.0-M3");
 	}
 
+	@Test
+	void versionWithQualifierAndPipeSeparator() {
+		Version version = this.parser.parse("1.2.0|RC2");
+		assertThat(version.getQualifier()).isNotNull();
+		assertThat(version.getQualifier().getId()).isEqualTo("RC");
+		assertThat(version.getQualifier().getVersion()).isEqualTo(2);
+		assertThat(version.getQualifier().getSeparator()).isEqualTo("|");
+	}
+
+	@Test
+	void versionWithCompositeQualifier() {
+		Version version = this.parser.parse("1.2.0.BUILD-SNAPSHOT");
+		assertThat(version.getQualifier()).isNotNull();
+		assertThat(version.getQualifier().getId()).isEqualTo("BUILD-SNAPSHOT");
+		assertThat(version.getQualifier().getVersion()).isNull();
+	}
+
+	@Test
+	void versionWithQualifierHavingSpaces() {
+		Version version = this.parser.parse("1.2.0.BUILD SNAPSHOT");
+		assertThat(version.getQualifier()).isNotNull();
+		assertThat(version.getQualifier().getId()).isEqualTo("BUILD SNAPSHOT");
+	}
+
+	@Test
+	void parseVersionWithTrailingCharacters() {
+		assertThatExceptionOfType(InvalidVersionException.class).isThrownBy(() -> this.parser.parse("1.2.0-RC1-foo"));
+	}
+
 	@Test
 	void parseInvalidVersion() {
 		assertThatExceptionOfType(InvalidVersionException.class).isThrownBy(() -> this.parser.parse("foo"));
@@ -127,6 +156,68 @@ class VersionParserTests {
 		assertThat(this.parser.parse("1.2.x").toString()).isEqualTo("1.2.999");
 	}
 
+	@Test
+	void parseVersionReturnsSameInstance() {
+		Version version = this.parser.parse("2.7.3");
+		assertThat(this.parser.parse("2.7.3")).isSameAs(version);
+		assertThat(Version.parse("2.7.3")).isSameAs(version);
+		assertThat(new VersionParser(List.of(version)).parse("2.7.3")).isSameAs(version);
+	}
+
+	@Test
+	void parseVariableVersionReturnsLatestVersion() {
+		Version latest = this.parser.parse("1.3.8.RELEASE");
+		this.parser = new VersionParser(List.of(latest, this.parser.parse("1.3.9.BUILD-SNAPSHOT")));
+		assertThat(this.parser.parse("1.3.x.RELEASE")).isSameAs(latest);
+	}
+
+	@Test
+	void parseVariableVersionIsResolvedAgainstLatestVersionsOfParser() {
+		VersionParser first = new VersionParser(List.of(this.parser.parse("1.3.8.RELEASE")));
+		VersionParser second = new VersionParser(List.of(this.parser.parse("1.3.9.RELEASE")));
+		assertThat(first.parse("1.3.x.RELEASE").toString()).isEqualTo("1.3.8.RELEASE");
+		assertThat(second.parse("1.3.x.RELEASE").toString()).isEqualTo("1.3.9.RELEASE");
+		assertThat(this.parser.parse("1.3.x.RELEASE").toString()).isEqualTo("1.3.999.RELEASE");
+	}
+
+	@Test
+	void parseRangeUsesSameVersionInstances() {
+		VersionRange range = this.parser.parseRange("[2.7.0,3.0.0-M1)");
+		assertThat(range.getLowerVersion()).isSameAs(this.parser.parse("2.7.0"));
+		assertThat(range.getHigherVersion()).isSameAs(this.parser.parse("3.0.0-M1"));
+	}
+
+	@Test
+	void hasPlaceholderWithVersion() {
+		assertThat(VersionParser.hasPlaceholder("1.3.x.RELEASE")).isTrue();
+		assertThat(VersionParser.hasPlaceholder("2.x.x")).isTrue();
+		assertThat(VersionParser.hasPlaceholder("1.3.8.RELEASE")).isFalse();
+	}
+
+	@Test
+	void hasPlaceholderWithRange() {
+		assertThat(VersionParser.hasPlaceholder("[1.3.0.RELEASE,1.3.x.RELEASE]")).isTrue();
+		assertThat(VersionParser.hasPlaceholder("[1.3.0.RELEASE,1.4.0.M1)")).isFalse();
+	}
+
+	@Test
+	void parseRangeWithSpaces() {
+		VersionRange range = this.parser.parseRange(" [ 1.2.0.RELEASE , 1.3.0.M1 ) ");
+		assertThat(range.toString()).isEqualTo(">=1.2.0.RELEASE and <1.3.0.M1");
+	}
+
+	@Test
+	void parseRangeWithSingleVersion() {
+		VersionRange range = this.parser.parseRange(" 1.2.0.RELEASE ");
+		assertThat(range.toString()).isEqualTo(">=1.2.0.RELEASE");
+	}
+
+	@Test
+	void parseRangeWithLineBreak() {
+		assertThatExceptionOfType(InvalidVersionException.class)
+			.isThrownBy(() -> this.parser.parseRange("[1.2.0.RELEASE\n,1.3.0.M1)"));
+	}
+
 	@Test
 	void invalidRange() {
 		assertThatExceptionOfType(InvalidVersionException.class).isThrownBy(() -> this.parser.parseRange("foo-bar"));
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.version;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link VersionRangeIndex}.
+ *
+ * @author agent
+ */
+class VersionRangeIndexTests {
+
+	private final VersionParser parser = VersionParser.DEFAULT;
+
+	@Test
+	void matchWithNoElement() {
+		VersionRangeIndex<String> index = VersionRangeIndex.of(List.of(), (element) -> null);
+		assertThat(index.match(Version.parse("1.0.0"))).isEmpty();
+		assertThat(index.first(Version.parse("1.0.0"))).isNull();
+	}
+
+	@Test
+	void matchWithElementWithoutRangeMatchesEveryVersion() {
+		VersionRangeIndex<String> index = VersionRangeIndex.of(List.of("any"), (element) -> null);
+		assertThat(index.match(Version.parse("0.0.1"))).containsExactly("any");
+		assertThat(index.match(Version.parse("99.0.0"))).containsExactly("any");
+	}
+
+	@Test
+	void matchHonorsInclusiveAndExclusiveBounds() {
+		Map<String, String> ranges = new LinkedHashMap<>();
+		ranges.put("inclusive", "[1.0.0,2.0.0]");
+		ranges.put("exclusive", "(1.0.0,2.0.0)");
+		ranges.put("unbounded", "2.0.0");
+		VersionRangeIndex<String> index = createIndex(ranges);
+		assertThat(index.match(Version.parse("0.9.0"))).isEmpty();
+		assertThat(index.match(Version.parse("1.0.0"))).containsExactly("inclusive");
+		assertThat(index.match(Version.parse("1.5.0"))).containsExactly("inclusive", "exclusive");
+		assertThat(index.match(Version.parse("2.0.0"))).containsExactly("inclusive", "unbounded");
+		assertThat(index.match(Version.parse("2.0.1"))).containsExactly("unbounded");
+	}
+
+	@Test
+	void matchWithQualifiers() {
+		Map<String, String> ranges = new LinkedHashMap<>();
+		ranges.put("milestones", "[2.0.0-M1,2.0.0)");
+		ranges.put("release", "2.0.0");
+		VersionRangeIndex<String> index = createIndex(ranges);
+		assertThat(index.match(Version.parse("2.0.0-SNAPSHOT"))).containsExactly("milestones");
+		assertThat(index.match(Version.parse("2.0.0-RC1"))).containsExactly("milestones");
+		assertThat(index.match(Version.parse("2.0.0"))).containsExactly("release");
+	}
+
+	@Test
+	void matchPreservesOrderOfElements() {
+		Map<String, String> ranges = new LinkedHashMap<>();
+		ranges.put("third", "1.5.0");
+		ranges.put("first", "[1.0.0,3.0.0)");
+		ranges.put("second", "[1.2.0,1.8.0]");
+		VersionRangeIndex<String> index = createIndex(ranges);
+		assertThat(index.match(Version.parse("1.6.0"))).containsExactly("third", "first", "second");
+		assertThat(index.first(Version.parse("1.6.0"))).isEqualTo("third");
+		assertThat(index.first(Version.parse("1.1.0"))).isEqualTo("first");
+	}
+
+	@Test
+	void matchIsConsistentWithVersionRange() {
+		List<String> versions = new ArrayList<>();
+		for (int minor = 0; minor < 4; minor++) {
+			for (int patch = 0; patch < 3; patch++) {
+				versions.add("1." + minor + "." + patch);
+				versions.add("1." + minor + "." + patch + "-M1");
+				versions.add("1." + minor + "." + patch + "-SNAPSHOT");
+			}
+		}
+		Map<String, String> ranges = new LinkedHashMap<>();
+		ranges.put("a", "[1.0.1,1.2.0)");
+		ranges.put("b", "(1.0.1,1.2.0]");
+		ranges.put("c", "1.1.0-M1");
+		ranges.put("d", "[1.1.1-SNAPSHOT,1.3.2-M1)");
+		ranges.put("e", "(1.2.0,1.2.0]");
+		VersionRangeIndex<String> index = createIndex(ranges);
+		for (String candidate : versions) {
+			Version version = Version.parse(candidate);
+			List<String> expected = ranges.entrySet()
+				.stream()
+				.filter((entry) -> this.parser.parseRange(entry.getValue()).match(version))
+				.map(Map.Entry::getKey)
+				.toList();
+			assertThat(index.match(version)).as(candidate).isEqualTo(expected);
+		}
+	}
+
+	private VersionRangeIndex<String> createIndex(Map<String, String> ranges) {
+		return VersionRangeIndex.of(ranges.keySet(), (element) -> this.parser.parseRange(ranges.get(element)));
+	}
+
+}
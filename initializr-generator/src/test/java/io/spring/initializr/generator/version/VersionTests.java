@@ -118,6 +118,34 @@ class VersionTests {
 		assertThat(parse("1.2.0.Beta1")).isLessThan(parse("1.2.0.Beta2"));
 	}
 
+	@Test
+	void compareUnknownQualifierIgnoresQualifierVersion() {
+		assertThat(parse("1.2.0.Beta2")).isLessThan(parse("1.2.0.CR1"));
+	}
+
+	@Test
+	void compareUnknownQualifierWithMilestone() {
+		assertThat(parse("1.2.0.Beta2")).isLessThan(parse("1.2.0.M1"));
+	}
+
+	@Test
+	void compareReleaseWithNoQualifier() {
+		assertThat(parse("1.2.0.RELEASE")).isEqualByComparingTo(parse("1.2.0"));
+	}
+
+	@Test
+	void compareWithLargeValues() {
+		Version largeVersion = new Version(2, 0, Integer.MAX_VALUE, null);
+		assertThat(largeVersion).isGreaterThan(parse("2.0.999999999"));
+		assertThat(largeVersion).isLessThan(parse("2.1.0"));
+		assertThat(largeVersion).isEqualByComparingTo(new Version(2, 0, Integer.MAX_VALUE, null));
+	}
+
+	@Test
+	void compareWithNegativeValues() {
+		assertThat(new Version(2, -1, 0, null)).isLessThan(parse("2.0.0"));
+	}
+
 	@Test
 	void snapshotGreaterThanRC() {
 		assertThat(parse("1.2.0.BUILD-SNAPSHOT")).isGreaterThan(parse("1.2.0.RC1"));
@@ -19,6 +19,7 @@ package io.spring.initializr.metadata;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -30,6 +31,7 @@ import io.spring.initializr.generator.version.VersionRange;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Define a Bill Of Materials to be represented in the generated project if a dependency
@@ -40,6 +42,8 @@ import org.springframework.util.Assert;
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class BillOfMaterials {
 
+	private static final int MAX_RESOLVED_VERSIONS = 32;
+
 	private @Nullable String groupId;
 
 	private @Nullable String artifactId;
@@ -56,6 +60,12 @@ public class BillOfMaterials {
 
 	private final List<Mapping> mappings = new ArrayList<>();
 
+	@JsonIgnore
+	private volatile @Nullable ConcurrentLruCache<Version, Resolved> resolvedBoms;
+
+	@JsonIgnore
+	private final AtomicLong generation = new AtomicLong();
+
 	public BillOfMaterials() {
 	}
 
@@ -167,23 +177,45 @@ public class BillOfMaterials {
 	}
 
 	public void updateCompatibilityRange(VersionParser versionParser) {
-		this.mappings.forEach((it) -> {
+		refreshCompatibilityRange(versionParser);
+	}
+
+	/**
+	 * Parse the compatibility ranges of the mappings that have not been parsed yet, or
+	 * that use a placeholder and therefore depend on the latest versions of the specified
+	 * parser.
+	 * @param versionParser the version parser to use
+	 * @return {@code true} if a compatibility range has changed
+	 */
+	boolean refreshCompatibilityRange(VersionParser versionParser) {
+		boolean updated = false;
+		for (Mapping mapping : this.mappings) {
 			try {
-				Assert.notNull(it.compatibilityRange,
+				Assert.notNull(mapping.compatibilityRange,
 						"Invalid mapping for " + this + ": compatibility range is mandatory");
-				it.range = versionParser.parseRange(it.compatibilityRange);
+				if (mapping.range == null || VersionParser.hasPlaceholder(mapping.compatibilityRange)) {
+					VersionRange range = versionParser.parseRange(mapping.compatibilityRange);
+					updated = updated || !range.equals(mapping.range);
+					mapping.range = range;
+				}
 			}
 			catch (InvalidVersionException ex) {
 				throw new InvalidInitializrMetadataException(
-						"Invalid compatibility range " + it.compatibilityRange + " for " + this, ex);
+						"Invalid compatibility range " + mapping.compatibilityRange + " for " + this, ex);
 			}
-		});
+		}
+		if (updated) {
+			this.resolvedBoms = null;
+			this.generation.incrementAndGet();
+		}
+		return updated;
 	}
 
 	/**
 	 * Resolve this instance according to the specified Spring Boot {@link Version}.
 	 * Return a {@link BillOfMaterials} instance that holds the version, repositories and
-	 * additional BOMs to use, if any.
+	 * additional BOMs to use, if any. The resolved instance is shared, and must not be
+	 * modified.
 	 * @param bootVersion the Spring Boot version
 	 * @return the bill of materials
 	 * @throws InvalidInitializrMetadataException if no suitable mapping is found for that
@@ -193,6 +225,30 @@ public class BillOfMaterials {
 		if (this.mappings.isEmpty()) {
 			return this;
 		}
+		ConcurrentLruCache<Version, Resolved> resolvedBoms = getResolvedBoms();
+		Resolved resolved = resolvedBoms.get(bootVersion);
+		if (resolved.generation() == this.generation.get()) {
+			return resolved.bom();
+		}
+		// Resolved before the compatibility ranges changed
+		resolvedBoms.remove(bootVersion);
+		return doResolve(bootVersion);
+	}
+
+	private ConcurrentLruCache<Version, Resolved> getResolvedBoms() {
+		ConcurrentLruCache<Version, Resolved> resolvedBoms = this.resolvedBoms;
+		if (resolvedBoms == null) {
+			resolvedBoms = new ConcurrentLruCache<>(MAX_RESOLVED_VERSIONS, (bootVersion) -> {
+				// Read first so that a change while resolving leaves a stale generation
+				long generation = this.generation.get();
+				return new Resolved(generation, doResolve(bootVersion));
+			});
+			this.resolvedBoms = resolvedBoms;
+		}
+		return resolvedBoms;
+	}
+
+	private BillOfMaterials doResolve(Version bootVersion) {
 		for (Mapping mapping : this.mappings) {
 			if (mapping.range != null && mapping.range.match(bootVersion)) {
 				BillOfMaterials resolvedBom = new BillOfMaterials(
@@ -284,6 +340,7 @@ public class BillOfMaterials {
 
 		public void setCompatibilityRange(@Nullable String compatibilityRange) {
 			this.compatibilityRange = compatibilityRange;
+			this.range = null;
 		}
 
 		public @Nullable String getGroupId() {
@@ -348,4 +405,8 @@ public class BillOfMaterials {
 
 	}
 
+	private record Resolved(long generation, BillOfMaterials bom) {
+
+	}
+
 }
@@ -18,12 +18,18 @@ package io.spring.initializr.metadata;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.generator.version.VersionParser;
+import io.spring.initializr.generator.version.VersionRangeIndex;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -39,6 +45,18 @@ public class DependenciesCapability extends ServiceCapability<List<DependencyGro
 	@JsonIgnore
 	private final Map<String, Dependency> indexedDependencies = new LinkedHashMap<>();
 
+	@JsonIgnore
+	private final Map<String, String> aliasIndex = new HashMap<>();
+
+	@JsonIgnore
+	private final Map<String, Set<String>> facetIndex = new HashMap<>();
+
+	@JsonIgnore
+	private final Map<String, Set<String>> groupIndex = new HashMap<>();
+
+	@JsonIgnore
+	private volatile @Nullable VersionRangeIndex<Dependency> compatibilityIndex;
+
 	public DependenciesCapability() {
 		super("dependencies", ServiceCapabilityType.HIERARCHICAL_MULTI_SELECT, "Project dependencies",
 				"dependency identifiers (comma-separated)");
@@ -67,12 +85,85 @@ public class DependenciesCapability extends ServiceCapability<List<DependencyGro
 		return this.indexedDependencies.values().stream().distinct().toList();
 	}
 
+	/**
+	 * Return the dependencies that are compatible with the specified platform version as
+	 * a flat collection, in the same order as {@link #getAll()}.
+	 * @param platformVersion the platform version
+	 * @return the compatible dependencies
+	 * @see Dependency#match(Version)
+	 */
+	public List<Dependency> getAll(Version platformVersion) {
+		VersionRangeIndex<Dependency> index = this.compatibilityIndex;
+		if (index == null) {
+			index = VersionRangeIndex.of(getAll(), Dependency::getRange);
+			this.compatibilityIndex = index;
+		}
+		return index.match(platformVersion);
+	}
+
+	/**
+	 * Return the id of the dependency with the specified id or alias, or {@code null} if
+	 * no such dependency exists.
+	 * @param idOrAlias the ID or an alias of the dependency
+	 * @return the ID of the dependency or {@code null}
+	 */
+	public @Nullable String getId(String idOrAlias) {
+		return (this.indexedDependencies.containsKey(idOrAlias)) ? this.aliasIndex.getOrDefault(idOrAlias, idOrAlias)
+				: null;
+	}
+
+	/**
+	 * Return the identifiers of the dependencies that have the specified facet, including
+	 * their aliases.
+	 * @param facet the facet
+	 * @return the identifiers and aliases of the dependencies with that facet
+	 */
+	public Set<String> getIdsWithFacet(String facet) {
+		return Collections.unmodifiableSet(this.facetIndex.getOrDefault(facet, Collections.emptySet()));
+	}
+
+	/**
+	 * Return the identifiers of the dependencies of the group with the specified name.
+	 * Aliases are not included.
+	 * @param groupName the name of the group
+	 * @return the identifiers of the dependencies of that group
+	 */
+	public Set<String> getIdsInGroup(String groupName) {
+		return Collections.unmodifiableSet(this.groupIndex.getOrDefault(groupName, Collections.emptySet()));
+	}
+
+	/**
+	 * Specify if at least one of the dependencies with the specified ids or aliases has
+	 * the specified facet.
+	 * @param ids the identifiers or aliases of dependencies
+	 * @param facet the facet
+	 * @return {@code true} if a dependency with that facet is part of the specified ids
+	 */
+	public boolean hasFacet(Collection<String> ids, String facet) {
+		Set<String> idsWithFacet = this.facetIndex.get(facet);
+		if (idsWithFacet == null) {
+			return false;
+		}
+		for (String id : ids) {
+			if (idsWithFacet.contains(id)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public void validate() {
 		index();
 	}
 
 	public void updateCompatibilityRange(VersionParser versionParser) {
-		this.indexedDependencies.values().forEach((it) -> it.updateCompatibilityRange(versionParser));
+		boolean updated = false;
+		for (Dependency dependency : getAll()) {
+			updated = dependency.refreshCompatibilityRange(versionParser) || updated;
+		}
+		if (updated) {
+			this.compatibilityIndex = null;
+		}
 	}
 
 	@Override
@@ -91,6 +182,10 @@ public class DependenciesCapability extends ServiceCapability<List<DependencyGro
 
 	private void index() {
 		this.indexedDependencies.clear();
+		this.aliasIndex.clear();
+		this.facetIndex.clear();
+		this.groupIndex.clear();
+		this.compatibilityIndex = null;
 		this.content.forEach((group) -> group.content.forEach((dependency) -> {
 			// Apply defaults
 			if (dependency.getCompatibilityRange() == null && group.getCompatibilityRange() != null) {
@@ -107,9 +202,22 @@ public class DependenciesCapability extends ServiceCapability<List<DependencyGro
 			String id = dependency.getId();
 			if (id != null) {
 				indexDependency(id, dependency);
+				if (group.getName() != null) {
+					this.groupIndex.computeIfAbsent(group.getName(), (key) -> new LinkedHashSet<>()).add(id);
+				}
 			}
 			for (String alias : dependency.getAliases()) {
 				indexDependency(alias, dependency);
+				if (id != null) {
+					this.aliasIndex.put(alias, id);
+				}
+			}
+			for (String facet : dependency.getFacets()) {
+				Set<String> ids = this.facetIndex.computeIfAbsent(facet, (key) -> new LinkedHashSet<>());
+				if (id != null) {
+					ids.add(id);
+				}
+				ids.addAll(dependency.getAliases());
 			}
 		}));
 	}
@@ -19,6 +19,7 @@ package io.spring.initializr.metadata;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -26,9 +27,11 @@ import io.spring.initializr.generator.version.InvalidVersionException;
 import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.generator.version.VersionParser;
 import io.spring.initializr.generator.version.VersionRange;
+import io.spring.initializr.generator.version.VersionRangeIndex;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -76,6 +79,8 @@ public class Dependency extends MetadataElement implements Describable {
 	public static final List<String> SCOPE_ALL = List.of(SCOPE_COMPILE, SCOPE_RUNTIME, SCOPE_COMPILE_ONLY,
 			SCOPE_ANNOTATION_PROCESSOR, SCOPE_PROVIDED, SCOPE_TEST);
 
+	private static final int MAX_RESOLVED_VERSIONS = 32;
+
 	private List<String> aliases = new ArrayList<>();
 
 	private List<String> facets = new ArrayList<>();
@@ -121,6 +126,15 @@ public class Dependency extends MetadataElement implements Describable {
 
 	private List<Link> links = new ArrayList<>();
 
+	@JsonIgnore
+	private volatile @Nullable VersionRangeIndex<Mapping> mappingIndex;
+
+	@JsonIgnore
+	private volatile @Nullable ConcurrentLruCache<Version, Resolved> resolvedDependencies;
+
+	@JsonIgnore
+	private final AtomicLong generation = new AtomicLong();
+
 	public Dependency() {
 	}
 
@@ -156,6 +170,7 @@ public class Dependency extends MetadataElement implements Describable {
 
 	public void setCompatibilityRange(String compatibilityRange) {
 		this.compatibilityRange = (StringUtils.hasText(compatibilityRange) ? compatibilityRange.trim() : null);
+		this.range = null;
 	}
 
 	/**
@@ -210,54 +225,119 @@ public class Dependency extends MetadataElement implements Describable {
 	}
 
 	public void updateCompatibilityRange(VersionParser versionParser) {
-		if (this.compatibilityRange != null) {
+		refreshCompatibilityRange(versionParser);
+	}
+
+	/**
+	 * Parse the compatibility ranges that have not been parsed yet, or that use a
+	 * placeholder and therefore depend on the latest versions of the specified parser.
+	 * @param versionParser the version parser to use
+	 * @return {@code true} if a compatibility range has changed
+	 */
+	boolean refreshCompatibilityRange(VersionParser versionParser) {
+		boolean updated = false;
+		if (this.compatibilityRange != null
+				&& (this.range == null || VersionParser.hasPlaceholder(this.compatibilityRange))) {
 			try {
-				this.range = versionParser.parseRange(this.compatibilityRange);
-				this.compatibilityRange = this.range.toRangeString();
-				this.versionRequirement = this.range.toString();
+				VersionRange range = versionParser.parseRange(this.compatibilityRange);
+				updated = !range.equals(this.range);
+				this.range = range;
+				this.compatibilityRange = range.toRangeString();
+				this.versionRequirement = range.toString();
 			}
 			catch (InvalidVersionException ex) {
 				throw new InvalidInitializrMetadataException("Invalid compatibility range '" + this.compatibilityRange
 						+ " for " + "dependency with id '" + getId() + "'", ex);
 			}
 		}
-		this.mappings.forEach((it) -> {
+		for (Mapping mapping : this.mappings) {
 			try {
-				Assert.notNull(it.compatibilityRange,
+				Assert.notNull(mapping.compatibilityRange,
 						"Invalid mapping for " + this + ": compatibility range is mandatory");
-				it.range = versionParser.parseRange(it.compatibilityRange);
+				if (mapping.range == null || VersionParser.hasPlaceholder(mapping.compatibilityRange)) {
+					VersionRange range = versionParser.parseRange(mapping.compatibilityRange);
+					updated = updated || !range.equals(mapping.range);
+					mapping.range = range;
+				}
 			}
 			catch (InvalidVersionException ex) {
 				throw new InvalidInitializrMetadataException(
-						"Invalid compatibility range " + it.compatibilityRange + " for " + this, ex);
+						"Invalid compatibility range " + mapping.compatibilityRange + " for " + this, ex);
 			}
-		});
+		}
+		if (updated) {
+			invalidateResolvedDependencies();
+		}
+		return updated;
 	}
 
 	/**
 	 * Resolve this instance according to the specified Spring Boot {@link Version}.
 	 * Return a {@link Dependency} instance that has its state resolved against the
-	 * specified version.
+	 * specified version. The resolved instance is shared, and must not be modified.
 	 * @param bootVersion the Spring Boot version
 	 * @return this instance
 	 */
 	public Dependency resolve(Version bootVersion) {
-		for (Mapping mapping : this.mappings) {
-			VersionRange range = mapping.getRange();
-			if (range != null && range.match(bootVersion)) {
-				Dependency dependency = new Dependency(this);
-				dependency.groupId = (mapping.groupId != null) ? mapping.groupId : this.groupId;
-				dependency.artifactId = (mapping.artifactId != null) ? mapping.artifactId : this.artifactId;
-				dependency.version = (mapping.version != null) ? mapping.version : this.version;
-				dependency.starter = (mapping.starter != null) ? mapping.starter : this.starter;
-				dependency.bom = (mapping.bom != null) ? mapping.bom : this.bom;
-				dependency.repository = (mapping.repository != null) ? mapping.repository : this.repository;
-				dependency.versionRequirement = range.toString();
-				dependency.mappings.clear();
-				return dependency;
-			}
+		if (this.mappings.isEmpty()) {
+			return this;
 		}
-		return this;
+		ConcurrentLruCache<Version, Resolved> resolvedDependencies = getResolvedDependencies();
+		Resolved resolved = resolvedDependencies.get(bootVersion);
+		if (resolved.generation() == this.generation.get()) {
+			return resolved.dependency();
+		}
+		// Resolved before the mappings or the compatibility ranges changed
+		resolvedDependencies.remove(bootVersion);
+		return doResolve(bootVersion);
+	}
+
+	private ConcurrentLruCache<Version, Resolved> getResolvedDependencies() {
+		ConcurrentLruCache<Version, Resolved> resolvedDependencies = this.resolvedDependencies;
+		if (resolvedDependencies == null) {
+			resolvedDependencies = new ConcurrentLruCache<>(MAX_RESOLVED_VERSIONS, (bootVersion) -> {
+				// Read first so that a change while resolving leaves a stale generation
+				long generation = this.generation.get();
+				return new Resolved(generation, doResolve(bootVersion));
+			});
+			this.resolvedDependencies = resolvedDependencies;
+		}
+		return resolvedDependencies;
+	}
+
+	private void invalidateResolvedDependencies() {
+		this.mappingIndex = null;
+		this.resolvedDependencies = null;
+		this.generation.incrementAndGet();
+	}
+
+	private Dependency doResolve(Version bootVersion) {
+		Mapping mapping = getMappingIndex().first(bootVersion);
+		VersionRange range = (mapping != null) ? mapping.getRange() : null;
+		if (mapping == null || range == null) {
+			return this;
+		}
+		Dependency dependency = new Dependency(this);
+		dependency.groupId = (mapping.groupId != null) ? mapping.groupId : this.groupId;
+		dependency.artifactId = (mapping.artifactId != null) ? mapping.artifactId : this.artifactId;
+		dependency.version = (mapping.version != null) ? mapping.version : this.version;
+		dependency.starter = (mapping.starter != null) ? mapping.starter : this.starter;
+		dependency.bom = (mapping.bom != null) ? mapping.bom : this.bom;
+		dependency.repository = (mapping.repository != null) ? mapping.repository : this.repository;
+		dependency.versionRequirement = range.toString();
+		dependency.mappings.clear();
+		return dependency;
+	}
+
+	private VersionRangeIndex<Mapping> getMappingIndex() {
+		VersionRangeIndex<Mapping> index = this.mappingIndex;
+		if (index == null) {
+			// Mappings without a range never match
+			index = VersionRangeIndex.of(this.mappings.stream().filter((it) -> it.getRange() != null).toList(),
+					Mapping::getRange);
+			this.mappingIndex = index;
+		}
+		return index;
 	}
 
 	/**
@@ -368,6 +448,7 @@ public class Dependency extends MetadataElement implements Describable {
 
 	public void setMappings(List<Mapping> mappings) {
 		this.mappings = mappings;
+		invalidateResolvedDependencies();
 	}
 
 	@Override
@@ -610,6 +691,7 @@ public class Dependency extends MetadataElement implements Describable {
 
 		public void setCompatibilityRange(@Nullable String compatibilityRange) {
 			this.compatibilityRange = compatibilityRange;
+			this.range = null;
 		}
 
 		public static Mapping create(@Nullable String range, @Nullable String groupId, @Nullable String artifactId,
@@ -628,4 +710,8 @@ public class Dependency extends MetadataElement implements Describable {
 
 	}
 
+	private record Resolved(long generation, Dependency dependency) {
+
+	}
+
 }
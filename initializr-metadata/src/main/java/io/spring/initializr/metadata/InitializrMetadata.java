@@ -19,7 +19,10 @@ package io.spring.initializr.metadata;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.generator.version.VersionParser;
 import io.spring.initializr.generator.version.VersionProperty;
@@ -35,6 +38,8 @@ import org.springframework.util.Assert;
  */
 public class InitializrMetadata {
 
+	private static final AtomicLong revisionCounter = new AtomicLong();
+
 	private final InitializrConfiguration configuration;
 
 	private final DependenciesCapability dependencies = new DependenciesCapability();
@@ -68,6 +73,10 @@ public class InitializrMetadata {
 
 	private final TextCapability packageName = new PackageCapability(this.groupId, this.artifactId);
 
+	private volatile long revision = revisionCounter.incrementAndGet();
+
+	private volatile @Nullable List<Version> latestBootVersions;
+
 	public InitializrMetadata() {
 		this(new InitializrConfiguration());
 	}
@@ -132,6 +141,21 @@ public class InitializrMetadata {
 		return this.packageName;
 	}
 
+	/**
+	 * Return the revision of this instance. A revision is unique within the current JVM
+	 * and changes whenever the content of this instance is updated, so that state derived
+	 * from the metadata can be invalidated.
+	 * @return the revision
+	 */
+	@JsonIgnore
+	public long getRevision() {
+		return this.revision;
+	}
+
+	private void updateRevision() {
+		this.revision = revisionCounter.incrementAndGet();
+	}
+
 	/**
 	 * Merge this instance with the specified argument.
 	 * @param other the other instance
@@ -151,12 +175,16 @@ public class InitializrMetadata {
 		this.artifactId.merge(other.artifactId);
 		this.version.merge(other.version);
 		this.packageName.merge(other.packageName);
+		this.latestBootVersions = null;
+		updateRevision();
 	}
 
 	/**
 	 * Validate the metadata.
 	 */
 	public void validate() {
+		// Validation parses the compatibility ranges without the latest versions
+		this.latestBootVersions = null;
 		this.configuration.validate();
 		this.dependencies.validate();
 
@@ -206,19 +234,44 @@ public class InitializrMetadata {
 	}
 
 	/**
-	 * Update the available Spring Boot versions with the specified capabilities.
+	 * Update the available Spring Boot versions with the specified capabilities. Does
+	 * nothing if the versions have not changed. Otherwise, only the compatibility ranges
+	 * that depend on the latest Spring Boot versions are parsed again.
 	 * @param versionsMetadata the Spring Boot boot versions metadata to use
 	 */
 	public void updateSpringBootVersions(List<DefaultMetadataElement> versionsMetadata) {
-		this.bootVersions.setContent(versionsMetadata);
-		List<Version> bootVersions = this.bootVersions.getContent().stream().map((it) -> {
+		List<Version> bootVersions = versionsMetadata.stream().map((it) -> {
 			String id = it.getId();
 			Assert.state(id != null, "'id' must not be null");
 			return Version.parse(id);
 		}).toList();
+		if (bootVersions.equals(this.latestBootVersions)
+				&& isSameVersions(this.bootVersions.getContent(), versionsMetadata)) {
+			return;
+		}
+		this.bootVersions.setContent(versionsMetadata);
 		VersionParser parser = new VersionParser(bootVersions);
 		this.dependencies.updateCompatibilityRange(parser);
 		this.configuration.getEnv().updateCompatibilityRange(parser);
+		this.latestBootVersions = bootVersions;
+		updateRevision();
+	}
+
+	private static boolean isSameVersions(List<DefaultMetadataElement> current,
+			List<DefaultMetadataElement> candidates) {
+		if (current.size() != candidates.size()) {
+			return false;
+		}
+		for (int i = 0; i < current.size(); i++) {
+			DefaultMetadataElement element = current.get(i);
+			DefaultMetadataElement candidate = candidates.get(i);
+			if (!Objects.equals(element.getId(), candidate.getId())
+					|| !Objects.equals(element.getName(), candidate.getName())
+					|| element.isDefault() != candidate.isDefault()) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
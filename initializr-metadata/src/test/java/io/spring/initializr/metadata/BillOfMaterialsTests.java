@@ -17,6 +17,7 @@
 package io.spring.initializr.metadata;
 
 import java.util.Arrays;
+import java.util.List;
 
 import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.generator.version.VersionParser;
@@ -59,6 +60,30 @@ class BillOfMaterialsTests {
 		assertThat(resolved.getAdditionalBoms().get(0)).isEqualTo("bom-main");
 	}
 
+	@Test
+	void resolveWithSameVersionReturnsSameInstance() {
+		BillOfMaterials bom = BillOfMaterials.create("com.example", "bom", "1.0.0");
+		bom.getMappings().add(Mapping.create("[1.2.0.RELEASE,1.3.0.M1)", "1.1.0"));
+		bom.validate();
+		BillOfMaterials resolved = bom.resolve(Version.parse("1.2.3.RELEASE"));
+		assertThat(bom.resolve(Version.parse("1.2.3.RELEASE"))).isSameAs(resolved);
+		assertThat(bom.resolve(Version.parse("1.2.4.RELEASE"))).isNotSameAs(resolved);
+	}
+
+	@Test
+	void resolveAfterUpdateOfCompatibilityRangeResolvesAgainIfItChanged() {
+		BillOfMaterials bom = BillOfMaterials.create("com.example", "bom", "1.0.0");
+		bom.getMappings().add(Mapping.create("[1.2.0.RELEASE,1.2.x.RELEASE]", "1.1.0"));
+		bom.validate();
+		BillOfMaterials resolved = bom.resolve(Version.parse("1.2.3.RELEASE"));
+		bom.updateCompatibilityRange(VersionParser.DEFAULT);
+		assertThat(bom.resolve(Version.parse("1.2.3.RELEASE"))).isSameAs(resolved);
+		bom.updateCompatibilityRange(new VersionParser(List.of(Version.parse("1.2.5.RELEASE"))));
+		BillOfMaterials another = bom.resolve(Version.parse("1.2.3.RELEASE"));
+		assertThat(another).isNotSameAs(resolved);
+		assertThat(another.getVersion()).isEqualTo("1.1.0");
+	}
+
 	@Test
 	void resolveSimpleRangeWithGroupIdArtifactId() {
 		BillOfMaterials bom = BillOfMaterials.create("com.example", "bom", "1.0.0");
@@ -16,6 +16,10 @@
 
 package io.spring.initializr.metadata;
 
+import java.util.List;
+
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.generator.version.VersionParser;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -149,6 +153,108 @@ class DependenciesCapabilityTests {
 		assertThat(second.getRepository()).isEqualTo("da-repo");
 	}
 
+	@Test
+	void getAllWithPlatformVersionReturnsCompatibleDependencies() {
+		Dependency first = Dependency.withId("first");
+		Dependency second = Dependency.withId("second");
+		second.setCompatibilityRange("[1.2.0.RELEASE,1.3.0.RELEASE)");
+		Dependency third = Dependency.withId("third");
+		third.setCompatibilityRange("1.3.0.RELEASE");
+		DependenciesCapability capability = createDependenciesCapability("test", first, second, third);
+		capability.validate();
+
+		assertThat(capability.getAll(Version.parse("1.1.0.RELEASE"))).containsExactly(first);
+		assertThat(capability.getAll(Version.parse("1.2.5.RELEASE"))).containsExactly(first, second);
+		assertThat(capability.getAll(Version.parse("1.3.0.RELEASE"))).containsExactly(first, third);
+		assertThat(capability.getAll(Version.parse("2.0.0"))).containsExactly(first, third);
+	}
+
+	@Test
+	void getAllWithPlatformVersionAfterUpdateOfCompatibilityRange() {
+		Dependency first = Dependency.withId("first");
+		first.setCompatibilityRange("[1.3.0.RELEASE,1.3.x.RELEASE]");
+		DependenciesCapability capability = createDependenciesCapability("test", first);
+		capability.validate();
+
+		capability.updateCompatibilityRange(new VersionParser(List.of(Version.parse("1.3.8.RELEASE"))));
+		assertThat(capability.getAll(Version.parse("1.3.8.RELEASE"))).containsExactly(first);
+		assertThat(capability.getAll(Version.parse("1.3.9.RELEASE"))).isEmpty();
+
+		capability.updateCompatibilityRange(new VersionParser(List.of(Version.parse("1.3.9.RELEASE"))));
+		assertThat(capability.getAll(Version.parse("1.3.9.RELEASE"))).containsExactly(first);
+	}
+
+	@Test
+	void getIdWithAlias() {
+		Dependency dependency = Dependency.withId("first");
+		dependency.getAliases().add("alias1");
+		DependenciesCapability capability = createDependenciesCapability("foo", dependency);
+		capability.validate();
+
+		assertThat(capability.getId("first")).isEqualTo("first");
+		assertThat(capability.getId("alias1")).isEqualTo("first");
+		assertThat(capability.getId("anotherId")).isNull();
+	}
+
+	@Test
+	void getIdsWithFacetIncludesAliases() {
+		Dependency first = Dependency.withId("first");
+		first.getFacets().add("web");
+		first.getAliases().add("alias1");
+		Dependency second = Dependency.withId("second");
+		second.getFacets().add("jpa");
+		Dependency third = Dependency.withId("third");
+		third.getFacets().add("web");
+		DependenciesCapability capability = createDependenciesCapability("foo", first, second, third);
+		capability.validate();
+
+		assertThat(capability.getIdsWithFacet("web")).containsExactly("first", "alias1", "third");
+		assertThat(capability.getIdsWithFacet("jpa")).containsExactly("second");
+		assertThat(capability.getIdsWithFacet("another")).isEmpty();
+	}
+
+	@Test
+	void getIdsInGroup() {
+		DependenciesCapability capability = new DependenciesCapability();
+		capability.getContent()
+			.add(createDependencyGroup("core", Dependency.withId("first"), Dependency.withId("second")));
+		capability.getContent().add(createDependencyGroup("web", Dependency.withId("third")));
+		capability.validate();
+
+		assertThat(capability.getIdsInGroup("core")).containsExactly("first", "second");
+		assertThat(capability.getIdsInGroup("web")).containsExactly("third");
+		assertThat(capability.getIdsInGroup("another")).isEmpty();
+	}
+
+	@Test
+	void hasFacet() {
+		Dependency first = Dependency.withId("first");
+		first.getFacets().add("web");
+		first.getAliases().add("alias1");
+		Dependency second = Dependency.withId("second");
+		DependenciesCapability capability = createDependenciesCapability("foo", first, second);
+		capability.validate();
+
+		assertThat(capability.hasFacet(List.of("second", "first"), "web")).isTrue();
+		assertThat(capability.hasFacet(List.of("alias1"), "web")).isTrue();
+		assertThat(capability.hasFacet(List.of("second"), "web")).isFalse();
+		assertThat(capability.hasFacet(List.of("first"), "jpa")).isFalse();
+	}
+
+	@Test
+	void facetIndexIsUpdatedAfterMerge() {
+		Dependency first = Dependency.withId("first");
+		first.getFacets().add("web");
+		DependenciesCapability capability = createDependenciesCapability("foo", first);
+		capability.validate();
+		Dependency second = Dependency.withId("second");
+		second.getFacets().add("web");
+		capability.merge(List.of(createDependencyGroup("bar", second)));
+
+		assertThat(capability.getIdsWithFacet("web")).containsExactly("first", "second");
+		assertThat(capability.getIdsInGroup("bar")).containsExactly("second");
+	}
+
 	private static DependenciesCapability createDependenciesCapability(String groupName, Dependency... dependencies) {
 		DependenciesCapability capability = new DependenciesCapability();
 		DependencyGroup group = createDependencyGroup(groupName, dependencies);
@@ -16,7 +16,9 @@
 
 package io.spring.initializr.metadata;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.generator.version.VersionParser;
@@ -166,6 +168,75 @@ class DependencyTests {
 		assertThat(resolved.getVersionRequirement()).isEqualTo(">=1.1.0.RELEASE and <1.2.0.RELEASE");
 	}
 
+	@Test
+	void resolveWithSameVersionReturnsSameInstance() {
+		Dependency dependency = Dependency.withId("web");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.1.0.RELEASE, 1.2.0.RELEASE)", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		dependency.resolve();
+		Dependency resolved = dependency.resolve(Version.parse("1.1.5.RELEASE"));
+		assertThat(resolved).isNotSameAs(dependency);
+		assertThat(dependency.resolve(Version.parse("1.1.5.RELEASE"))).isSameAs(resolved);
+		assertThat(dependency.resolve(Version.parse("1.1.6.RELEASE"))).isNotSameAs(resolved);
+	}
+
+	@Test
+	void resolveWithManyVersionsKeepsLatestResolvedVersions() {
+		Dependency dependency = Dependency.withId("web");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.1.0.RELEASE, 1.2.0.RELEASE)", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		dependency.resolve();
+		for (int i = 0; i < 64; i++) {
+			dependency.resolve(Version.parse("1.1." + i + ".RELEASE"));
+		}
+		Dependency resolved = dependency.resolve(Version.parse("1.1.64.RELEASE"));
+		assertThat(dependency.resolve(Version.parse("1.1.64.RELEASE"))).isSameAs(resolved);
+	}
+
+	@Test
+	void resolveAfterUpdateWithSameCompatibilityRangeReturnsSameInstance() {
+		Dependency dependency = Dependency.withId("web");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.1.0.RELEASE, 1.1.x.RELEASE]", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		dependency.resolve();
+		Dependency resolved = dependency.resolve(Version.parse("1.1.5.RELEASE"));
+		dependency.updateCompatibilityRange(VersionParser.DEFAULT);
+		assertThat(dependency.resolve(Version.parse("1.1.5.RELEASE"))).isSameAs(resolved);
+	}
+
+	@Test
+	void resolveAfterChangeOfCompatibilityRangeResolvesAgain() {
+		Dependency dependency = Dependency.withId("web");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.1.0.RELEASE, 1.1.x.RELEASE]", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		dependency.resolve();
+		Dependency resolved = dependency.resolve(Version.parse("1.1.5.RELEASE"));
+		assertThat(resolved.getVersion()).isEqualTo("0.1.0.RELEASE");
+		dependency.updateCompatibilityRange(new VersionParser(List.of(Version.parse("1.1.3.RELEASE"))));
+		assertThat(dependency.resolve(Version.parse("1.1.5.RELEASE"))).isSameAs(dependency);
+		assertThat(dependency.resolve(Version.parse("1.1.2.RELEASE")).getVersion()).isEqualTo("0.1.0.RELEASE");
+	}
+
+	@Test
+	void resolveAfterMappingsAreSetResolvesAgain() {
+		Dependency dependency = Dependency.withId("web");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.1.0.RELEASE, 1.2.0.RELEASE)", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		dependency.resolve();
+		Dependency resolved = dependency.resolve(Version.parse("1.1.5.RELEASE"));
+		dependency.setMappings(new ArrayList<>(List.of(Dependency.Mapping.create("[1.1.0.RELEASE, 1.2.0.RELEASE)", null,
+				null, "0.2.0.RELEASE", null, null, null))));
+		dependency.resolve();
+		Dependency another = dependency.resolve(Version.parse("1.1.5.RELEASE"));
+		assertThat(another).isNotSameAs(resolved);
+		assertThat(another.getVersion()).isEqualTo("0.2.0.RELEASE");
+	}
+
 	@Test
 	void resolveMatchingVersionMapping() {
 		Dependency dependency = Dependency.withId("web", null, null, "0.3.0.RELEASE");
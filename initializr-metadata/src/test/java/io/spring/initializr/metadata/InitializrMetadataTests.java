@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.generator.version.VersionRange;
 import io.spring.initializr.metadata.BillOfMaterials.Mapping;
 import io.spring.initializr.metadata.InitializrConfiguration.Env.Kotlin;
 import io.spring.initializr.metadata.InitializrConfiguration.Env.Maven.ParentPom;
@@ -191,6 +192,66 @@ class InitializrMetadataTests {
 			.resolveKotlinVersion(Version.parse("1.3.7.BUILD-SNAPSHOT"))).isEqualTo("1.2");
 	}
 
+	@Test
+	void revisionIsUniquePerInstance() {
+		assertThat(initializeMetadata().getRevision()).isNotEqualTo(initializeMetadata().getRevision());
+	}
+
+	@Test
+	void revisionChangesWhenSpringBootVersionsAreUpdated() {
+		InitializrMetadata metadata = initializeMetadata();
+		long revision = metadata.getRevision();
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.6.RELEASE", "1.3.6", true)));
+		assertThat(metadata.getRevision()).isGreaterThan(revision);
+	}
+
+	@Test
+	void updateSpringBootVersionsWithSameVersionsDoesNotUpdateMetadata() {
+		InitializrMetadata metadata = initializeMetadata();
+		Dependency dependency = Dependency.withId("bar");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.3.0.RELEASE, 1.3.x.RELEASE]", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		addTestDependencyGroup(metadata, dependency);
+		metadata.validate();
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.6.RELEASE", "1.3.6", true)));
+		long revision = metadata.getRevision();
+		Dependency resolved = dependency.resolve(Version.parse("1.3.6.RELEASE"));
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.6.RELEASE", "1.3.6", true)));
+		assertThat(metadata.getRevision()).isEqualTo(revision);
+		assertThat(dependency.resolve(Version.parse("1.3.6.RELEASE"))).isSameAs(resolved);
+	}
+
+	@Test
+	void updateSpringBootVersionsWithSameVersionsAfterValidationUpdatesMetadata() {
+		InitializrMetadata metadata = initializeMetadata();
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.6.RELEASE", "1.3.6", true)));
+		metadata.validate();
+		long revision = metadata.getRevision();
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.6.RELEASE", "1.3.6", true)));
+		assertThat(metadata.getRevision()).isGreaterThan(revision);
+	}
+
+	@Test
+	void updateSpringBootVersionsWithNewVersionUpdatesRangesWithPlaceholder() {
+		InitializrMetadata metadata = initializeMetadata();
+		Dependency dependency = Dependency.withId("bar");
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.3.0.RELEASE, 1.3.x.RELEASE]", null, null, "0.1.0.RELEASE", null, null,
+					null));
+		dependency.getMappings()
+			.add(Dependency.Mapping.create("[1.4.0.RELEASE, 1.5.0.RELEASE)", null, null, "0.2.0.RELEASE", null, null,
+					null));
+		addTestDependencyGroup(metadata, dependency);
+		metadata.validate();
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.6.RELEASE", "1.3.6", true)));
+		VersionRange range = dependency.getMappings().get(1).getRange();
+		assertThat(dependency.resolve(Version.parse("1.3.7.RELEASE")).getVersion()).isNull();
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("1.3.7.RELEASE", "1.3.7", true)));
+		assertThat(dependency.resolve(Version.parse("1.3.7.RELEASE")).getVersion()).isEqualTo("0.1.0.RELEASE");
+		assertThat(dependency.getMappings().get(1).getRange()).isSameAs(range);
+	}
+
 	@Test
 	void invalidParentMissingVersion() {
 		InitializrMetadata metadata = initializeMetadata();
@@ -24,6 +24,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.restclient.RestTemplateBuilder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 /**
@@ -41,7 +42,9 @@ public class ServiceApplication {
 	}
 
 	// This bean opt-in for fetching available Spring Boot versions from https://spring.io
+	// The load test uses the versions of its catalog instead
 	@Bean
+	@Profile("!load-test")
 	SpringIoInitializrMetadataUpdateStrategy springIoInitializrMetadataUpdateStrategy(
 			RestTemplateBuilder restTemplateBuilder, JsonMapper jsonMapper) {
 		return new SpringIoInitializrMetadataUpdateStrategy(restTemplateBuilder.build(), jsonMapper);
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The endpoints of the service that a load test can invoke.
+ *
+ * @author agent
+ */
+public enum Endpoint {
+
+	/**
+	 * Generation of a project as a zip archive.
+	 */
+	STARTER_ZIP("/starter.zip", null),
+
+	/**
+	 * Generation of a project as a tgz archive.
+	 */
+	STARTER_TGZ("/starter.tgz", null),
+
+	/**
+	 * Generation of a Maven build.
+	 */
+	POM("/pom.xml", null),
+
+	/**
+	 * Generation of a Gradle build.
+	 */
+	BUILD_GRADLE("/build.gradle", null),
+
+	/**
+	 * Metadata of the service, as requested by IDEs.
+	 */
+	METADATA_CLIENT("/metadata/client", "application/vnd.initializr.v2.3+json"),
+
+	/**
+	 * Dependencies that are compatible with a Spring Boot version.
+	 */
+	DEPENDENCIES("/dependencies", "application/vnd.initializr.v2.3+json");
+
+	private final String path;
+
+	private final @Nullable String accept;
+
+	Endpoint(String path, @Nullable String accept) {
+		this.path = path;
+		this.accept = accept;
+	}
+
+	/**
+	 * Return the path of the endpoint.
+	 * @return the path
+	 */
+	public String getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Return the media type to request, or {@code null} to accept any content.
+	 * @return the media type to request
+	 */
+	public @Nullable String getAccept() {
+		return this.accept;
+	}
+
+	/**
+	 * Specify whether the endpoint generates a project or a build.
+	 * @return {@code true} if the endpoint handles a project generation request
+	 */
+	public boolean isProjectGeneration() {
+		return this != METADATA_CLIENT && this != DEPENDENCIES;
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Record the latencies of the requests to an endpoint. Not thread-safe: each client uses
+ * its own instance and the instances are merged once the load test completes.
+ *
+ * @author agent
+ */
+final class LatencyRecorder {
+
+	private long[] latencies = new long[1024];
+
+	private int count;
+
+	private long errors;
+
+	/**
+	 * Record the latency of a successful request.
+	 * @param latencyNanos the latency, in nanoseconds
+	 */
+	void record(long latencyNanos) {
+		if (this.count == this.latencies.length) {
+			this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+		}
+		this.latencies[this.count++] = latencyNanos;
+	}
+
+	/**
+	 * Record a request that failed.
+	 */
+	void recordError() {
+		this.errors++;
+	}
+
+	/**
+	 * Add the requests of the specified recorder to this instance.
+	 * @param other the recorder to merge
+	 */
+	void merge(LatencyRecorder other) {
+		if (this.count + other.count > this.latencies.length) {
+			this.latencies = Arrays.copyOf(this.latencies, this.count + other.count);
+		}
+		System.arraycopy(other.latencies, 0, this.latencies, this.count, other.count);
+		this.count += other.count;
+		this.errors += other.errors;
+	}
+
+	/**
+	 * Return the number of successful requests.
+	 * @return the number of successful requests
+	 */
+	int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Return the number of requests that failed.
+	 * @return the number of failed requests
+	 */
+	long getErrors() {
+		return this.errors;
+	}
+
+	/**
+	 * Return the distribution of the recorded latencies.
+	 * @return the latencies
+	 */
+	LoadTestReport.Latency getLatency() {
+		if (this.count == 0) {
+			return new LoadTestReport.Latency(0, 0, 0, 0, 0);
+		}
+		long[] sorted = Arrays.copyOf(this.latencies, this.count);
+		Arrays.sort(sorted);
+		double mean = Arrays.stream(sorted).average().orElse(0);
+		return new LoadTestReport.Latency(toMillis(mean), toMillis(percentile(sorted, 0.5)),
+				toMillis(percentile(sorted, 0.99)), toMillis(percentile(sorted, 0.999)),
+				toMillis(sorted[sorted.length - 1]));
+	}
+
+	private static long percentile(long[] sorted, double percentile) {
+		int rank = (int) Math.ceil(percentile * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	private static double toMillis(double nanos) {
+		return nanos / 1_000_000;
+	}
+
+}
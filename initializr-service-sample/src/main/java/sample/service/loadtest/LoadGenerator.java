@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Send the requests of a {@link RequestGenerator} using a number of concurrent clients.
+ * If a rate is specified, requests are sent at a fixed pace and their latency is measured
+ * from the time at which they should have been sent, so that a slow response does not
+ * hide the latency of the requests that are queued behind it.
+ *
+ * @author agent
+ */
+class LoadGenerator {
+
+	static final String THREAD_NAME_PREFIX = "load-test-";
+
+	private final HttpClient httpClient;
+
+	private final RequestGenerator requestGenerator;
+
+	private final int concurrency;
+
+	private final @Nullable Integer rate;
+
+	LoadGenerator(HttpClient httpClient, RequestGenerator requestGenerator, int concurrency, @Nullable Integer rate) {
+		this.httpClient = httpClient;
+		this.requestGenerator = requestGenerator;
+		this.concurrency = concurrency;
+		this.rate = rate;
+	}
+
+	/**
+	 * Send requests for the specified duration.
+	 * @param duration the duration of the run
+	 * @return the latencies of the requests to each endpoint
+	 * @throws InterruptedException if the thread was interrupted while waiting for the
+	 * clients to complete
+	 */
+	Map<Endpoint, LatencyRecorder> run(Duration duration) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(this.concurrency,
+				new CustomizableThreadFactory(THREAD_NAME_PREFIX + "client-"));
+		try {
+			long start = System.nanoTime();
+			long deadline = start + duration.toNanos();
+			AtomicLong sentRequests = new AtomicLong();
+			List<Future<Map<Endpoint, LatencyRecorder>>> clients = new ArrayList<>();
+			for (int i = 0; i < this.concurrency; i++) {
+				clients.add(executor.submit(() -> sendRequests(start, deadline, sentRequests)));
+			}
+			Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+			for (Future<Map<Endpoint, LatencyRecorder>> client : clients) {
+				client.get()
+					.forEach((endpoint, recorder) -> recorders.computeIfAbsent(endpoint, (key) -> new LatencyRecorder())
+						.merge(recorder));
+			}
+			return recorders;
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Load test client failed", ex.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Map<Endpoint, LatencyRecorder> sendRequests(long start, long deadline, AtomicLong sentRequests) {
+		Random random = ThreadLocalRandom.current();
+		Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+		while (!Thread.currentThread().isInterrupted()) {
+			long scheduledTime = nextScheduledTime(start, sentRequests);
+			if (scheduledTime >= deadline) {
+				break;
+			}
+			waitUntil(scheduledTime);
+			RequestGenerator.Request request = this.requestGenerator.next(random);
+			LatencyRecorder recorder = recorders.computeIfAbsent(request.endpoint(), (key) -> new LatencyRecorder());
+			try {
+				HttpResponse<Void> response = this.httpClient.send(request.httpRequest(),
+						HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() == 200) {
+					recorder.record(System.nanoTime() - scheduledTime);
+				}
+				else {
+					recorder.recordError();
+				}
+			}
+			catch (IOException ex) {
+				recorder.recordError();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return recorders;
+	}
+
+	private long nextScheduledTime(long start, AtomicLong sentRequests) {
+		if (this.rate == null) {
+			return System.nanoTime();
+		}
+		return start + sentRequests.getAndIncrement() * 1_000_000_000L / this.rate;
+	}
+
+	private void waitUntil(long time) {
+		long delay = time - System.nanoTime();
+		while (delay > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(delay);
+			delay = time - System.nanoTime();
+		}
+	}
+
+}
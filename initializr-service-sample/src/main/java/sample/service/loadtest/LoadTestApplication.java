@@ -0,0 +1,197 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Send a mix of requests to a running instance of the sample service, as configured by
+ * {@link LoadTestProperties} under the {@code load-test} prefix of
+ * {@code load-test.yaml}. Requests are sent for a warmup phase first, and are then
+ * recorded for the measurement phase. The result is logged and written as a
+ * {@link LoadTestReport JSON report}.
+ * <p>
+ * The service is expected to run in another JVM, ideally on another machine, with the
+ * {@code load-test} profile. If the JMX connector of its JVM is enabled, the report also
+ * includes the memory that the service allocated and the pauses of its garbage collector.
+ *
+ * @author agent
+ */
+@Configuration(proxyBeanMethods = false)
+public class LoadTestApplication {
+
+	private static final Log logger = LogFactory.getLog(LoadTestApplication.class);
+
+	private static final String DEPENDENCIES_MEDIA_TYPE = "application/vnd.initializr.v2.3+json";
+
+	public static void main(String[] args) throws Exception {
+		// Restarting the application would run the load test in another thread
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+			.web(WebApplicationType.NONE)
+			.properties("spring.config.name=load-test")
+			.run(args)) {
+			LoadTestProperties properties = Binder.get(context.getEnvironment())
+				.bindOrCreate("load-test", LoadTestProperties.class);
+			JsonMapper jsonMapper = JsonMapper.builder().build();
+			LoadTestReport report = run(properties, jsonMapper);
+			Path output = Path.of(properties.getOutput()).toAbsolutePath();
+			Path directory = output.getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+			jsonMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+			logger.info(describe(report) + System.lineSeparator() + "Report written to " + output);
+		}
+	}
+
+	private static LoadTestReport run(LoadTestProperties properties, JsonMapper jsonMapper)
+			throws IOException, InterruptedException {
+		String jmxUrl = properties.getJmxUrl();
+		try (ServiceMonitor serviceMonitor = (jmxUrl != null) ? ServiceMonitor.connect(jmxUrl) : null) {
+			return run(properties, jsonMapper, serviceMonitor);
+		}
+	}
+
+	private static LoadTestReport run(LoadTestProperties properties, JsonMapper jsonMapper,
+			@Nullable ServiceMonitor serviceMonitor) throws IOException, InterruptedException {
+		URI target = properties.getTarget();
+		ExecutorService httpExecutor = Executors
+			.newCachedThreadPool(new CustomizableThreadFactory(LoadGenerator.THREAD_NAME_PREFIX + "http-"));
+		try {
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(httpExecutor)
+				.build();
+			Map<String, Set<String>> compatibleDependencies = new LinkedHashMap<>();
+			for (String bootVersion : properties.getBootVersions().keySet()) {
+				compatibleDependencies.put(bootVersion,
+						getCompatibleDependencies(httpClient, jsonMapper, target, bootVersion));
+			}
+			RequestGenerator requestGenerator = new RequestGenerator(target, properties, compatibleDependencies);
+			LoadGenerator loadGenerator = new LoadGenerator(httpClient, requestGenerator, properties.getConcurrency(),
+					properties.getRate());
+			logger.info("Warming up " + target + " for " + properties.getWarmup());
+			loadGenerator.run(properties.getWarmup());
+			logger.info("Measuring for " + properties.getDuration());
+			if (serviceMonitor != null) {
+				serviceMonitor.start();
+			}
+			long start = System.nanoTime();
+			Map<Endpoint, LatencyRecorder> recorders = loadGenerator.run(properties.getDuration());
+			long elapsedNanos = System.nanoTime() - start;
+			LatencyRecorder total = new LatencyRecorder();
+			recorders.values().forEach(total::merge);
+			ServiceMonitor.Result service = (serviceMonitor != null)
+					? serviceMonitor.stop(total.getCount() + total.getErrors(), elapsedNanos) : null;
+			Map<String, LoadTestReport.Requests> endpoints = new LinkedHashMap<>();
+			recorders
+				.forEach((endpoint, recorder) -> endpoints.put(endpoint.getPath(), toRequests(recorder, elapsedNanos)));
+			return new LoadTestReport(Instant.now().toString(), target.toString(), describe(properties),
+					toRequests(total, elapsedNanos), endpoints,
+					(serviceMonitor != null) ? serviceMonitor.describeJvm() : null,
+					(service != null) ? service.allocation() : null,
+					(service != null) ? service.garbageCollection() : null);
+		}
+		finally {
+			httpExecutor.shutdownNow();
+		}
+	}
+
+	private static Set<String> getCompatibleDependencies(HttpClient httpClient, JsonMapper jsonMapper, URI target,
+			String bootVersion) throws IOException, InterruptedException {
+		URI uri = URI
+			.create(target + "/dependencies?bootVersion=" + URLEncoder.encode(bootVersion, StandardCharsets.UTF_8));
+		HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", DEPENDENCIES_MEDIA_TYPE).build();
+		HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Failed to resolve the dependencies of Spring Boot " + bootVersion
+					+ " (status " + response.statusCode() + ")");
+		}
+		Map<?, ?> content = jsonMapper.readValue(response.body(), Map.class);
+		Map<?, ?> dependencies = (Map<?, ?>) content.get("dependencies");
+		return (dependencies != null) ? dependencies.keySet().stream().map(String::valueOf).collect(Collectors.toSet())
+				: Set.of();
+	}
+
+	private static LoadTestReport.Requests toRequests(LatencyRecorder recorder, long elapsedNanos) {
+		double throughput = recorder.getCount() / (elapsedNanos / 1_000_000_000.0);
+		return new LoadTestReport.Requests(recorder.getCount(), recorder.getErrors(), throughput,
+				recorder.getLatency());
+	}
+
+	private static LoadTestReport.Configuration describe(LoadTestProperties properties) {
+		Map<String, Integer> mix = new LinkedHashMap<>();
+		properties.getMix().forEach((endpoint, weight) -> mix.put(endpoint.getPath(), weight));
+		return new LoadTestReport.Configuration(properties.getWarmup().toString(), properties.getDuration().toString(),
+				properties.getConcurrency(), properties.getRate(), mix);
+	}
+
+	private static String describe(LoadTestReport report) {
+		StringBuilder summary = new StringBuilder("Load test results:").append(System.lineSeparator());
+		summary.append("%-18s %10s %8s %10s %10s %10s %10s%n".formatted("Endpoint", "Requests", "Errors", "Req/s",
+				"p50 (ms)", "p99 (ms)", "p999 (ms)"));
+		report.endpoints().forEach((endpoint, requests) -> summary.append(describe(endpoint, requests)));
+		summary.append(describe("Total", report.total()));
+		LoadTestReport.Allocation allocation = report.allocation();
+		LoadTestReport.GarbageCollection garbageCollection = report.garbageCollection();
+		if (allocation != null && garbageCollection != null) {
+			summary.append("Allocation: %.1f MB/s, %.1f KB/request%n".formatted(allocation.bytesPerSecond() / 1_048_576,
+					allocation.bytesPerRequest() / 1024));
+			summary.append("GC pauses: %d, total %d ms, max %d ms".formatted(garbageCollection.pauses(),
+					garbageCollection.totalPauseMillis(), garbageCollection.maxPauseMillis()));
+		}
+		else {
+			summary.append("Set load-test.jmx-url to report the allocations and GC pauses of the service");
+		}
+		return summary.toString();
+	}
+
+	private static String describe(String name, LoadTestReport.Requests requests) {
+		LoadTestReport.Latency latency = requests.latencyMillis();
+		return "%-18s %10d %8d %10.1f %10.2f %10.2f %10.2f%n".formatted(name, requests.count(), requests.errors(),
+				requests.throughput(), latency.p50(), latency.p99(), latency.p999());
+	}
+
+}
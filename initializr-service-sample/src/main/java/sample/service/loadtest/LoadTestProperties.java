@@ -0,0 +1,182 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Configuration of a load test. Weights are relative to the other entries of the same
+ * distribution and entries with a weight of zero are never selected.
+ *
+ * @author agent
+ */
+public class LoadTestProperties {
+
+	/**
+	 * URI of the service to test.
+	 */
+	private URI target = URI.create("http://localhost:8080");
+
+	/**
+	 * JMX service URL of the JVM of the service, to monitor its allocations and the
+	 * pauses of its garbage collector. If not set, only the requests are reported.
+	 */
+	private @Nullable String jmxUrl;
+
+	/**
+	 * Duration of the warmup phase, whose requests are not recorded.
+	 */
+	private Duration warmup = Duration.ofSeconds(30);
+
+	/**
+	 * Duration of the measurement phase.
+	 */
+	private Duration duration = Duration.ofSeconds(60);
+
+	/**
+	 * Number of concurrent clients.
+	 */
+	private int concurrency = 16;
+
+	/**
+	 * Number of requests to send per second. If not set, each client sends a request as
+	 * soon as it has received the previous response.
+	 */
+	private @Nullable Integer rate;
+
+	/**
+	 * Location of the JSON report.
+	 */
+	private String output = "target/load-test/report.json";
+
+	/**
+	 * Weight of each endpoint.
+	 */
+	private final Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+
+	/**
+	 * Weight of each Spring Boot version.
+	 */
+	private final Map<String, Integer> bootVersions = new LinkedHashMap<>();
+
+	/**
+	 * Weight of each project type, for the endpoints that generate an archive.
+	 */
+	private final Map<String, Integer> types = new LinkedHashMap<>();
+
+	/**
+	 * Weight of each language.
+	 */
+	private final Map<String, Integer> languages = new LinkedHashMap<>();
+
+	/**
+	 * Weight of each number of dependencies of a project.
+	 */
+	private final Map<Integer, Integer> dependencyCounts = new LinkedHashMap<>();
+
+	/**
+	 * Weight of each dependency. Only the dependencies that are compatible with the
+	 * selected Spring Boot version are requested.
+	 */
+	private final Map<String, Integer> dependencies = new LinkedHashMap<>();
+
+	public URI getTarget() {
+		return this.target;
+	}
+
+	public void setTarget(URI target) {
+		this.target = target;
+	}
+
+	public @Nullable String getJmxUrl() {
+		return this.jmxUrl;
+	}
+
+	public void setJmxUrl(@Nullable String jmxUrl) {
+		this.jmxUrl = jmxUrl;
+	}
+
+	public Duration getWarmup() {
+		return this.warmup;
+	}
+
+	public void setWarmup(Duration warmup) {
+		this.warmup = warmup;
+	}
+
+	public Duration getDuration() {
+		return this.duration;
+	}
+
+	public void setDuration(Duration duration) {
+		this.duration = duration;
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	public @Nullable Integer getRate() {
+		return this.rate;
+	}
+
+	public void setRate(@Nullable Integer rate) {
+		this.rate = rate;
+	}
+
+	public String getOutput() {
+		return this.output;
+	}
+
+	public void setOutput(String output) {
+		this.output = output;
+	}
+
+	public Map<Endpoint, Integer> getMix() {
+		return this.mix;
+	}
+
+	public Map<String, Integer> getBootVersions() {
+		return this.bootVersions;
+	}
+
+	public Map<String, Integer> getTypes() {
+		return this.types;
+	}
+
+	public Map<String, Integer> getLanguages() {
+		return this.languages;
+	}
+
+	public Map<Integer, Integer> getDependencyCounts() {
+		return this.dependencyCounts;
+	}
+
+	public Map<String, Integer> getDependencies() {
+		return this.dependencies;
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The result of a load test. Durations are in milliseconds.
+ * <p>
+ * The JVM of the service, its allocations and the pauses of its garbage collector are
+ * only reported if the load test is connected to the service using JMX.
+ *
+ * @param timestamp the time at which the measurement phase completed
+ * @param target the URI of the service
+ * @param configuration the configuration of the load test
+ * @param total the requests to all endpoints
+ * @param endpoints the requests to each endpoint
+ * @param jvm the JVM that runs the service
+ * @param allocation the memory allocated by the service
+ * @param garbageCollection the pauses of the garbage collector of the service
+ * @author agent
+ */
+public record LoadTestReport(String timestamp, String target, Configuration configuration, Requests total,
+		Map<String, Requests> endpoints, @Nullable Jvm jvm, @Nullable Allocation allocation,
+		@Nullable GarbageCollection garbageCollection) {
+
+	/**
+	 * Description of the JVM that runs the service.
+	 *
+	 * @param version the version of Java
+	 * @param vendor the vendor of the JVM
+	 * @param availableProcessors the number of processors available to the JVM
+	 * @param maxHeapBytes the maximum size of the heap
+	 * @param garbageCollectors the names of the garbage collectors
+	 * @param arguments the arguments of the JVM
+	 */
+	public record Jvm(String version, String vendor, int availableProcessors, long maxHeapBytes,
+			List<String> garbageCollectors, List<String> arguments) {
+
+	}
+
+	/**
+	 * Configuration of the load test.
+	 *
+	 * @param warmup the duration of the warmup phase
+	 * @param duration the duration of the measurement phase
+	 * @param concurrency the number of concurrent clients
+	 * @param rate the number of requests sent per second, or {@code null} if each client
+	 * waits for the previous response
+	 * @param mix the weight of each endpoint
+	 */
+	public record Configuration(String warmup, String duration, int concurrency, @Nullable Integer rate,
+			Map<String, Integer> mix) {
+
+	}
+
+	/**
+	 * Statistics of the requests to one or several endpoints.
+	 *
+	 * @param count the number of successful requests
+	 * @param errors the number of requests that failed
+	 * @param throughput the number of successful requests per second
+	 * @param latencyMillis the latency of the successful requests
+	 */
+	public record Requests(long count, long errors, double throughput, Latency latencyMillis) {
+
+	}
+
+	/**
+	 * Distribution of latencies.
+	 *
+	 * @param mean the mean latency
+	 * @param p50 the median latency
+	 * @param p99 the 99th percentile
+	 * @param p999 the 99.9th percentile
+	 * @param max the maximum latency
+	 */
+	public record Latency(double mean, double p50, double p99, double p999, double max) {
+
+	}
+
+	/**
+	 * Memory allocated by the threads of the service during the measurement phase.
+	 * Threads that terminate before the end of the measurement phase are not included.
+	 *
+	 * @param bytes the number of bytes allocated
+	 * @param bytesPerSecond the allocation rate
+	 * @param bytesPerRequest the number of bytes allocated per request
+	 */
+	public record Allocation(long bytes, double bytesPerSecond, double bytesPerRequest) {
+
+	}
+
+	/**
+	 * Pauses of the garbage collector of the service during the measurement phase.
+	 *
+	 * @param pauses the number of pauses
+	 * @param totalPauseMillis the total duration of the pauses
+	 * @param maxPauseMillis the duration of the longest pause
+	 * @param collectors the pauses of each garbage collector
+	 */
+	public record GarbageCollection(long pauses, long totalPauseMillis, long maxPauseMillis,
+			Map<String, Collector> collectors) {
+
+	}
+
+	/**
+	 * Pauses of a garbage collector.
+	 *
+	 * @param pauses the number of pauses
+	 * @param totalPauseMillis the total duration of the pauses
+	 * @param maxPauseMillis the duration of the longest pause
+	 */
+	public record Collector(long pauses, long totalPauseMillis, long maxPauseMillis) {
+
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generate random requests according to the distributions of a {@link LoadTestProperties
+ * load test}.
+ *
+ * @author agent
+ */
+class RequestGenerator {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final String baseUrl;
+
+	private final WeightedChoice<Endpoint> endpoints;
+
+	private final WeightedChoice<String> bootVersions;
+
+	private final WeightedChoice<String> types;
+
+	private final WeightedChoice<String> languages;
+
+	private final WeightedChoice<Integer> dependencyCounts;
+
+	private final Map<String, WeightedChoice<String>> dependencies = new LinkedHashMap<>();
+
+	/**
+	 * Create a new instance.
+	 * @param baseUri the URI of the service
+	 * @param properties the configuration of the load test
+	 * @param compatibleDependencies the ids of the dependencies that are compatible with
+	 * each Spring Boot version
+	 */
+	RequestGenerator(URI baseUri, LoadTestProperties properties, Map<String, Set<String>> compatibleDependencies) {
+		this.baseUrl = baseUri.toString();
+		this.endpoints = new WeightedChoice<>(properties.getMix());
+		this.bootVersions = new WeightedChoice<>(properties.getBootVersions());
+		this.types = new WeightedChoice<>(properties.getTypes());
+		this.languages = new WeightedChoice<>(properties.getLanguages());
+		this.dependencyCounts = new WeightedChoice<>(properties.getDependencyCounts());
+		WeightedChoice<String> allDependencies = new WeightedChoice<>(properties.getDependencies());
+		compatibleDependencies
+			.forEach((bootVersion, ids) -> this.dependencies.put(bootVersion, allDependencies.filter(ids::contains)));
+	}
+
+	/**
+	 * Generate a random request.
+	 * @param random the source of randomness
+	 * @return a request
+	 */
+	Request next(Random random) {
+		Endpoint endpoint = this.endpoints.next(random);
+		StringBuilder url = new StringBuilder(this.baseUrl).append(endpoint.getPath());
+		if (endpoint.isProjectGeneration()) {
+			String bootVersion = this.bootVersions.next(random);
+			if (endpoint == Endpoint.STARTER_ZIP || endpoint == Endpoint.STARTER_TGZ) {
+				appendParameter(url, "type", this.types.next(random));
+			}
+			appendParameter(url, "language", this.languages.next(random));
+			appendParameter(url, "bootVersion", bootVersion);
+			Set<String> dependencies = nextDependencies(random, bootVersion);
+			if (!dependencies.isEmpty()) {
+				appendParameter(url, "dependencies", dependencies.toArray(String[]::new));
+			}
+		}
+		else if (endpoint == Endpoint.DEPENDENCIES) {
+			appendParameter(url, "bootVersion", this.bootVersions.next(random));
+		}
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url.toString())).timeout(REQUEST_TIMEOUT);
+		String accept = endpoint.getAccept();
+		if (accept != null) {
+			request.header("Accept", accept);
+		}
+		return new Request(endpoint, request.build());
+	}
+
+	private Set<String> nextDependencies(Random random, String bootVersion) {
+		WeightedChoice<String> choice = this.dependencies.get(bootVersion);
+		if (choice == null) {
+			return Set.of();
+		}
+		int count = Math.min(this.dependencyCounts.next(random), choice.size());
+		Set<String> dependencies = new LinkedHashSet<>();
+		while (dependencies.size() < count) {
+			dependencies.add(choice.next(random));
+		}
+		return dependencies;
+	}
+
+	private void appendParameter(StringBuilder url, String name, String... values) {
+		url.append((url.indexOf("?") != -1) ? '&' : '?').append(name).append('=');
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				url.append(',');
+			}
+			url.append(URLEncoder.encode(values[i], StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * A request to an {@link Endpoint}.
+	 *
+	 * @param endpoint the endpoint
+	 * @param httpRequest the request to send
+	 */
+	record Request(Endpoint endpoint, HttpRequest httpRequest) {
+
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.ListenerNotFoundException;
+import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Monitor the memory allocated by the service and the pauses of its garbage collector,
+ * using the JMX connector of its JVM. Allocations are attributed to a thread: those of
+ * the threads that terminate before the monitoring stops are ignored.
+ *
+ * @author agent
+ */
+class ServiceMonitor implements Closeable {
+
+	private final JMXConnector connector;
+
+	private final MBeanServerConnection connection;
+
+	private final ThreadMXBean threadMXBean;
+
+	private final Set<ObjectName> garbageCollectors;
+
+	private final ConcurrentLinkedQueue<Pause> pauses = new ConcurrentLinkedQueue<>();
+
+	private final NotificationListener listener = this::onNotification;
+
+	private Map<Long, Long> allocatedBytes = Map.of();
+
+	private ServiceMonitor(JMXConnector connector) throws IOException {
+		this.connector = connector;
+		this.connection = connector.getMBeanServerConnection();
+		this.threadMXBean = ManagementFactory.newPlatformMXBeanProxy(this.connection,
+				ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class);
+		this.garbageCollectors = this.connection
+			.queryNames(objectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null);
+	}
+
+	/**
+	 * Connect to the JVM of the service.
+	 * @param url the JMX service URL of the JVM
+	 * @return a monitor of the service
+	 * @throws IOException if the connection failed
+	 */
+	static ServiceMonitor connect(String url) throws IOException {
+		JMXConnector connector = JMXConnectorFactory.connect(new JMXServiceURL(url));
+		try {
+			return new ServiceMonitor(connector);
+		}
+		catch (IOException | RuntimeException ex) {
+			connector.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Describe the JVM of the service.
+	 * @return a description of the JVM
+	 * @throws IOException if the JVM could not be reached
+	 */
+	LoadTestReport.Jvm describeJvm() throws IOException {
+		RuntimeMXBean runtime = ManagementFactory.newPlatformMXBeanProxy(this.connection,
+				ManagementFactory.RUNTIME_MXBEAN_NAME, RuntimeMXBean.class);
+		OperatingSystemMXBean operatingSystem = ManagementFactory.newPlatformMXBeanProxy(this.connection,
+				ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME, OperatingSystemMXBean.class);
+		MemoryMXBean memory = ManagementFactory.newPlatformMXBeanProxy(this.connection,
+				ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+		List<String> garbageCollectors = this.garbageCollectors.stream()
+			.map((name) -> name.getKeyProperty("name"))
+			.sorted()
+			.toList();
+		return new LoadTestReport.Jvm(runtime.getSpecVersion() + " (" + runtime.getVmVersion() + ")",
+				runtime.getVmVendor(), operatingSystem.getAvailableProcessors(), memory.getHeapMemoryUsage().getMax(),
+				garbageCollectors, runtime.getInputArguments());
+	}
+
+	/**
+	 * Start monitoring the service.
+	 * @throws IOException if the JVM could not be reached
+	 */
+	void start() throws IOException {
+		if (this.threadMXBean.isThreadAllocatedMemorySupported()) {
+			this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		}
+		this.pauses.clear();
+		for (ObjectName garbageCollector : this.garbageCollectors) {
+			try {
+				this.connection.addNotificationListener(garbageCollector, this.listener, null, null);
+			}
+			catch (InstanceNotFoundException ex) {
+				// Continue
+			}
+		}
+		this.allocatedBytes = getAllocatedBytes();
+	}
+
+	/**
+	 * Stop monitoring the service.
+	 * @param requests the number of requests that the service processed
+	 * @param elapsedNanos the time since the monitoring started
+	 * @return the memory allocated by the service and the pauses of its garbage collector
+	 * @throws IOException if the JVM could not be reached
+	 */
+	Result stop(long requests, long elapsedNanos) throws IOException {
+		Map<Long, Long> allocatedBytes = getAllocatedBytes();
+		for (ObjectName garbageCollector : this.garbageCollectors) {
+			try {
+				this.connection.removeNotificationListener(garbageCollector, this.listener);
+			}
+			catch (InstanceNotFoundException | ListenerNotFoundException ex) {
+				// Continue
+			}
+		}
+		long bytes = 0;
+		for (Map.Entry<Long, Long> entry : allocatedBytes.entrySet()) {
+			bytes += entry.getValue() - this.allocatedBytes.getOrDefault(entry.getKey(), 0L);
+		}
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		LoadTestReport.Allocation allocation = new LoadTestReport.Allocation(bytes, bytes / seconds,
+				(requests > 0) ? (double) bytes / requests : 0);
+		return new Result(allocation, summarizePauses(new ArrayList<>(this.pauses)));
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.connector.close();
+	}
+
+	private Map<Long, Long> getAllocatedBytes() {
+		if (!this.threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			return Map.of();
+		}
+		long[] threadIds = this.threadMXBean.getAllThreadIds();
+		long[] allocatedBytes = this.threadMXBean.getThreadAllocatedBytes(threadIds);
+		Map<Long, Long> threadAllocatedBytes = new HashMap<>();
+		for (int i = 0; i < threadIds.length; i++) {
+			if (allocatedBytes[i] != -1) {
+				threadAllocatedBytes.put(threadIds[i], allocatedBytes[i]);
+			}
+		}
+		return threadAllocatedBytes;
+	}
+
+	private void onNotification(Notification notification, @Nullable Object handback) {
+		if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+			GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+				.from((CompositeData) notification.getUserData());
+			// Concurrent collectors also report their cycles, which do not pause the
+			// application
+			if (!info.getGcAction().endsWith("cycle")) {
+				this.pauses.add(new Pause(info.getGcName(), info.getGcInfo().getDuration()));
+			}
+		}
+	}
+
+	private LoadTestReport.GarbageCollection summarizePauses(List<Pause> pauses) {
+		Map<String, List<Pause>> pausesByCollector = new TreeMap<>();
+		pauses.forEach(
+				(pause) -> pausesByCollector.computeIfAbsent(pause.collector(), (key) -> new ArrayList<>()).add(pause));
+		Map<String, LoadTestReport.Collector> collectors = new TreeMap<>();
+		pausesByCollector
+			.forEach((collector, collectorPauses) -> collectors.put(collector, new LoadTestReport.Collector(
+					collectorPauses.size(), totalDuration(collectorPauses), maxDuration(collectorPauses))));
+		return new LoadTestReport.GarbageCollection(pauses.size(), totalDuration(pauses), maxDuration(pauses),
+				collectors);
+	}
+
+	private static long totalDuration(List<Pause> pauses) {
+		return pauses.stream().mapToLong(Pause::durationMillis).sum();
+	}
+
+	private static long maxDuration(List<Pause> pauses) {
+		return pauses.stream().mapToLong(Pause::durationMillis).max().orElse(0);
+	}
+
+	private static ObjectName objectName(String name) {
+		try {
+			return new ObjectName(name);
+		}
+		catch (MalformedObjectNameException ex) {
+			throw new IllegalArgumentException("Invalid object name '" + name + "'", ex);
+		}
+	}
+
+	/**
+	 * The memory allocated by the service and the pauses of its garbage collector.
+	 *
+	 * @param allocation the memory allocated by the service
+	 * @param garbageCollection the pauses of the garbage collector of the service
+	 */
+	record Result(LoadTestReport.Allocation allocation, LoadTestReport.GarbageCollection garbageCollection) {
+
+	}
+
+	private record Pause(String collector, long durationMillis) {
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package sample.service.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * A random choice among values that have a relative weight.
+ *
+ * @param <T> the type of the values
+ * @author agent
+ */
+final class WeightedChoice<T> {
+
+	private final Map<T, Integer> weights;
+
+	private final List<T> values = new ArrayList<>();
+
+	private final int[] cumulativeWeights;
+
+	WeightedChoice(Map<T, Integer> weights) {
+		this.weights = weights;
+		int[] cumulativeWeights = new int[weights.size()];
+		int totalWeight = 0;
+		for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+			if (entry.getValue() > 0) {
+				totalWeight += entry.getValue();
+				cumulativeWeights[this.values.size()] = totalWeight;
+				this.values.add(entry.getKey());
+			}
+		}
+		Assert.isTrue(totalWeight > 0, () -> "At least one of " + weights.keySet() + " must have a positive weight");
+		this.cumulativeWeights = Arrays.copyOf(cumulativeWeights, this.values.size());
+	}
+
+	/**
+	 * Return a random value, with a probability that is proportional to its weight.
+	 * @param random the source of randomness
+	 * @return a value
+	 */
+	T next(Random random) {
+		int target = random.nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+		int index = Arrays.binarySearch(this.cumulativeWeights, target);
+		return this.values.get((index >= 0) ? index + 1 : -(index + 1));
+	}
+
+	/**
+	 * Return the number of values that can be selected.
+	 * @return the number of values
+	 */
+	int size() {
+		return this.values.size();
+	}
+
+	/**
+	 * Return a choice among the values that match the specified {@link Predicate}.
+	 * @param filter the predicate that the values must match
+	 * @return a choice among the matching values
+	 */
+	WeightedChoice<T> filter(Predicate<T> filter) {
+		Map<T, Integer> weights = new LinkedHashMap<>();
+		this.weights.forEach((value, weight) -> {
+			if (filter.test(value)) {
+				weights.put(value, weight);
+			}
+		});
+		return new WeightedChoice<>(weights);
+	}
+
+}
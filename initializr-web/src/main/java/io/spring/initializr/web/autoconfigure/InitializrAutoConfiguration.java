@@ -17,6 +17,7 @@
 package io.spring.initializr.web.autoconfigure;
 
 import java.nio.file.Files;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
@@ -24,11 +25,15 @@ import javax.cache.configuration.MutableConfiguration;
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 
+import com.google.common.jimfs.Jimfs;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
 import io.spring.initializr.generator.io.SimpleIndentStrategy;
 import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
 import io.spring.initializr.generator.io.template.TemplateRenderer;
+import io.spring.initializr.generator.project.ParallelProjectAssetGenerator;
 import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationContextFactory;
+import io.spring.initializr.generator.project.contributor.ProjectResourceResolver;
 import io.spring.initializr.metadata.DependencyMetadataProvider;
 import io.spring.initializr.metadata.InitializrMetadata;
 import io.spring.initializr.metadata.InitializrMetadataBuilder;
@@ -36,23 +41,32 @@ import io.spring.initializr.metadata.InitializrMetadataProvider;
 import io.spring.initializr.metadata.InitializrProperties;
 import io.spring.initializr.web.controller.CommandLineMetadataController;
 import io.spring.initializr.web.controller.DefaultProjectGenerationController;
+import io.spring.initializr.web.controller.MetadataContentCache;
 import io.spring.initializr.web.controller.ProjectGenerationController;
 import io.spring.initializr.web.controller.ProjectMetadataController;
 import io.spring.initializr.web.controller.SpringCliDistributionController;
 import io.spring.initializr.web.project.DefaultProjectRequestPlatformVersionTransformer;
 import io.spring.initializr.web.project.DefaultProjectRequestToDescriptionConverter;
+import io.spring.initializr.web.project.InMemoryProjectDirectoryFactory;
+import io.spring.initializr.web.project.ProjectArchiveCache;
+import io.spring.initializr.web.project.ProjectArchiveFragments;
 import io.spring.initializr.web.project.ProjectGenerationInvoker;
 import io.spring.initializr.web.project.ProjectRequest;
 import io.spring.initializr.web.project.ProjectRequestPlatformVersionTransformer;
+import io.spring.initializr.web.support.CopyOnWriteInitializrMetadataUpdateStrategy;
 import io.spring.initializr.web.support.DefaultDependencyMetadataProvider;
 import io.spring.initializr.web.support.DefaultInitializrMetadataProvider;
 import io.spring.initializr.web.support.InitializrMetadataUpdateStrategy;
+import io.spring.initializr.web.support.PrecomputedDependencyMetadataProvider;
+import io.spring.initializr.web.support.ScheduledInitializrMetadataProvider;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.cache.autoconfigure.JCacheManagerCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -67,6 +81,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
@@ -76,7 +93,7 @@ import org.springframework.core.env.Environment;
  * @author Stephane Nicoll
  */
 @AutoConfiguration(after = { JacksonAutoConfiguration.class, RestTemplateAutoConfiguration.class })
-@EnableConfigurationProperties(InitializrProperties.class)
+@EnableConfigurationProperties({ InitializrProperties.class, InitializrWebProperties.class })
 public class InitializrAutoConfiguration {
 
 	@Bean
@@ -100,6 +117,14 @@ public class InitializrAutoConfiguration {
 				determineCache(environment, cacheManager.getIfAvailable()));
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public ProjectResourceResolver projectResourceResolver(ObjectProvider<CacheManager> cacheManager) {
+		CacheManager manager = cacheManager.getIfAvailable();
+		Cache cache = (manager != null) ? manager.getCache("initializr.project-resources") : null;
+		return new ProjectResourceResolver(cache);
+	}
+
 	private @Nullable Cache determineCache(Environment environment, @Nullable CacheManager cacheManager) {
 		if (cacheManager != null) {
 			Binder binder = Binder.get(environment);
@@ -111,13 +136,94 @@ public class InitializrAutoConfiguration {
 		return new NoOpCache("templates");
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(InitializrMetadataProvider.class)
+	@ConditionalOnProperty(name = "initializr.web.metadata.background-refresh", havingValue = "true")
+	public ScheduledInitializrMetadataProvider scheduledInitializrMetadataProvider(InitializrProperties properties,
+			InitializrWebProperties webProperties,
+			ObjectProvider<InitializrMetadataUpdateStrategy> initializrMetadataUpdateStrategy,
+			ObjectProvider<PrecomputedDependencyMetadataProvider> precomputedDependencyMetadataProvider,
+			Environment environment) {
+		InitializrMetadata metadata = InitializrMetadataBuilder.fromInitializrProperties(properties).build();
+		return new ScheduledInitializrMetadataProvider(metadata,
+				determineUpdateStrategy(webProperties, initializrMetadataUpdateStrategy,
+						precomputedDependencyMetadataProvider, environment),
+				webProperties.getMetadata().getRefreshInterval(), webProperties.getMetadata().getRefreshJitter());
+	}
+
 	@Bean
 	@ConditionalOnMissingBean(InitializrMetadataProvider.class)
 	public InitializrMetadataProvider initializrMetadataProvider(InitializrProperties properties,
-			ObjectProvider<InitializrMetadataUpdateStrategy> initializrMetadataUpdateStrategy) {
+			InitializrWebProperties webProperties,
+			ObjectProvider<InitializrMetadataUpdateStrategy> initializrMetadataUpdateStrategy,
+			ObjectProvider<PrecomputedDependencyMetadataProvider> precomputedDependencyMetadataProvider,
+			Environment environment) {
 		InitializrMetadata metadata = InitializrMetadataBuilder.fromInitializrProperties(properties).build();
-		return new DefaultInitializrMetadataProvider(metadata,
-				initializrMetadataUpdateStrategy.getIfAvailable(() -> (current) -> current));
+		return new DefaultInitializrMetadataProvider(metadata, determineUpdateStrategy(webProperties,
+				initializrMetadataUpdateStrategy, precomputedDependencyMetadataProvider, environment));
+	}
+
+	private InitializrMetadataUpdateStrategy determineUpdateStrategy(InitializrWebProperties webProperties,
+			ObjectProvider<InitializrMetadataUpdateStrategy> initializrMetadataUpdateStrategy,
+			ObjectProvider<PrecomputedDependencyMetadataProvider> precomputedDependencyMetadataProvider,
+			Environment environment) {
+		InitializrMetadataUpdateStrategy updateStrategy = determineUpdateStrategy(webProperties,
+				initializrMetadataUpdateStrategy, environment);
+		PrecomputedDependencyMetadataProvider dependencyMetadataProvider = precomputedDependencyMetadataProvider
+			.getIfAvailable();
+		if (dependencyMetadataProvider == null) {
+			return updateStrategy;
+		}
+		return (current) -> {
+			InitializrMetadata updated = updateStrategy.update(current);
+			dependencyMetadataProvider.prepare(updated);
+			return updated;
+		};
+	}
+
+	private InitializrMetadataUpdateStrategy determineUpdateStrategy(InitializrWebProperties webProperties,
+			ObjectProvider<InitializrMetadataUpdateStrategy> initializrMetadataUpdateStrategy,
+			Environment environment) {
+		InitializrMetadataUpdateStrategy updateStrategy = initializrMetadataUpdateStrategy.getIfAvailable();
+		if (updateStrategy == null) {
+			return (current) -> current;
+		}
+		if (!webProperties.getMetadata().isCopyOnWrite()) {
+			return updateStrategy;
+		}
+		// Bind the properties again so that a snapshot does not share state with another
+		Binder binder = Binder.get(environment);
+		return new CopyOnWriteInitializrMetadataUpdateStrategy(() -> InitializrMetadataBuilder
+			.fromInitializrProperties(binder.bindOrCreate("initializr", InitializrProperties.class))
+			.build(), updateStrategy);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(DependencyMetadataProvider.class)
+	@ConditionalOnProperty(name = "initializr.web.metadata.dependencies.eager", havingValue = "true")
+	public PrecomputedDependencyMetadataProvider precomputedDependencyMetadataProvider(
+			@Qualifier("initializrDependencyMetadataExecutor") ObjectProvider<Executor> dependencyMetadataExecutor) {
+		return new PrecomputedDependencyMetadataProvider(new DefaultDependencyMetadataProvider(),
+				dependencyMetadataExecutor.getIfAvailable());
+	}
+
+	@Bean(defaultCandidate = false)
+	@ConditionalOnProperty(
+			name = { "initializr.web.metadata.dependencies.eager", "initializr.web.metadata.dependencies.parallel" },
+			havingValue = "true")
+	public AsyncTaskExecutor initializrDependencyMetadataExecutor(Environment environment) {
+		if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("initializr-dependency-metadata-");
+			executor.setVirtualThreads(true);
+			return executor;
+		}
+		int poolSize = Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("initializr-dependency-metadata-");
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setAllowCoreThreadTimeOut(true);
+		return executor;
 	}
 
 	@Bean
@@ -126,6 +232,22 @@ public class InitializrAutoConfiguration {
 		return new DefaultDependencyMetadataProvider();
 	}
 
+	/**
+	 * In-memory project directory configuration.
+	 */
+	@Configuration
+	@ConditionalOnClass(Jimfs.class)
+	@ConditionalOnProperty(name = "initializr.web.generation.in-memory", havingValue = "true")
+	static class InMemoryProjectDirectoryConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(ProjectDirectoryFactory.class)
+		InMemoryProjectDirectoryFactory inMemoryProjectDirectoryFactory() {
+			return new InMemoryProjectDirectoryFactory();
+		}
+
+	}
+
 	/**
 	 * Initializr web configuration.
 	 */
@@ -143,18 +265,101 @@ public class InitializrAutoConfiguration {
 		ProjectGenerationController<ProjectRequest> projectGenerationController(
 				InitializrMetadataProvider metadataProvider,
 				ObjectProvider<ProjectRequestPlatformVersionTransformer> platformVersionTransformer,
+				ObjectProvider<ProjectArchiveCache> projectArchiveCache,
+				ObjectProvider<ProjectGenerationContextFactory> projectGenerationContextFactory,
+				ObjectProvider<ParallelProjectAssetGenerator> parallelProjectAssetGenerator,
+				ObjectProvider<ProjectArchiveFragments> projectArchiveFragments, InitializrWebProperties properties,
 				ApplicationContext applicationContext) {
 			ProjectGenerationInvoker<ProjectRequest> projectGenerationInvoker = new ProjectGenerationInvoker<>(
 					applicationContext, new DefaultProjectRequestToDescriptionConverter(platformVersionTransformer
 						.getIfAvailable(DefaultProjectRequestPlatformVersionTransformer::new)));
-			return new DefaultProjectGenerationController(metadataProvider, projectGenerationInvoker);
+			projectGenerationInvoker.setProjectArchiveCache(projectArchiveCache.getIfAvailable());
+			projectGenerationInvoker
+				.setProjectGenerationContextFactory(projectGenerationContextFactory.getIfAvailable());
+			projectGenerationInvoker
+				.setCoalesceIdenticalRequests(properties.getGeneration().isCoalesceIdenticalRequests());
+			projectGenerationInvoker.setCoalescingTimeout(properties.getGeneration().getCoalescingTimeout());
+			projectGenerationInvoker
+				.setCoalescingMaxInMemorySize(properties.getGeneration().getCoalescingMaxInMemorySize().toBytes());
+			projectGenerationInvoker.setPreFilterConfigurations(properties.getGeneration().isPreFilterConfigurations());
+			parallelProjectAssetGenerator.ifAvailable(projectGenerationInvoker::setProjectAssetGenerator);
+			DefaultProjectGenerationController controller = new DefaultProjectGenerationController(metadataProvider,
+					projectGenerationInvoker);
+			controller.setProjectArchiveFragments(projectArchiveFragments.getIfAvailable());
+			controller.setStreamArchives(properties.getGeneration().isStreamArchives());
+			return controller;
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(name = "initializr.web.generation.share-configuration-model", havingValue = "true")
+		ProjectGenerationContextFactory projectGenerationContextFactory(ApplicationContext applicationContext) {
+			return new ProjectGenerationContextFactory(applicationContext.getClassLoader());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(name = "initializr.web.generation.contributors.parallel", havingValue = "true")
+		ParallelProjectAssetGenerator parallelProjectAssetGenerator(InitializrWebProperties properties,
+				@Qualifier("initializrContributorExecutor") Executor contributorExecutor) {
+			return new ParallelProjectAssetGenerator(contributorExecutor,
+					properties.getGeneration().getContributors().getConcurrencyLimit());
+		}
+
+		@Bean(defaultCandidate = false)
+		@ConditionalOnProperty(name = "initializr.web.generation.contributors.parallel", havingValue = "true")
+		AsyncTaskExecutor initializrContributorExecutor(InitializrWebProperties properties, Environment environment) {
+			if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+				SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("initializr-contributor-");
+				executor.setVirtualThreads(true);
+				return executor;
+			}
+			// No queue, the generating thread takes over if no thread is free
+			int poolSize = properties.getGeneration().getContributors().getPoolSize();
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("initializr-contributor-");
+			executor.setCorePoolSize(poolSize);
+			executor.setMaxPoolSize(poolSize);
+			executor.setQueueCapacity(0);
+			executor.setAllowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(name = "initializr.web.generation.reuse-compressed-entries", havingValue = "true")
+		ProjectArchiveFragments projectArchiveFragments(InitializrWebProperties properties) {
+			return new ProjectArchiveFragments(properties.getGeneration().getCompressedEntriesMaxSize().toBytes());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(name = "initializr.web.generation.cache.enabled", havingValue = "true")
+		@Nullable ProjectArchiveCache projectArchiveCache(InitializrWebProperties properties,
+				ObjectProvider<CacheManager> cacheManager) {
+			CacheManager manager = cacheManager.getIfAvailable();
+			Cache cache = (manager != null) ? manager.getCache("initializr.project-archives") : null;
+			return (cache != null)
+					? new ProjectArchiveCache(cache, properties.getGeneration().getCache().getMaxSize().toBytes())
+					: null;
 		}
 
 		@Bean
 		@ConditionalOnMissingBean
 		ProjectMetadataController projectMetadataController(InitializrMetadataProvider metadataProvider,
-				DependencyMetadataProvider dependencyMetadataProvider) {
-			return new ProjectMetadataController(metadataProvider, dependencyMetadataProvider);
+				DependencyMetadataProvider dependencyMetadataProvider,
+				ObjectProvider<MetadataContentCache> metadataContentCache) {
+			ProjectMetadataController controller = new ProjectMetadataController(metadataProvider,
+					dependencyMetadataProvider);
+			controller.setMetadataContentCache(metadataContentCache.getIfAvailable());
+			return controller;
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(name = "initializr.web.metadata.cache-content", havingValue = "true")
+		MetadataContentCache metadataContentCache() {
+			return new MetadataContentCache(256);
 		}
 
 		@Bean
@@ -200,6 +405,7 @@ public class InitializrAutoConfiguration {
 					() -> config().setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.TEN_MINUTES)));
 			createMissingCache(cacheManager, "initializr.dependency-metadata", this::config);
 			createMissingCache(cacheManager, "initializr.project-resources", this::config);
+			createMissingCache(cacheManager, "initializr.project-archives", this::config);
 			createMissingCache(cacheManager, "initializr.templates", this::config);
 		}
 
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.autoconfigure;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Service-related properties that tune how Initializr serves its endpoints.
+ *
+ * @author agent
+ */
+@ConfigurationProperties("initializr.web")
+public class InitializrWebProperties {
+
+	@NestedConfigurationProperty
+	private final Generation generation = new Generation();
+
+	@NestedConfigurationProperty
+	private final Metadata metadata = new Metadata();
+
+	public Generation getGeneration() {
+		return this.generation;
+	}
+
+	public Metadata getMetadata() {
+		return this.metadata;
+	}
+
+	/**
+	 * Project generation configuration.
+	 */
+	public static final class Generation {
+
+		/**
+		 * Whether to generate projects in an in-memory file system rather than in a
+		 * temporary directory of the local disk. Requires "com.google.jimfs:jimfs".
+		 */
+		private boolean inMemory;
+
+		/**
+		 * Whether archives should be written directly to the response rather than
+		 * buffered in memory.
+		 */
+		private boolean streamArchives;
+
+		/**
+		 * Whether identical requests that are processed concurrently should share a
+		 * single generation. Archives of coalesced requests are written before they are
+		 * sent, in memory or in a temporary file if they are larger than
+		 * "coalescing-max-in-memory-size".
+		 */
+		private boolean coalesceIdenticalRequests;
+
+		/**
+		 * Maximum time a request waits for an identical request to complete before
+		 * generating its own archive.
+		 */
+		private Duration coalescingTimeout = Duration.ofSeconds(10);
+
+		/**
+		 * Maximum size of a coalesced archive that is held in memory. Larger archives are
+		 * written to a temporary file.
+		 */
+		private DataSize coalescingMaxInMemorySize = DataSize.ofMegabytes(1);
+
+		/**
+		 * Whether the class files of project generation configurations should be parsed
+		 * once and shared by all projects rather than parsed for each project.
+		 */
+		private boolean shareConfigurationModel;
+
+		/**
+		 * Whether project generation configurations whose build system or language
+		 * conditions do not match the project should be discarded before they are
+		 * processed.
+		 */
+		private boolean preFilterConfigurations;
+
+		/**
+		 * Whether the compressed form of the files that are shared by many projects, such
+		 * as the wrapper files, should be reused rather than compressed again for each
+		 * zip archive.
+		 */
+		private boolean reuseCompressedEntries;
+
+		/**
+		 * Maximum size of the compressed entries that are retained for reuse.
+		 */
+		private DataSize compressedEntriesMaxSize = DataSize.ofMegabytes(16);
+
+		@NestedConfigurationProperty
+		private final Cache cache = new Cache();
+
+		@NestedConfigurationProperty
+		private final Contributors contributors = new Contributors();
+
+		public boolean isInMemory() {
+			return this.inMemory;
+		}
+
+		public void setInMemory(boolean inMemory) {
+			this.inMemory = inMemory;
+		}
+
+		public boolean isStreamArchives() {
+			return this.streamArchives;
+		}
+
+		public void setStreamArchives(boolean streamArchives) {
+			this.streamArchives = streamArchives;
+		}
+
+		public boolean isCoalesceIdenticalRequests() {
+			return this.coalesceIdenticalRequests;
+		}
+
+		public void setCoalesceIdenticalRequests(boolean coalesceIdenticalRequests) {
+			this.coalesceIdenticalRequests = coalesceIdenticalRequests;
+		}
+
+		public Duration getCoalescingTimeout() {
+			return this.coalescingTimeout;
+		}
+
+		public void setCoalescingTimeout(Duration coalescingTimeout) {
+			this.coalescingTimeout = coalescingTimeout;
+		}
+
+		public DataSize getCoalescingMaxInMemorySize() {
+			return this.coalescingMaxInMemorySize;
+		}
+
+		public void setCoalescingMaxInMemorySize(DataSize coalescingMaxInMemorySize) {
+			this.coalescingMaxInMemorySize = coalescingMaxInMemorySize;
+		}
+
+		public boolean isShareConfigurationModel() {
+			return this.shareConfigurationModel;
+		}
+
+		public void setShareConfigurationModel(boolean shareConfigurationModel) {
+			this.shareConfigurationModel = shareConfigurationModel;
+		}
+
+		public boolean isPreFilterConfigurations() {
+			return this.preFilterConfigurations;
+		}
+
+		public void setPreFilterConfigurations(boolean preFilterConfigurations) {
+			this.preFilterConfigurations = preFilterConfigurations;
+		}
+
+		public boolean isReuseCompressedEntries() {
+			return this.reuseCompressedEntries;
+		}
+
+		public void setReuseCompressedEntries(boolean reuseCompressedEntries) {
+			this.reuseCompressedEntries = reuseCompressedEntries;
+		}
+
+		public DataSize getCompressedEntriesMaxSize() {
+			return this.compressedEntriesMaxSize;
+		}
+
+		public void setCompressedEntriesMaxSize(DataSize compressedEntriesMaxSize) {
+			this.compressedEntriesMaxSize = compressedEntriesMaxSize;
+		}
+
+		public Cache getCache() {
+			return this.cache;
+		}
+
+		public Contributors getContributors() {
+			return this.contributors;
+		}
+
+	}
+
+	/**
+	 * Generated archives cache configuration.
+	 */
+	public static final class Cache {
+
+		/**
+		 * Whether to reuse the archive of a project that has already been generated with
+		 * the same attributes and metadata.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum size of all cached archives.
+		 */
+		private DataSize maxSize = DataSize.ofMegabytes(64);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(DataSize maxSize) {
+			this.maxSize = maxSize;
+		}
+
+	}
+
+	/**
+	 * Project contributors configuration.
+	 */
+	public static final class Contributors {
+
+		/**
+		 * Whether independent project contributors should be invoked concurrently.
+		 */
+		private boolean parallel;
+
+		/**
+		 * Maximum number of contributors of a project that can be invoked concurrently,
+		 * including by the thread that generates the project.
+		 */
+		private int concurrencyLimit = 4;
+
+		/**
+		 * Maximum number of threads, shared by all generations, that invoke project
+		 * contributors. Ignored when virtual threads are enabled.
+		 */
+		private int poolSize = 8;
+
+		public boolean isParallel() {
+			return this.parallel;
+		}
+
+		public void setParallel(boolean parallel) {
+			this.parallel = parallel;
+		}
+
+		public int getConcurrencyLimit() {
+			return this.concurrencyLimit;
+		}
+
+		public void setConcurrencyLimit(int concurrencyLimit) {
+			this.concurrencyLimit = concurrencyLimit;
+		}
+
+		public int getPoolSize() {
+			return this.poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+	}
+
+	/**
+	 * Metadata configuration.
+	 */
+	public static final class Metadata {
+
+		/**
+		 * Whether the metadata should be updated in the background on a schedule rather
+		 * than when a request finds that the cached metadata has expired.
+		 */
+		private boolean backgroundRefresh;
+
+		/**
+		 * Delay between two background updates of the metadata.
+		 */
+		private Duration refreshInterval = Duration.ofMinutes(10);
+
+		/**
+		 * Maximum random delay added to the refresh interval.
+		 */
+		private Duration refreshJitter = Duration.ofMinutes(1);
+
+		/**
+		 * Whether an update should create a new snapshot of the metadata rather than
+		 * modify the metadata that is currently in use.
+		 */
+		private boolean copyOnWrite;
+
+		/**
+		 * Whether the content rendered from the metadata, and its ETag, should be cached
+		 * until the metadata is updated.
+		 */
+		private boolean cacheContent;
+
+		@NestedConfigurationProperty
+		private final Dependencies dependencies = new Dependencies();
+
+		public boolean isBackgroundRefresh() {
+			return this.backgroundRefresh;
+		}
+
+		public void setBackgroundRefresh(boolean backgroundRefresh) {
+			this.backgroundRefresh = backgroundRefresh;
+		}
+
+		public Duration getRefreshInterval() {
+			return this.refreshInterval;
+		}
+
+		public void setRefreshInterval(Duration refreshInterval) {
+			this.refreshInterval = refreshInterval;
+		}
+
+		public Duration getRefreshJitter() {
+			return this.refreshJitter;
+		}
+
+		public void setRefreshJitter(Duration refreshJitter) {
+			this.refreshJitter = refreshJitter;
+		}
+
+		public boolean isCopyOnWrite() {
+			return this.copyOnWrite;
+		}
+
+		public void setCopyOnWrite(boolean copyOnWrite) {
+			this.copyOnWrite = copyOnWrite;
+		}
+
+		public boolean isCacheContent() {
+			return this.cacheContent;
+		}
+
+		public void setCacheContent(boolean cacheContent) {
+			this.cacheContent = cacheContent;
+		}
+
+		public Dependencies getDependencies() {
+			return this.dependencies;
+		}
+
+	}
+
+	/**
+	 * Dependency metadata configuration.
+	 */
+	public static final class Dependencies {
+
+		/**
+		 * Whether the dependency metadata of every Spring Boot version should be built as
+		 * soon as the metadata is updated rather than when it is first requested.
+		 */
+		private boolean eager;
+
+		/**
+		 * Whether the dependency metadata of each Spring Boot version should be built
+		 * concurrently, if built eagerly.
+		 */
+		private boolean parallel;
+
+		public boolean isEager() {
+			return this.eager;
+		}
+
+		public void setEager(boolean eager) {
+			this.eager = eager;
+		}
+
+		public boolean isParallel() {
+			return this.parallel;
+		}
+
+		public void setParallel(boolean parallel) {
+			this.parallel = parallel;
+		}
+
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Hold the content rendered from a given {@linkplain InitializrMetadata#getRevision()
+ * revision} of the metadata, alongside its ETag. Such content can be served again without
+ * serializing the metadata, and a conditional request can be answered without computing
+ * anything.
+ * <p>
+ * Contents are keyed by the revision of the metadata and an arbitrary key that identifies
+ * the parameters used to render the content, such as the metadata version or the URL of
+ * the service. Contents of previous revisions are discarded as soon as a new revision is
+ * requested. The number of contents held for a revision is bounded, as some parameters
+ * are derived from the request.
+ *
+ * @author agent
+ */
+public class MetadataContentCache {
+
+	private final Object monitor = new Object();
+
+	private final Map<Object, Content> contents;
+
+	private long revision = -1;
+
+	/**
+	 * Create an instance.
+	 * @param maxEntries the maximum number of contents to hold for a revision
+	 */
+	public MetadataContentCache(int maxEntries) {
+		this.contents = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Content> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+	}
+
+	/**
+	 * Return the {@link Content} for the specified {@link InitializrMetadata metadata}
+	 * and key, rendering it if necessary.
+	 * @param metadata the metadata
+	 * @param key the key that identifies the parameters used to render the content
+	 * @param renderer the renderer to use if no content is available
+	 * @return the content
+	 */
+	public Content get(InitializrMetadata metadata, Object key, Supplier<Content> renderer) {
+		long revision = metadata.getRevision();
+		synchronized (this.monitor) {
+			if (this.revision == revision) {
+				Content content = this.contents.get(key);
+				if (content != null) {
+					return content;
+				}
+			}
+		}
+		Content content = compress(renderer.get());
+		synchronized (this.monitor) {
+			if (this.revision < revision) {
+				this.contents.clear();
+				this.revision = revision;
+			}
+			if (this.revision == revision) {
+				this.contents.put(key, content);
+			}
+		}
+		return content;
+	}
+
+	private Content compress(Content content) {
+		if (content.gzipBody() != null) {
+			return content;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream(content.body().length / 4);
+		try (OutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(content.body());
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+		byte[] gzipBody = out.toByteArray();
+		return (gzipBody.length < content.body().length) ? new Content(content.body(), content.eTag(), gzipBody)
+				: content;
+	}
+
+	/**
+	 * A content rendered from the metadata.
+	 *
+	 * @param body the body, encoded in UTF-8
+	 * @param eTag the ETag of the body
+	 * @param gzipBody the body compressed with gzip, or {@code null} if no compressed
+	 * variant is available
+	 */
+	public record Content(byte[] body, String eTag, byte @Nullable [] gzipBody) {
+
+		/**
+		 * Create an instance with no compressed variant.
+		 * @param body the body, encoded in UTF-8
+		 * @param eTag the ETag of the body
+		 */
+		public Content(byte[] body, String eTag) {
+			this(body, eTag, null);
+		}
+
+	}
+
+}
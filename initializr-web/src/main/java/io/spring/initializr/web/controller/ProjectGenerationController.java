@@ -16,7 +16,7 @@
 
 package io.spring.initializr.web.controller;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URLEncoder;
@@ -25,9 +25,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 
 import io.spring.initializr.generator.buildsystem.BuildSystem;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
@@ -35,6 +35,8 @@ import io.spring.initializr.generator.project.ProjectDescription;
 import io.spring.initializr.metadata.InitializrMetadata;
 import io.spring.initializr.metadata.InitializrMetadataProvider;
 import io.spring.initializr.web.project.InvalidProjectRequestException;
+import io.spring.initializr.web.project.ProjectArchive;
+import io.spring.initializr.web.project.ProjectArchiveFragments;
 import io.spring.initializr.web.project.ProjectGenerationInvoker;
 import io.spring.initializr.web.project.ProjectGenerationResult;
 import io.spring.initializr.web.project.ProjectRequest;
@@ -54,6 +56,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -62,6 +65,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Base {@link RestController} that provides endpoints for project generation.
@@ -78,12 +82,36 @@ public abstract class ProjectGenerationController<R extends ProjectRequest> {
 
 	private final ProjectGenerationInvoker<R> projectGenerationInvoker;
 
+	private @Nullable ProjectArchiveFragments projectArchiveFragments;
+
+	private boolean streamArchives;
+
 	public ProjectGenerationController(InitializrMetadataProvider metadataProvider,
 			ProjectGenerationInvoker<R> projectGenerationInvoker) {
 		this.metadataProvider = metadataProvider;
 		this.projectGenerationInvoker = projectGenerationInvoker;
 	}
 
+	/**
+	 * Set the {@link ProjectArchiveFragments} to use to add the contents that are shared
+	 * by many projects to zip archives without compressing them again.
+	 * @param projectArchiveFragments the fragments to use, or {@code null} to compress
+	 * all contents
+	 */
+	public void setProjectArchiveFragments(@Nullable ProjectArchiveFragments projectArchiveFragments) {
+		this.projectArchiveFragments = projectArchiveFragments;
+	}
+
+	/**
+	 * Specify whether archives should be written directly to the response. By default, an
+	 * archive is written to a temporary file before the response is sent so that a
+	 * failure can still be reported with an error status.
+	 * @param streamArchives whether archives should be streamed to the response
+	 */
+	public void setStreamArchives(boolean streamArchives) {
+		this.streamArchives = streamArchives;
+	}
+
 	@ModelAttribute
 	R projectRequest(@RequestHeader Map<String, String> headers,
 			@RequestParam(name = "style", required = false) @Nullable String style) {
@@ -126,25 +154,20 @@ public abstract class ProjectGenerationController<R extends ProjectRequest> {
 	}
 
 	@RequestMapping(path = "/starter.zip", method = { RequestMethod.GET, RequestMethod.POST })
-	public ResponseEntity<byte[]> springZip(R request) throws IOException {
-		ProjectGenerationResult result = this.projectGenerationInvoker.invokeProjectStructureGeneration(request);
-		Path archive = createArchive(result, "zip", ZipArchiveOutputStream::new, ZipArchiveEntry::new,
-				ZipArchiveEntry::setUnixMode);
-		String artifactId = result.getProjectDescription().getArtifactId();
-		Assert.state(artifactId != null, "'artifactId' must not be null");
-		return upload(archive, result.getRootDirectory(), generateFileName(artifactId, "zip"), "application/zip");
+	public ResponseEntity<StreamingResponseBody> springZip(R request) throws IOException {
+		ProjectArchive archive = this.projectGenerationInvoker.invokeProjectArchiveGeneration(request, "zip",
+				(result, output) -> writeArchive(result, output, ZipArchiveOutputStream::new,
+						this::createZipArchiveEntry, ZipArchiveEntry::setUnixMode, this::writeZipArchiveEntry));
+		return upload(archive, "zip", "application/zip");
 	}
 
 	@RequestMapping(path = "/starter.tgz", method = { RequestMethod.GET, RequestMethod.POST },
 			produces = "application/x-compress")
-	public ResponseEntity<byte[]> springTgz(R request) throws IOException {
-		ProjectGenerationResult result = this.projectGenerationInvoker.invokeProjectStructureGeneration(request);
-		Path archive = createArchive(result, "tar.gz", this::createTarArchiveOutputStream, TarArchiveEntry::new,
-				TarArchiveEntry::setMode);
-		String artifactId = result.getProjectDescription().getArtifactId();
-		Assert.state(artifactId != null, "'artifactId' must not be null");
-		return upload(archive, result.getRootDirectory(), generateFileName(artifactId, "tar.gz"),
-				"application/x-compress");
+	public ResponseEntity<StreamingResponseBody> springTgz(R request) throws IOException {
+		ProjectArchive archive = this.projectGenerationInvoker.invokeProjectArchiveGeneration(request, "tar.gz",
+				(result, output) -> writeArchive(result, output, this::createTarArchiveOutputStream,
+						this::createTarArchiveEntry, TarArchiveEntry::setMode, this::writeArchiveEntry));
+		return upload(archive, "tar.gz", "application/x-compress");
 	}
 
 	private TarArchiveOutputStream createTarArchiveOutputStream(OutputStream output) {
@@ -159,25 +182,36 @@ public abstract class ProjectGenerationController<R extends ProjectRequest> {
 		}
 	}
 
-	private <T extends ArchiveEntry> Path createArchive(ProjectGenerationResult result, String fileExtension,
+	private ZipArchiveEntry createZipArchiveEntry(Path path, String entryName) throws IOException {
+		ZipArchiveEntry entry = new ZipArchiveEntry(entryName);
+		entry.setTime(Files.getLastModifiedTime(path));
+		return entry;
+	}
+
+	private TarArchiveEntry createTarArchiveEntry(Path path, String entryName) throws IOException {
+		TarArchiveEntry entry = new TarArchiveEntry(entryName);
+		entry.setModTime(Files.getLastModifiedTime(path));
+		entry.setUserName("");
+		if (!Files.isDirectory(path)) {
+			entry.setSize(Files.size(path));
+		}
+		return entry;
+	}
+
+	private <T extends ArchiveEntry> void writeArchive(ProjectGenerationResult result, OutputStream target,
 			Function<OutputStream, ? extends ArchiveOutputStream<T>> archiveOutputStream,
-			BiFunction<File, String, T> archiveEntry, BiConsumer<T, Integer> setMode) throws IOException {
-		Path archive = this.projectGenerationInvoker.createDistributionFile(result.getRootDirectory(),
-				"." + fileExtension);
+			ArchiveEntryFactory<T> archiveEntry, BiConsumer<T, Integer> setMode, ArchiveEntryWriter<T> entryWriter)
+			throws IOException {
 		String wrapperScript = getWrapperScript(result.getProjectDescription());
-		try (ArchiveOutputStream<T> output = archiveOutputStream.apply(Files.newOutputStream(archive))) {
+		try (ArchiveOutputStream<T> output = archiveOutputStream.apply(StreamUtils.nonClosing(target))) {
 			Stream<Path> files = Files.walk(result.getRootDirectory());
 			try (files) {
 				files.filter((path) -> !result.getRootDirectory().equals(path)).forEach((path) -> {
 					try {
 						String entryName = getEntryName(result.getRootDirectory(), path);
-						T entry = archiveEntry.apply(path.toFile(), entryName);
+						T entry = archiveEntry.create(path, entryName);
 						setMode.accept(entry, getUnixMode(wrapperScript, entryName, path));
-						output.putArchiveEntry(entry);
-						if (!Files.isDirectory(path)) {
-							Files.copy(path, output);
-						}
-						output.closeArchiveEntry();
+						entryWriter.write(output, entry, path);
 					}
 					catch (IOException ex) {
 						throw new IllegalStateException(ex);
@@ -185,7 +219,39 @@ public abstract class ProjectGenerationController<R extends ProjectRequest> {
 				});
 			}
 		}
-		return archive;
+	}
+
+	private <T extends ArchiveEntry> void writeArchiveEntry(ArchiveOutputStream<T> output, T entry, Path path)
+			throws IOException {
+		output.putArchiveEntry(entry);
+		if (!Files.isDirectory(path)) {
+			Files.copy(path, output);
+		}
+		output.closeArchiveEntry();
+	}
+
+	private void writeZipArchiveEntry(ArchiveOutputStream<ZipArchiveEntry> output, ZipArchiveEntry entry, Path path)
+			throws IOException {
+		ProjectArchiveFragments fragments = this.projectArchiveFragments;
+		if (fragments == null || Files.isDirectory(path) || !(output instanceof ZipArchiveOutputStream zipOutput)
+				|| !fragments.isShared(entry.getName(), Files.size(path))) {
+			writeArchiveEntry(output, entry, path);
+			return;
+		}
+		byte[] content = Files.readAllBytes(path);
+		ProjectArchiveFragments.Fragment fragment = fragments.get(content);
+		if (fragment != null) {
+			entry.setMethod(ZipEntry.DEFLATED);
+			entry.setCrc(fragment.crc());
+			entry.setSize(content.length);
+			entry.setCompressedSize(fragment.compressedContent().length);
+			zipOutput.addRawArchiveEntry(entry, new ByteArrayInputStream(fragment.compressedContent()));
+		}
+		else {
+			zipOutput.putArchiveEntry(entry);
+			zipOutput.write(content);
+			zipOutput.closeArchiveEntry();
+		}
 	}
 
 	private String getEntryName(Path root, Path path) {
@@ -221,21 +287,100 @@ public abstract class ProjectGenerationController<R extends ProjectRequest> {
 		return (description.getBaseDirectory() != null) ? description.getBaseDirectory() + "/" + script : script;
 	}
 
-	private ResponseEntity<byte[]> upload(Path archive, Path dir, String fileName, String contentType)
+	private ResponseEntity<StreamingResponseBody> upload(ProjectArchive archive, String extension, String contentType)
 			throws IOException {
-		byte[] bytes = Files.readAllBytes(archive);
-		logger.info("Uploading: %s (%s bytes)".formatted(archive, bytes.length));
-		ResponseEntity<byte[]> result = createResponseEntity(bytes, contentType, fileName);
-		this.projectGenerationInvoker.cleanTempFiles(dir);
-		return result;
+		String fileName;
+		try {
+			String artifactId = archive.getProjectDescription().getArtifactId();
+			Assert.state(artifactId != null, "'artifactId' must not be null");
+			fileName = generateFileName(artifactId, extension);
+		}
+		catch (RuntimeException ex) {
+			archive.close();
+			throw ex;
+		}
+		if (this.streamArchives) {
+			logger.info("Streaming: %s".formatted(fileName));
+			return createResponseEntity((output) -> {
+				try (archive) {
+					archive.writeTo(output);
+				}
+			}, null, contentType, fileName);
+		}
+		Path file = writeToTempFile(archive, extension);
+		long size = Files.size(file);
+		logger.info("Uploading: %s (%s bytes)".formatted(fileName, size));
+		return createResponseEntity((output) -> {
+			try {
+				Files.copy(file, output);
+			}
+			finally {
+				Files.deleteIfExists(file);
+			}
+		}, size, contentType, fileName);
+	}
+
+	private Path writeToTempFile(ProjectArchive archive, String extension) throws IOException {
+		try (archive) {
+			Path file = Files.createTempFile("project-", "." + extension);
+			try {
+				try (OutputStream output = Files.newOutputStream(file)) {
+					archive.writeTo(output);
+				}
+				return file;
+			}
+			catch (IOException | RuntimeException ex) {
+				Files.deleteIfExists(file);
+				throw ex;
+			}
+		}
+	}
+
+	private ResponseEntity<StreamingResponseBody> createResponseEntity(StreamingResponseBody body,
+			@Nullable Long contentLength, String contentType, String fileName) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.header("Content-Type", contentType)
+			.header("Content-Disposition", getContentDisposition(fileName));
+		if (contentLength != null) {
+			builder.contentLength(contentLength);
+		}
+		return builder.body(body);
 	}
 
 	private ResponseEntity<byte[]> createResponseEntity(byte[] content, String contentType, String fileName) {
-		String contentDispositionValue = "attachment; filename=\"" + fileName + "\"";
 		return ResponseEntity.ok()
 			.header("Content-Type", contentType)
-			.header("Content-Disposition", contentDispositionValue)
+			.header("Content-Disposition", getContentDisposition(fileName))
 			.body(content);
 	}
 
+	private String getContentDisposition(String fileName) {
+		return "attachment; filename=\"" + fileName + "\"";
+	}
+
+	/**
+	 * Create an {@link ArchiveEntry} for a file of the project structure.
+	 *
+	 * @param <T> the type of the entry
+	 */
+	@FunctionalInterface
+	private interface ArchiveEntryFactory<T extends ArchiveEntry> {
+
+		T create(Path path, String entryName) throws IOException;
+
+	}
+
+	/**
+	 * Write an {@link ArchiveEntry} and the content of the related file of the project
+	 * structure.
+	 *
+	 * @param <T> the type of the entry
+	 */
+	@FunctionalInterface
+	private interface ArchiveEntryWriter<T extends ArchiveEntry> {
+
+		void write(ArchiveOutputStream<T> output, T entry, Path path) throws IOException;
+
+	}
+
 }
@@ -17,7 +17,10 @@
 package io.spring.initializr.web.controller;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.metadata.DefaultMetadataElement;
@@ -40,12 +43,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -63,58 +70,79 @@ public class ProjectMetadataController extends AbstractMetadataController {
 	 */
 	public static final MediaType HAL_JSON_CONTENT_TYPE = MediaType.parseMediaType("application/hal+json");
 
+	private static final String GZIP = "gzip";
+
 	private final DependencyMetadataProvider dependencyMetadataProvider;
 
+	private @Nullable MetadataContentCache metadataContentCache;
+
 	public ProjectMetadataController(InitializrMetadataProvider metadataProvider,
 			DependencyMetadataProvider dependencyMetadataProvider) {
 		super(metadataProvider);
 		this.dependencyMetadataProvider = dependencyMetadataProvider;
 	}
 
+	/**
+	 * Set the {@link MetadataContentCache} to use to hold the content rendered for each
+	 * revision of the metadata. If none is set, the content is rendered for each request.
+	 * @param metadataContentCache the metadata content cache to use or {@code null}
+	 */
+	public void setMetadataContentCache(@Nullable MetadataContentCache metadataContentCache) {
+		this.metadataContentCache = metadataContentCache;
+	}
+
 	@GetMapping(path = "/metadata/config", produces = "application/json")
 	public InitializrMetadata config() {
 		return this.metadataProvider.get();
 	}
 
 	@GetMapping(path = { "/", "/metadata/client" }, produces = "application/hal+json")
-	public ResponseEntity<String> serviceCapabilitiesHal() {
-		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_1, HAL_JSON_CONTENT_TYPE);
+	public ResponseEntity<byte[]> serviceCapabilitiesHal(
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_1, HAL_JSON_CONTENT_TYPE, acceptEncoding);
 	}
 
 	@GetMapping(path = { "/", "/metadata/client" }, produces = { "application/vnd.initializr.v2.3+json" })
-	public ResponseEntity<String> serviceCapabilitiesV23() {
-		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_3);
+	public ResponseEntity<byte[]> serviceCapabilitiesV23(
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_3, acceptEncoding);
 	}
 
 	@GetMapping(path = { "/", "/metadata/client" }, produces = { "application/vnd.initializr.v2.2+json" })
-	public ResponseEntity<String> serviceCapabilitiesV22() {
-		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_2);
+	public ResponseEntity<byte[]> serviceCapabilitiesV22(
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_2, acceptEncoding);
 	}
 
 	@GetMapping(path = { "/", "/metadata/client" },
 			produces = { "application/vnd.initializr.v2.1+json", "application/json" })
-	public ResponseEntity<String> serviceCapabilitiesV21() {
-		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_1);
+	public ResponseEntity<byte[]> serviceCapabilitiesV21(
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return serviceCapabilitiesFor(InitializrMetadataVersion.V2_1, acceptEncoding);
 	}
 
 	@GetMapping(path = { "/", "/metadata/client" }, produces = "application/vnd.initializr.v2+json")
-	public ResponseEntity<String> serviceCapabilitiesV2() {
-		return serviceCapabilitiesFor(InitializrMetadataVersion.V2);
+	public ResponseEntity<byte[]> serviceCapabilitiesV2(
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return serviceCapabilitiesFor(InitializrMetadataVersion.V2, acceptEncoding);
 	}
 
 	@GetMapping(path = "/dependencies", produces = "application/vnd.initializr.v2.3+json")
-	public ResponseEntity<String> dependenciesV23(@RequestParam(required = false) String bootVersion) {
-		return dependenciesFor(InitializrMetadataVersion.V2_3, bootVersion);
+	public ResponseEntity<byte[]> dependenciesV23(@RequestParam(required = false) String bootVersion,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return dependenciesFor(InitializrMetadataVersion.V2_3, bootVersion, acceptEncoding);
 	}
 
 	@GetMapping(path = "/dependencies", produces = "application/vnd.initializr.v2.2+json")
-	public ResponseEntity<String> dependenciesV22(@RequestParam(required = false) String bootVersion) {
-		return dependenciesFor(InitializrMetadataVersion.V2_2, bootVersion);
+	public ResponseEntity<byte[]> dependenciesV22(@RequestParam(required = false) String bootVersion,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return dependenciesFor(InitializrMetadataVersion.V2_2, bootVersion, acceptEncoding);
 	}
 
 	@GetMapping(path = "/dependencies", produces = { "application/vnd.initializr.v2.1+json", "application/json" })
-	public ResponseEntity<String> dependenciesV21(@RequestParam(required = false) String bootVersion) {
-		return dependenciesFor(InitializrMetadataVersion.V2_1, bootVersion);
+	public ResponseEntity<byte[]> dependenciesV21(@RequestParam(required = false) String bootVersion,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+		return dependenciesFor(InitializrMetadataVersion.V2_1, bootVersion, acceptEncoding);
 	}
 
 	@ExceptionHandler
@@ -145,10 +173,11 @@ public class ProjectMetadataController extends AbstractMetadataController {
 	 * Boot version.
 	 * @param metadataVersion the metadata version
 	 * @param bootVersion the Spring Boot version.
+	 * @param acceptEncoding the {@code Accept-Encoding} header of the request, if any
 	 * @return the {@link ResponseEntity}
 	 */
-	protected ResponseEntity<String> dependenciesFor(InitializrMetadataVersion metadataVersion,
-			@Nullable String bootVersion) {
+	protected ResponseEntity<byte[]> dependenciesFor(InitializrMetadataVersion metadataVersion,
+			@Nullable String bootVersion, @Nullable String acceptEncoding) {
 		InitializrMetadata metadata = this.metadataProvider.get();
 		Version effectiveBootVersion = (bootVersion != null) ? Version.parse(bootVersion)
 				: getDefaultBootVersion(metadata);
@@ -157,13 +186,13 @@ public class ProjectMetadataController extends AbstractMetadataController {
 			throw new InvalidProjectRequestException("Invalid Spring Boot version '" + bootVersion
 					+ "', Spring Boot compatibility range is " + platform.determineCompatibilityRangeRequirement());
 		}
-		DependencyMetadata dependencyMetadata = this.dependencyMetadataProvider.get(metadata, effectiveBootVersion);
-		String content = createDependencyJsonMapper(metadataVersion).write(dependencyMetadata);
-		return ResponseEntity.ok()
-			.contentType(metadataVersion.getMediaType())
-			.eTag(createUniqueId(content))
-			.cacheControl(determineCacheControlFor(metadata))
-			.body(content);
+		MetadataContentCache.Content content = getContent(metadata,
+				List.of("dependencies", metadataVersion, effectiveBootVersion.toString()), () -> {
+					DependencyMetadata dependencyMetadata = this.dependencyMetadataProvider.get(metadata,
+							effectiveBootVersion);
+					return createContent(createDependencyJsonMapper(metadataVersion).write(dependencyMetadata));
+				});
+		return createResponse(content, metadataVersion.getMediaType(), metadata, acceptEncoding);
 	}
 
 	private Version getDefaultBootVersion(InitializrMetadata metadata) {
@@ -174,8 +203,9 @@ public class ProjectMetadataController extends AbstractMetadataController {
 		return Version.parse(id);
 	}
 
-	private ResponseEntity<String> serviceCapabilitiesFor(InitializrMetadataVersion metadataVersion) {
-		return serviceCapabilitiesFor(metadataVersion, metadataVersion.getMediaType());
+	private ResponseEntity<byte[]> serviceCapabilitiesFor(InitializrMetadataVersion metadataVersion,
+			@Nullable String acceptEncoding) {
+		return serviceCapabilitiesFor(metadataVersion, metadataVersion.getMediaType(), acceptEncoding);
 	}
 
 	/**
@@ -183,19 +213,73 @@ public class ProjectMetadataController extends AbstractMetadataController {
 	 * version and content type.
 	 * @param metadataVersion the metadata version
 	 * @param contentType the content type
+	 * @param acceptEncoding the {@code Accept-Encoding} header of the request, if any
 	 * @return the {@link ResponseEntity}
 	 */
-	protected ResponseEntity<String> serviceCapabilitiesFor(InitializrMetadataVersion metadataVersion,
-			MediaType contentType) {
+	protected ResponseEntity<byte[]> serviceCapabilitiesFor(InitializrMetadataVersion metadataVersion,
+			MediaType contentType, @Nullable String acceptEncoding) {
 		String appUrl = generateAppUrl();
 		InitializrMetadata metadata = this.metadataProvider.get();
-		String content = createMetadataJsonMapper(metadataVersion).write(metadata, appUrl);
-		return ResponseEntity.ok()
-			.contentType(contentType)
-			.eTag(createUniqueId(content))
-			.varyBy("Accept")
-			.cacheControl(determineCacheControlFor(metadata))
-			.body(content);
+		MetadataContentCache.Content content = getContent(metadata,
+				List.of("capabilities", metadataVersion, contentType, appUrl),
+				() -> createContent(createMetadataJsonMapper(metadataVersion).write(metadata, appUrl)));
+		return createResponse(content, contentType, metadata, acceptEncoding, HttpHeaders.ACCEPT);
+	}
+
+	private ResponseEntity<byte[]> createResponse(MetadataContentCache.Content content, MediaType contentType,
+			InitializrMetadata metadata, @Nullable String acceptEncoding, String... varyHeaders) {
+		BodyBuilder builder = ResponseEntity.ok().contentType(contentType);
+		if (this.metadataContentCache != null) {
+			builder.varyBy(StringUtils.addStringToArray(varyHeaders, HttpHeaders.ACCEPT_ENCODING));
+		}
+		else if (varyHeaders.length > 0) {
+			builder.varyBy(varyHeaders);
+		}
+		builder.cacheControl(determineCacheControlFor(metadata));
+		byte[] gzipBody = content.gzipBody();
+		if (gzipBody != null && isGzipAccepted(acceptEncoding)) {
+			// The compressed body is not byte-for-byte identical to the content
+			return builder.eTag("W/\"" + content.eTag() + "\"")
+				.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+				.body(gzipBody);
+		}
+		return builder.eTag(content.eTag()).body(content.body());
+	}
+
+	private boolean isGzipAccepted(@Nullable String acceptEncoding) {
+		for (String candidate : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+			String[] elements = candidate.split(";");
+			String coding = elements[0].trim();
+			if (coding.equalsIgnoreCase(GZIP) || coding.equals("*")) {
+				return !isExcluded(elements);
+			}
+		}
+		return false;
+	}
+
+	private boolean isExcluded(String[] elements) {
+		for (int i = 1; i < elements.length; i++) {
+			String parameter = elements[i].trim();
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2)) == 0;
+				}
+				catch (NumberFormatException ex) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private MetadataContentCache.Content getContent(InitializrMetadata metadata, Object key,
+			Supplier<MetadataContentCache.Content> renderer) {
+		MetadataContentCache cache = this.metadataContentCache;
+		return (cache != null) ? cache.get(metadata, key, renderer) : renderer.get();
+	}
+
+	private MetadataContentCache.Content createContent(String body) {
+		return new MetadataContentCache.Content(body.getBytes(StandardCharsets.UTF_8), createUniqueId(body));
 	}
 
 	/**
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.spring.initializr.generator.project.ProjectDescription;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An archive that has been generated once and is shared by identical requests that are
+ * processed concurrently. Archives up to a maximum size are held in memory. Larger
+ * archives are written to a temporary file that is deleted once every request that shares
+ * it has released it.
+ *
+ * @author agent
+ */
+final class CoalescedProjectArchive {
+
+	private final ProjectDescription description;
+
+	private final byte @Nullable [] content;
+
+	private final @Nullable Path file;
+
+	private final Object monitor = new Object();
+
+	private int references;
+
+	private boolean released;
+
+	private CoalescedProjectArchive(ProjectDescription description, byte @Nullable [] content, @Nullable Path file) {
+		this.description = description;
+		this.content = content;
+		this.file = file;
+	}
+
+	/**
+	 * Write the specified {@link ProjectArchive.Content content} and create an archive
+	 * that can be shared.
+	 * @param description the description of the generated project
+	 * @param content the content of the archive
+	 * @param maxInMemorySize the maximum size of an archive that is held in memory
+	 * @return the shared archive
+	 * @throws IOException if writing the archive failed
+	 */
+	static CoalescedProjectArchive write(ProjectDescription description, ProjectArchive.Content content,
+			long maxInMemorySize) throws IOException {
+		OverflowingOutputStream output = new OverflowingOutputStream(maxInMemorySize);
+		try {
+			try (output) {
+				content.writeTo(output);
+			}
+			return new CoalescedProjectArchive(description, output.getContent(), output.getFile());
+		}
+		catch (IOException | RuntimeException ex) {
+			deleteFile(output.getFile());
+			throw ex;
+		}
+	}
+
+	/**
+	 * Return the content of the archive if it is held in memory.
+	 * @return the content of the archive, or {@code null} if it has been written to a
+	 * temporary file
+	 */
+	byte @Nullable [] getContent() {
+		return this.content;
+	}
+
+	/**
+	 * Return a {@link ProjectArchive} that writes the content of this archive, or
+	 * {@code null} if the temporary file of this archive has been released already. The
+	 * temporary file is released once every archive returned by this method has been
+	 * written or closed.
+	 * @return a project archive, or {@code null}
+	 */
+	@Nullable ProjectArchive retain() {
+		byte[] content = this.content;
+		if (content != null) {
+			return new ProjectArchive(this.description, (output) -> output.write(content));
+		}
+		Path file = this.file;
+		synchronized (this.monitor) {
+			if (file == null || this.released) {
+				return null;
+			}
+			this.references++;
+		}
+		AtomicBoolean done = new AtomicBoolean();
+		Runnable release = () -> {
+			if (done.compareAndSet(false, true)) {
+				release();
+			}
+		};
+		return new ProjectArchive(this.description, (output) -> {
+			try {
+				Files.copy(file, output);
+			}
+			finally {
+				release.run();
+			}
+		}, release);
+	}
+
+	private void release() {
+		synchronized (this.monitor) {
+			this.references--;
+			if (this.references > 0) {
+				return;
+			}
+			this.released = true;
+		}
+		deleteFile(this.file);
+	}
+
+	private static void deleteFile(@Nullable Path file) {
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException ex) {
+				// Continue
+			}
+		}
+	}
+
+	/**
+	 * An {@link OutputStream} that keeps its content in memory until it exceeds a maximum
+	 * size, and writes it to a temporary file beyond that.
+	 */
+	private static final class OverflowingOutputStream extends OutputStream {
+
+		private final long maxInMemorySize;
+
+		private @Nullable ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		private @Nullable Path file;
+
+		private @Nullable OutputStream fileOutput;
+
+		OverflowingOutputStream(long maxInMemorySize) {
+			this.maxInMemorySize = maxInMemorySize;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ByteArrayOutputStream buffer = this.buffer;
+			if (buffer != null && buffer.size() + len <= this.maxInMemorySize) {
+				buffer.write(b, off, len);
+				return;
+			}
+			getFileOutput().write(b, off, len);
+		}
+
+		private OutputStream getFileOutput() throws IOException {
+			OutputStream fileOutput = this.fileOutput;
+			if (fileOutput == null) {
+				Path file = Files.createTempFile("project-", ".archive");
+				this.file = file;
+				fileOutput = new BufferedOutputStream(Files.newOutputStream(file));
+				this.fileOutput = fileOutput;
+				ByteArrayOutputStream buffer = this.buffer;
+				if (buffer != null) {
+					buffer.writeTo(fileOutput);
+					this.buffer = null;
+				}
+			}
+			return fileOutput;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.fileOutput != null) {
+				this.fileOutput.close();
+			}
+		}
+
+		byte @Nullable [] getContent() {
+			return (this.buffer != null) ? this.buffer.toByteArray() : null;
+		}
+
+		@Nullable Path getFile() {
+			return this.file;
+		}
+
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import io.spring.initializr.generator.project.ProjectDescription;
+
+/**
+ * The content of an archive that has been fully generated in memory.
+ *
+ * @param description the description of the generated project
+ * @param content the content of the archive
+ * @author agent
+ */
+record GeneratedProjectArchive(ProjectDescription description, byte[] content) {
+
+	/**
+	 * Return a {@link ProjectArchive} that writes the content of this archive.
+	 * @return a project archive
+	 */
+	ProjectArchive toProjectArchive() {
+		return new ProjectArchive(this.description, (output) -> output.write(this.content));
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+
+/**
+ * A {@link ProjectDirectoryFactory} that creates project directories in an in-memory
+ * {@link FileSystem}. Content is released as soon as the files are deleted, typically via
+ * {@link ProjectGenerationInvoker#cleanTempFiles(Path)}.
+ *
+ * @author agent
+ */
+public class InMemoryProjectDirectoryFactory implements ProjectDirectoryFactory, Closeable {
+
+	private final FileSystem fileSystem;
+
+	public InMemoryProjectDirectoryFactory() {
+		this.fileSystem = Jimfs.newFileSystem(Configuration.unix()
+			.toBuilder()
+			.setAttributeViews("basic", "owner", "posix", "unix")
+			.setMaxCacheSize(0)
+			.build());
+	}
+
+	@Override
+	public Path createProjectDirectory(ProjectDescription description) throws IOException {
+		return Files.createTempDirectory(this.fileSystem.getPath("/"), "project-");
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.fileSystem.close();
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.spring.initializr.generator.project.ProjectDescription;
+
+/**
+ * An archive of a generated project that can be written to an {@link OutputStream}. An
+ * archive must be closed once it has been written, or if it is not going to be written,
+ * so that the temporary files of the project are cleaned.
+ *
+ * @author agent
+ * @see ProjectGenerationInvoker#invokeProjectArchiveGeneration(ProjectRequest, String,
+ * ProjectArchiver)
+ */
+public class ProjectArchive implements Closeable {
+
+	private final ProjectDescription description;
+
+	private final Content content;
+
+	private final AtomicReference<Runnable> cleanup;
+
+	ProjectArchive(ProjectDescription description, Content content) {
+		this(description, content, () -> {
+		});
+	}
+
+	ProjectArchive(ProjectDescription description, Content content, Runnable cleanup) {
+		this.description = description;
+		this.content = content;
+		this.cleanup = new AtomicReference<>(cleanup);
+	}
+
+	/**
+	 * Return the {@link ProjectDescription} that was used to generate the project.
+	 * @return the project description
+	 */
+	public ProjectDescription getProjectDescription() {
+		return this.description;
+	}
+
+	/**
+	 * Write the archive to the specified {@link OutputStream}. Temporary files associated
+	 * with the project are cleaned once the archive has been written.
+	 * @param output the stream to write the archive to
+	 * @throws IOException if writing the archive failed
+	 */
+	public void writeTo(OutputStream output) throws IOException {
+		this.content.writeTo(output);
+	}
+
+	/**
+	 * Clean the temporary files associated with the project, if any. Does nothing if they
+	 * have been cleaned already.
+	 */
+	@Override
+	public void close() {
+		Runnable cleanup = this.cleanup.getAndSet(null);
+		if (cleanup != null) {
+			cleanup.run();
+		}
+	}
+
+	/**
+	 * The content of an archive.
+	 */
+	@FunctionalInterface
+	interface Content {
+
+		void writeTo(OutputStream output) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.initializr.generator.project.MutableProjectDescription;
+import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+
+/**
+ * A cache of generated project archives. Archives are keyed by the resolved
+ * {@link ProjectDescription}, the format of the archive and the
+ * {@link InitializrMetadata#getRevision() revision} of the metadata used to generate
+ * them. The cache is cleared as soon as a more recent revision of the metadata is used.
+ * <p>
+ * The total size of the cached archives is bounded: the least recently used archives are
+ * evicted once the maximum size is reached. Only descriptions of type
+ * {@link MutableProjectDescription} are cached, as custom description types may hold
+ * additional state that is not part of the key.
+ *
+ * @author agent
+ */
+public class ProjectArchiveCache {
+
+	private final Cache cache;
+
+	private final long maxSize;
+
+	private final Object monitor = new Object();
+
+	private final Map<ProjectArchiveKey, Integer> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long size;
+
+	private volatile long revision = -1;
+
+	/**
+	 * Create an instance.
+	 * @param cache the cache to use to store archives
+	 * @param maxSize the maximum size, in bytes, of all archives held by the cache
+	 */
+	public ProjectArchiveCache(Cache cache, long maxSize) {
+		this.cache = cache;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Create the key for an archive of the specified {@link ProjectDescription}, or
+	 * {@code null} if the project cannot be cached. The cache is cleared if the specified
+	 * metadata has a more recent revision than the one of the cached archives. Archives
+	 * generated with an older revision are not cached.
+	 * @param metadata the metadata used to generate the project
+	 * @param description the description of the project
+	 * @param format the format of the archive
+	 * @return the key or {@code null}
+	 * @see ProjectArchiveKey#of(InitializrMetadata, ProjectDescription, String)
+	 */
+	@Nullable ProjectArchiveKey createKey(InitializrMetadata metadata, ProjectDescription description, String format) {
+		ProjectArchiveKey key = ProjectArchiveKey.of(metadata, description, format);
+		if (key != null && key.revision() > this.revision) {
+			synchronized (this.monitor) {
+				if (key.revision() > this.revision) {
+					this.revision = key.revision();
+					this.entries.clear();
+					this.size = 0;
+					this.cache.clear();
+				}
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * Return the archive stored for the specified key, or {@code null}.
+	 * @param key the key of the archive
+	 * @return the cached archive or {@code null}
+	 */
+	@Nullable GeneratedProjectArchive get(ProjectArchiveKey key) {
+		if (key.revision() != this.revision) {
+			return null;
+		}
+		GeneratedProjectArchive archive = this.cache.get(key, GeneratedProjectArchive.class);
+		synchronized (this.monitor) {
+			if (archive != null) {
+				this.entries.get(key);
+			}
+			else {
+				Integer entrySize = this.entries.remove(key);
+				this.size -= (entrySize != null) ? entrySize : 0;
+			}
+		}
+		return archive;
+	}
+
+	/**
+	 * Wrap the specified {@link ProjectArchive.Content content} so that the archive is
+	 * stored in this cache once it has been written.
+	 * @param key the key of the archive
+	 * @param description the description of the generated project
+	 * @param content the content to wrap
+	 * @return a content that stores the archive in this cache
+	 */
+	ProjectArchive.Content cacheOnWrite(ProjectArchiveKey key, ProjectDescription description,
+			ProjectArchive.Content content) {
+		return (output) -> {
+			CapturingOutputStream capture = new CapturingOutputStream(output, this.maxSize);
+			content.writeTo(capture);
+			byte[] bytes = capture.getCapturedContent();
+			if (bytes != null) {
+				put(key, new GeneratedProjectArchive(description, bytes));
+			}
+		};
+	}
+
+	/**
+	 * Store the specified archive, unless the revision of the key is outdated.
+	 * @param key the key of the archive
+	 * @param archive the archive to store
+	 */
+	void put(ProjectArchiveKey key, GeneratedProjectArchive archive) {
+		List<ProjectArchiveKey> evicted = new ArrayList<>();
+		synchronized (this.monitor) {
+			if (key.revision() != this.revision) {
+				return;
+			}
+			Integer previous = this.entries.put(key, archive.content().length);
+			this.size += archive.content().length - ((previous != null) ? previous : 0);
+			Iterator<Map.Entry<ProjectArchiveKey, Integer>> it = this.entries.entrySet().iterator();
+			while (this.size > this.maxSize && it.hasNext()) {
+				Map.Entry<ProjectArchiveKey, Integer> eldest = it.next();
+				it.remove();
+				this.size -= eldest.getValue();
+				evicted.add(eldest.getKey());
+			}
+		}
+		if (!evicted.contains(key)) {
+			this.cache.put(key, archive);
+		}
+		evicted.forEach(this.cache::evict);
+		if (key.revision() != this.revision) {
+			// The cache has been cleared for a new revision in the meantime
+			this.cache.evict(key);
+		}
+	}
+
+	/**
+	 * An {@link OutputStream} that captures the content written to a target stream, as
+	 * long as it does not exceed a maximum size.
+	 */
+	private static final class CapturingOutputStream extends FilterOutputStream {
+
+		private final long maxSize;
+
+		private @Nullable ByteArrayOutputStream capture = new ByteArrayOutputStream();
+
+		CapturingOutputStream(OutputStream out, long maxSize) {
+			super(out);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			capture(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			capture(b, off, len);
+		}
+
+		private void capture(byte[] b, int off, int len) {
+			ByteArrayOutputStream target = this.capture;
+			if (target != null) {
+				if (target.size() + len > this.maxSize) {
+					this.capture = null;
+				}
+				else {
+					target.write(b, off, len);
+				}
+			}
+		}
+
+		byte @Nullable [] getCapturedContent() {
+			return (this.capture != null) ? this.capture.toByteArray() : null;
+		}
+
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hold the compressed form of the file contents that are added to many project archives,
+ * such as the wrapper files or the {@code .gitattributes} file. Such contents can be
+ * spliced as is in an archive rather than being compressed again for each project.
+ * <p>
+ * A content is identified by its SHA-256 digest and only its compressed form is held. A
+ * content is only retained once it has been seen a number of times among the recently
+ * seen contents, so that contents that are specific to a project, such as the build file,
+ * do not take space. The total size of the retained contents is bounded: once the maximum
+ * size is reached, the least recently used contents are evicted.
+ * <p>
+ * Reading and hashing a file has a cost as well, so a file should only be passed to
+ * {@link #get(byte[])} if {@link #isShared(String, long)} indicates that files with the
+ * same name and size are seen often enough.
+ *
+ * @author agent
+ */
+public class ProjectArchiveFragments {
+
+	private static final int DEFAULT_MIN_OCCURRENCES = 10;
+
+	private static final int MAX_CANDIDATES = 1024;
+
+	private final long maxSize;
+
+	private final int minOccurrences;
+
+	private final Object monitor = new Object();
+
+	private final LinkedHashMap<Key, Fragment> fragments = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<Key, Integer> candidates = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Integer> eldest) {
+			return size() > MAX_CANDIDATES;
+		}
+
+	};
+
+	private final Map<FileKey, Integer> files = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<FileKey, Integer> eldest) {
+			return size() > MAX_CANDIDATES;
+		}
+
+	};
+
+	private long size;
+
+	/**
+	 * Create an instance that retains a content once it has been seen 10 times.
+	 * @param maxSize the maximum size, in bytes, of all retained contents
+	 */
+	public ProjectArchiveFragments(long maxSize) {
+		this(maxSize, DEFAULT_MIN_OCCURRENCES);
+	}
+
+	/**
+	 * Create an instance.
+	 * @param maxSize the maximum size, in bytes, of all retained contents
+	 * @param minOccurrences the number of times a content should be seen among the
+	 * recently seen contents before it is retained
+	 */
+	public ProjectArchiveFragments(long maxSize, int minOccurrences) {
+		Assert.isTrue(minOccurrences > 0, "'minOccurrences' must be positive");
+		this.maxSize = maxSize;
+		this.minOccurrences = minOccurrences;
+	}
+
+	/**
+	 * Specify whether a file with the specified name and size has been seen often enough
+	 * among the recently seen files for its content to be shared. This does not require
+	 * to read the file and should be checked before {@link #get(byte[]) getting} the
+	 * fragment of its content.
+	 * @param name the name of the file in the archive
+	 * @param size the size of the file
+	 * @return {@code true} if the content of the file may be shared
+	 */
+	public boolean isShared(String name, long size) {
+		synchronized (this.monitor) {
+			int occurrences = this.files.merge(new FileKey(name, size), 1,
+					(previous, increment) -> Math.min(previous + increment, this.minOccurrences));
+			return occurrences >= this.minOccurrences;
+		}
+	}
+
+	/**
+	 * Return the {@link Fragment} of the specified content, or {@code null} if the
+	 * content has not been retained. If the content has been seen often enough, it is
+	 * retained and its fragment is returned.
+	 * @param content the content of a file
+	 * @return the fragment of that content or {@code null}
+	 */
+	public @Nullable Fragment get(byte[] content) {
+		Key key = Key.of(content);
+		synchronized (this.monitor) {
+			Fragment fragment = this.fragments.get(key);
+			if (fragment != null) {
+				return fragment;
+			}
+			int occurrences = this.candidates.merge(key, 1, Integer::sum);
+			if (occurrences < this.minOccurrences) {
+				return null;
+			}
+			this.candidates.remove(key);
+		}
+		return retain(key, content);
+	}
+
+	private @Nullable Fragment retain(Key key, byte[] content) {
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		Fragment fragment = new Fragment(crc.getValue(), deflate(content));
+		long fragmentSize = sizeOf(key, fragment);
+		if (fragmentSize > this.maxSize) {
+			return null;
+		}
+		synchronized (this.monitor) {
+			Fragment existing = this.fragments.putIfAbsent(key, fragment);
+			if (existing != null) {
+				return existing;
+			}
+			this.size += fragmentSize;
+			Iterator<Map.Entry<Key, Fragment>> entries = this.fragments.entrySet().iterator();
+			while (this.size > this.maxSize) {
+				Map.Entry<Key, Fragment> eldest = entries.next();
+				this.size -= sizeOf(eldest.getKey(), eldest.getValue());
+				entries.remove();
+			}
+		}
+		return fragment;
+	}
+
+	private static long sizeOf(Key key, Fragment fragment) {
+		return key.digest().capacity() + fragment.compressedContent().length;
+	}
+
+	private static byte[] deflate(byte[] content) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(content);
+			deflater.finish();
+			ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				int count = deflater.deflate(buffer);
+				output.write(buffer, 0, count);
+			}
+			return output.toByteArray();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * The compressed form of a file content.
+	 *
+	 * @param crc the CRC-32 checksum of the content
+	 * @param compressedContent the content compressed using raw deflate, as expected by
+	 * the zip format
+	 */
+	public record Fragment(long crc, byte[] compressedContent) {
+
+	}
+
+	private record FileKey(String name, long size) {
+
+	}
+
+	private record Key(ByteBuffer digest, int length) {
+
+		static Key of(byte[] content) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256");
+				return new Key(ByteBuffer.wrap(digest.digest(content)), content.length);
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+	}
+
+}
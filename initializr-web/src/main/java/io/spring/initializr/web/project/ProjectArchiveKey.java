@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.spring.initializr.generator.buildsystem.BuildSystem;
+import io.spring.initializr.generator.configuration.format.ConfigurationFileFormat;
+import io.spring.initializr.generator.language.Language;
+import io.spring.initializr.generator.packaging.Packaging;
+import io.spring.initializr.generator.project.MutableProjectDescription;
+import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Identify the archive of a generated project. Two requests that resolve to the same
+ * {@link ProjectDescription}, using the same archive format and the same
+ * {@link InitializrMetadata#getRevision() revision} of the metadata, produce identical
+ * archives.
+ *
+ * @param revision the revision of the metadata
+ * @param format the format of the archive
+ * @param attributes the attributes of the resolved project description
+ * @author agent
+ */
+record ProjectArchiveKey(long revision, String format, List<@Nullable Object> attributes) {
+
+	/**
+	 * Create the key for an archive of the specified {@link ProjectDescription}, or
+	 * {@code null} if the project cannot be identified. Only descriptions of type
+	 * {@link MutableProjectDescription} are supported, as custom description types may
+	 * hold additional state that is not part of the key.
+	 * @param metadata the metadata used to generate the project
+	 * @param description the description of the project
+	 * @param format the format of the archive
+	 * @return the key or {@code null}
+	 */
+	static @Nullable ProjectArchiveKey of(InitializrMetadata metadata, ProjectDescription description, String format) {
+		if (description.getClass() != MutableProjectDescription.class) {
+			return null;
+		}
+		MutableProjectDescription resolvedDescription = ((MutableProjectDescription) description).createCopy();
+		new MetadataProjectDescriptionCustomizer(metadata).customize(resolvedDescription);
+		return new ProjectArchiveKey(metadata.getRevision(), format, attributesOf(resolvedDescription));
+	}
+
+	private static List<@Nullable Object> attributesOf(ProjectDescription description) {
+		Version platformVersion = description.getPlatformVersion();
+		BuildSystem buildSystem = description.getBuildSystem();
+		Packaging packaging = description.getPackaging();
+		Language language = description.getLanguage();
+		ConfigurationFileFormat configurationFileFormat = description.getConfigurationFileFormat();
+		return Arrays.asList((platformVersion != null) ? platformVersion.toString() : null,
+				(buildSystem != null) ? buildSystem.id() : null, (buildSystem != null) ? buildSystem.dialect() : null,
+				(packaging != null) ? packaging.id() : null, (language != null) ? language.id() : null,
+				(language != null) ? language.jvmVersion() : null,
+				(configurationFileFormat != null) ? configurationFileFormat.id() : null,
+				List.copyOf(description.getRequestedDependencies().keySet()), description.getGroupId(),
+				description.getArtifactId(), description.getVersion(), description.getName(),
+				description.getDescription(), description.getApplicationName(), description.getPackageName(),
+				description.getBaseDirectory());
+	}
+
+}
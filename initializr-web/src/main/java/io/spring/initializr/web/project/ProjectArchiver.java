@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Strategy interface to write the project structure of a {@link ProjectGenerationResult}
+ * as an archive.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface ProjectArchiver {
+
+	/**
+	 * Write the project structure of the specified {@link ProjectGenerationResult} to the
+	 * specified {@link OutputStream}.
+	 * @param result the result of the project generation
+	 * @param output the stream to write the archive to
+	 * @throws IOException if writing the archive failed
+	 */
+	void archive(ProjectGenerationResult result, OutputStream output) throws IOException;
+
+}
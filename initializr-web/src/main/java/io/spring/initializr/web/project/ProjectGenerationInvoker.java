@@ -19,10 +19,17 @@ package io.spring.initializr.web.project;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import io.spring.initializr.generator.buildsystem.BuildItemResolver;
 import io.spring.initializr.generator.buildsystem.BuildWriter;
@@ -30,12 +37,14 @@ import io.spring.initializr.generator.project.DefaultProjectAssetGenerator;
 import io.spring.initializr.generator.project.ProjectAssetGenerator;
 import io.spring.initializr.generator.project.ProjectDescription;
 import io.spring.initializr.generator.project.ProjectGenerationContext;
+import io.spring.initializr.generator.project.ProjectGenerationContextFactory;
 import io.spring.initializr.generator.project.ProjectGenerationException;
 import io.spring.initializr.generator.project.ProjectGenerator;
 import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.metadata.InitializrMetadata;
 import io.spring.initializr.metadata.InitializrMetadataProvider;
 import io.spring.initializr.metadata.support.MetadataBuildItemResolver;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
@@ -43,6 +52,7 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Invokes the project generation API. This is an intermediate layer that can consume a
@@ -60,10 +70,24 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 
 	private final ProjectRequestToDescriptionConverter<R> requestConverter;
 
-	private final ProjectAssetGenerator<Path> projectAssetGenerator = new DefaultProjectAssetGenerator();
+	private ProjectAssetGenerator<Path> projectAssetGenerator = new DefaultProjectAssetGenerator();
 
 	private final Map<Path, List<Path>> temporaryFiles = new ConcurrentHashMap<>();
 
+	private final Map<ProjectArchiveKey, CompletableFuture<CoalescedProjectArchive>> inFlightArchives = new ConcurrentHashMap<>();
+
+	private @Nullable ProjectArchiveCache projectArchiveCache;
+
+	private boolean coalesceIdenticalRequests;
+
+	private Duration coalescingTimeout = Duration.ofSeconds(10);
+
+	private long coalescingMaxInMemorySize = DataSize.ofMegabytes(1).toBytes();
+
+	private @Nullable Supplier<? extends ProjectGenerationContext> projectGenerationContextFactory;
+
+	private boolean preFilterConfigurations;
+
 	public ProjectGenerationInvoker(ApplicationContext parentApplicationContext,
 			ProjectRequestToDescriptionConverter<R> requestConverter) {
 		this(parentApplicationContext, parentApplicationContext, requestConverter);
@@ -86,11 +110,7 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 		InitializrMetadata metadata = this.parentApplicationContext.getBean(InitializrMetadataProvider.class).get();
 		try {
 			ProjectDescription description = this.requestConverter.convert(request, metadata);
-			ProjectGenerator projectGenerator = createProjectGenerator(metadata);
-			ProjectGenerationResult result = projectGenerator.generate(description,
-					generateProject(description, request));
-			addTempFile(result.getRootDirectory(), result.getRootDirectory());
-			return result;
+			return generateProjectStructure(request, metadata, description);
 		}
 		catch (ProjectGenerationException ex) {
 			publishProjectFailedEvent(request, metadata, ex);
@@ -98,6 +118,226 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 		}
 	}
 
+	/**
+	 * Invokes the project generation API that generates the entire project structure for
+	 * the specified {@link ProjectRequest} and provides it as an archive. Temporary files
+	 * are cleaned once the archive has been written, or when the archive is closed if it
+	 * is not written. If a {@link ProjectArchiveCache} is configured, an identical
+	 * archive that has been generated previously is reused. If identical requests are
+	 * coalesced, a request that is identical to one being processed waits for it to
+	 * complete and shares its archive, or generates its own archive if it does not
+	 * complete in time.
+	 * @param request the project request
+	 * @param format the format of the archive, such as {@code zip}
+	 * @param archiver the archiver to use to write the project structure
+	 * @return the {@link ProjectArchive}
+	 * @see #setProjectArchiveCache(ProjectArchiveCache)
+	 * @see #setCoalesceIdenticalRequests(boolean)
+	 */
+	public ProjectArchive invokeProjectArchiveGeneration(R request, String format, ProjectArchiver archiver) {
+		InitializrMetadata metadata = this.parentApplicationContext.getBean(InitializrMetadataProvider.class).get();
+		try {
+			ProjectDescription description = this.requestConverter.convert(request, metadata);
+			ProjectArchiveCache archiveCache = this.projectArchiveCache;
+			ProjectArchiveKey key = createProjectArchiveKey(archiveCache, metadata, description, format);
+			if (archiveCache != null && key != null) {
+				GeneratedProjectArchive cachedArchive = archiveCache.get(key);
+				if (cachedArchive != null) {
+					publishProjectGeneratedEvent(request, metadata);
+					return cachedArchive.toProjectArchive();
+				}
+			}
+			if (this.coalesceIdenticalRequests && key != null) {
+				return generateOrJoinProjectArchive(key, request, metadata, description, archiver);
+			}
+			return generateProjectArchive(request, metadata, description, archiver, key);
+		}
+		catch (ProjectGenerationException ex) {
+			publishProjectFailedEvent(request, metadata, ex);
+			throw ex;
+		}
+	}
+
+	private ProjectArchive generateProjectArchive(R request, InitializrMetadata metadata,
+			ProjectDescription description, ProjectArchiver archiver, @Nullable ProjectArchiveKey key) {
+		ProjectGenerationResult result = generateProjectStructure(request, metadata, description);
+		ProjectArchive.Content content = (output) -> archiver.archive(result, output);
+		ProjectArchiveCache archiveCache = this.projectArchiveCache;
+		if (archiveCache != null && key != null) {
+			content = archiveCache.cacheOnWrite(key, result.getProjectDescription(), content);
+		}
+		return new ProjectArchive(result.getProjectDescription(), cleanTempFilesOnWrite(result, content),
+				() -> cleanTempFiles(result.getRootDirectory()));
+	}
+
+	private @Nullable ProjectArchiveKey createProjectArchiveKey(@Nullable ProjectArchiveCache archiveCache,
+			InitializrMetadata metadata, ProjectDescription description, String format) {
+		if (archiveCache != null) {
+			return archiveCache.createKey(metadata, description, format);
+		}
+		return (this.coalesceIdenticalRequests) ? ProjectArchiveKey.of(metadata, description, format) : null;
+	}
+
+	private ProjectArchive generateOrJoinProjectArchive(ProjectArchiveKey key, R request, InitializrMetadata metadata,
+			ProjectDescription description, ProjectArchiver archiver) {
+		CompletableFuture<CoalescedProjectArchive> generation = new CompletableFuture<>();
+		CompletableFuture<CoalescedProjectArchive> inFlightGeneration = this.inFlightArchives.putIfAbsent(key,
+				generation);
+		if (inFlightGeneration != null) {
+			ProjectArchive archive = join(inFlightGeneration);
+			if (archive == null) {
+				return generateProjectArchive(request, metadata, description, archiver, key);
+			}
+			publishProjectGeneratedEvent(request, metadata);
+			return archive;
+		}
+		try {
+			CoalescedProjectArchive archive = generateCoalescedProjectArchive(request, metadata, description, archiver);
+			ProjectArchive projectArchive = archive.retain();
+			Assert.state(projectArchive != null, "'projectArchive' must not be null");
+			ProjectArchiveCache archiveCache = this.projectArchiveCache;
+			byte[] content = archive.getContent();
+			if (archiveCache != null && content != null) {
+				archiveCache.put(key, new GeneratedProjectArchive(projectArchive.getProjectDescription(), content));
+			}
+			generation.complete(archive);
+			return projectArchive;
+		}
+		catch (Throwable ex) {
+			// Fail waiting requests immediately, including on errors such as an OOM
+			generation.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightArchives.remove(key, generation);
+		}
+	}
+
+	private CoalescedProjectArchive generateCoalescedProjectArchive(R request, InitializrMetadata metadata,
+			ProjectDescription description, ProjectArchiver archiver) {
+		ProjectGenerationResult result = generateProjectStructure(request, metadata, description);
+		try {
+			return CoalescedProjectArchive.write(result.getProjectDescription(),
+					(output) -> archiver.archive(result, output), this.coalescingMaxInMemorySize);
+		}
+		catch (IOException ex) {
+			throw new ProjectGenerationException("Failed to archive project", ex);
+		}
+		finally {
+			cleanTempFiles(result.getRootDirectory());
+		}
+	}
+
+	private @Nullable ProjectArchive join(CompletableFuture<CoalescedProjectArchive> generation) {
+		try {
+			return generation.get(this.coalescingTimeout.toMillis(), TimeUnit.MILLISECONDS).retain();
+		}
+		catch (TimeoutException ex) {
+			return null;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ProjectGenerationException("Interrupted while waiting for an identical project", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new ProjectGenerationException("Failed to generate identical project", ex);
+		}
+	}
+
+	private ProjectGenerationResult generateProjectStructure(R request, InitializrMetadata metadata,
+			ProjectDescription description) {
+		ProjectGenerator projectGenerator = createProjectGenerator(metadata);
+		ProjectGenerationResult result = projectGenerator.generate(description, generateProject(description, request));
+		addTempFile(result.getRootDirectory(), result.getRootDirectory());
+		return result;
+	}
+
+	private ProjectArchive.Content cleanTempFilesOnWrite(ProjectGenerationResult result,
+			ProjectArchive.Content content) {
+		return (output) -> {
+			try {
+				content.writeTo(output);
+			}
+			finally {
+				cleanTempFiles(result.getRootDirectory());
+			}
+		};
+	}
+
+	/**
+	 * Specify whether identical requests that are processed concurrently should share a
+	 * single generation. When enabled, archives of coalesced requests are written before
+	 * they are provided, in memory or in a temporary file if they are larger than
+	 * {@linkplain #setCoalescingMaxInMemorySize(long) the maximum in-memory size}.
+	 * @param coalesceIdenticalRequests whether identical requests should be coalesced
+	 */
+	public void setCoalesceIdenticalRequests(boolean coalesceIdenticalRequests) {
+		this.coalesceIdenticalRequests = coalesceIdenticalRequests;
+	}
+
+	/**
+	 * Set the maximum time a request waits for an identical request to complete. Once
+	 * elapsed, the request generates its own archive. Defaults to 10 seconds.
+	 * @param coalescingTimeout the maximum time to wait for an identical request
+	 */
+	public void setCoalescingTimeout(Duration coalescingTimeout) {
+		this.coalescingTimeout = coalescingTimeout;
+	}
+
+	/**
+	 * Set the maximum size of a coalesced archive that is held in memory. Larger archives
+	 * are written to a temporary file that is deleted once all the requests that share it
+	 * have written it. Defaults to 1MB.
+	 * @param coalescingMaxInMemorySize the maximum size, in bytes, of an archive held in
+	 * memory
+	 */
+	public void setCoalescingMaxInMemorySize(long coalescingMaxInMemorySize) {
+		this.coalescingMaxInMemorySize = coalescingMaxInMemorySize;
+	}
+
+	/**
+	 * Set the factory to use to create {@link ProjectGenerationContext} instances.
+	 * @param projectGenerationContextFactory the context factory, or {@code null} to use
+	 * the default factory of {@link ProjectGenerator}
+	 * @see ProjectGenerationContextFactory
+	 */
+	public void setProjectGenerationContextFactory(
+			@Nullable Supplier<? extends ProjectGenerationContext> projectGenerationContextFactory) {
+		this.projectGenerationContextFactory = projectGenerationContextFactory;
+	}
+
+	/**
+	 * Specify whether project generation configurations whose build system or language
+	 * conditions do not match the project should be discarded before the
+	 * {@link ProjectGenerationContext} is refreshed.
+	 * @param preFilterConfigurations whether to pre-filter configurations
+	 * @see ProjectGenerator#setFilterCandidatesByTypeConditions(boolean)
+	 */
+	public void setPreFilterConfigurations(boolean preFilterConfigurations) {
+		this.preFilterConfigurations = preFilterConfigurations;
+	}
+
+	/**
+	 * Set the {@link ProjectAssetGenerator} to use to generate the project structure. By
+	 * default, a {@link DefaultProjectAssetGenerator} is used.
+	 * @param projectAssetGenerator the project asset generator to use
+	 * @see io.spring.initializr.generator.project.ParallelProjectAssetGenerator
+	 */
+	public void setProjectAssetGenerator(ProjectAssetGenerator<Path> projectAssetGenerator) {
+		this.projectAssetGenerator = projectAssetGenerator;
+	}
+
+	/**
+	 * Set the {@link ProjectArchiveCache} to use to reuse archives of identical projects.
+	 * @param projectArchiveCache the cache to use, or {@code null} to disable caching
+	 */
+	public void setProjectArchiveCache(@Nullable ProjectArchiveCache projectArchiveCache) {
+		this.projectArchiveCache = projectArchiveCache;
+	}
+
 	private ProjectAssetGenerator<ProjectGenerationResult> generateProject(ProjectDescription description, R request) {
 		return (context) -> {
 			Path projectDir = getProjectAssetGenerator(description).generate(context);
@@ -142,8 +382,13 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 	 * @return project generator used to generate the project
 	 */
 	protected ProjectGenerator createProjectGenerator(InitializrMetadata metadata) {
-		return new ProjectGenerator(
-				(projectGenerationContext) -> customizeProjectGenerationContext(projectGenerationContext, metadata));
+		Consumer<ProjectGenerationContext> contextConsumer = (context) -> customizeProjectGenerationContext(context,
+				metadata);
+		Supplier<? extends ProjectGenerationContext> contextFactory = this.projectGenerationContextFactory;
+		ProjectGenerator projectGenerator = (contextFactory != null)
+				? new ProjectGenerator(contextConsumer, contextFactory) : new ProjectGenerator(contextConsumer);
+		projectGenerator.setFilterCandidatesByTypeConditions(this.preFilterConfigurations);
+		return projectGenerator;
 	}
 
 	private ProjectAssetGenerator<byte[]> generateBuild(R request) {
@@ -160,7 +405,10 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 	 * @param dir the directory used to determine the path and name of the new file
 	 * @param extension the extension to use for the new file
 	 * @return the newly created file
+	 * @deprecated for removal as archives are written with
+	 * {@link #invokeProjectArchiveGeneration(ProjectRequest, String, ProjectArchiver)}
 	 */
+	@Deprecated(forRemoval = true)
 	public Path createDistributionFile(Path dir, String extension) {
 		Path download = dir.resolveSibling(dir.getFileName() + extension);
 		addTempFile(dir, download);
@@ -178,7 +426,6 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 	/**
 	 * Clean all the temporary files that are related to this root directory.
 	 * @param dir the directory to clean
-	 * @see #createDistributionFile
 	 */
 	public void cleanTempFiles(Path dir) {
 		List<Path> tempFiles = this.temporaryFiles.remove(dir);
@@ -222,7 +469,10 @@ public class ProjectGenerationInvoker<R extends ProjectRequest> {
 	}
 
 	private void publishProjectGeneratedEvent(R request, ProjectGenerationContext context) {
-		InitializrMetadata metadata = context.getBean(InitializrMetadata.class);
+		publishProjectGeneratedEvent(request, context.getBean(InitializrMetadata.class));
+	}
+
+	private void publishProjectGeneratedEvent(R request, InitializrMetadata metadata) {
 		ProjectGeneratedEvent event = new ProjectGeneratedEvent(request, metadata);
 		this.eventPublisher.publishEvent(event);
 	}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.support;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.spring.initializr.metadata.DefaultMetadataElement;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link InitializrMetadataUpdateStrategy} that never modifies the current
+ * {@link InitializrMetadata metadata}. Rather, a snapshot of the metadata is updated by a
+ * delegate strategy, before it is validated. The current metadata can therefore be read
+ * safely while an update is in progress, and the updated snapshot can be published
+ * atomically.
+ * <p>
+ * A snapshot is created once for a given metadata, with the Spring Boot versions of the
+ * current metadata. If the delegate strategy does not change the snapshot, that is if it
+ * returns the snapshot with the same {@link InitializrMetadata#getRevision() revision},
+ * the current metadata is returned as is, and the snapshot is reused for the next update.
+ * State derived from the current metadata therefore remains valid. The factory must
+ * create an instance that does not share any state with the current metadata.
+ *
+ * @author agent
+ */
+public class CopyOnWriteInitializrMetadataUpdateStrategy implements InitializrMetadataUpdateStrategy {
+
+	private final Supplier<InitializrMetadata> snapshotFactory;
+
+	private final InitializrMetadataUpdateStrategy delegate;
+
+	private final AtomicReference<@Nullable Snapshot> snapshot = new AtomicReference<>();
+
+	/**
+	 * Create a new instance.
+	 * @param snapshotFactory the factory to use to create a new snapshot of the metadata
+	 * @param delegate the strategy to use to update a snapshot
+	 */
+	public CopyOnWriteInitializrMetadataUpdateStrategy(Supplier<InitializrMetadata> snapshotFactory,
+			InitializrMetadataUpdateStrategy delegate) {
+		this.snapshotFactory = snapshotFactory;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public InitializrMetadata update(InitializrMetadata current) {
+		Snapshot snapshot = this.snapshot.getAndSet(null);
+		if (snapshot == null || snapshot.source() != current.getRevision()) {
+			snapshot = createSnapshot(current);
+		}
+		InitializrMetadata updated = this.delegate.update(snapshot.metadata());
+		if (updated == snapshot.metadata() && updated.getRevision() == snapshot.revision()) {
+			// Nothing changed, keep the current revision and reuse the snapshot next time
+			this.snapshot.set(snapshot);
+			return current;
+		}
+		updated.validate();
+		return updated;
+	}
+
+	private Snapshot createSnapshot(InitializrMetadata current) {
+		InitializrMetadata metadata = this.snapshotFactory.get();
+		List<DefaultMetadataElement> bootVersions = current.getBootVersions().getContent();
+		if (!bootVersions.isEmpty()) {
+			metadata.updateSpringBootVersions(bootVersions);
+		}
+		return new Snapshot(current.getRevision(), metadata, metadata.getRevision());
+	}
+
+	private record Snapshot(long source, InitializrMetadata metadata, long revision) {
+
+	}
+
+}
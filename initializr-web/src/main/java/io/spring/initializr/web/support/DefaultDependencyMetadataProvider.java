@@ -40,10 +40,8 @@ public class DefaultDependencyMetadataProvider implements DependencyMetadataProv
 	@Cacheable(cacheNames = "initializr.dependency-metadata", key = "#p1")
 	public DependencyMetadata get(InitializrMetadata metadata, Version bootVersion) {
 		Map<String, Dependency> dependencies = new LinkedHashMap<>();
-		for (Dependency dependency : metadata.getDependencies().getAll()) {
-			if (dependency.match(bootVersion)) {
-				dependencies.put(dependency.getId(), dependency.resolve(bootVersion));
-			}
+		for (Dependency dependency : metadata.getDependencies().getAll(bootVersion)) {
+			dependencies.put(dependency.getId(), dependency.resolve(bootVersion));
 		}
 
 		Map<String, Repository> repositories = new LinkedHashMap<>();
@@ -30,7 +30,7 @@ import org.springframework.cache.annotation.Cacheable;
  */
 public class DefaultInitializrMetadataProvider implements InitializrMetadataProvider {
 
-	private InitializrMetadata metadata;
+	private volatile InitializrMetadata metadata;
 
 	private final InitializrMetadataUpdateStrategy initializrMetadataUpdateStrategy;
 
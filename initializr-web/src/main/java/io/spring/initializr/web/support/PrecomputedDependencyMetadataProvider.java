@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.DefaultMetadataElement;
+import io.spring.initializr.metadata.DependencyMetadata;
+import io.spring.initializr.metadata.DependencyMetadataProvider;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link DependencyMetadataProvider} that builds the {@link DependencyMetadata} of
+ * every {@linkplain InitializrMetadata#getBootVersions() Spring Boot version} of a
+ * revision of the metadata at once, so that lookups do not have to resolve any
+ * dependency. Metadata for a version that is not listed is resolved on demand using the
+ * delegate.
+ * <p>
+ * The metadata of a revision is built by {@link #prepare(InitializrMetadata)}, typically
+ * as soon as it has been updated. It is built without holding any lock, and published
+ * only if no more recent revision has been published in the meantime. Only the latest
+ * revision is held. Lookups never build it: until the metadata of a revision is
+ * available, including while it is being built, they use the delegate. If an
+ * {@link Executor} is set, the metadata of each Spring Boot version is built
+ * concurrently.
+ *
+ * @author agent
+ */
+public class PrecomputedDependencyMetadataProvider implements DependencyMetadataProvider {
+
+	private final DependencyMetadataProvider delegate;
+
+	private final @Nullable Executor executor;
+
+	private final AtomicReference<@Nullable Snapshot> snapshot = new AtomicReference<>();
+
+	/**
+	 * Create an instance.
+	 * @param delegate the provider to use to build the metadata of a Spring Boot version
+	 * @param executor the executor to use to build the metadata of each Spring Boot
+	 * version concurrently, or {@code null} to build them sequentially
+	 */
+	public PrecomputedDependencyMetadataProvider(DependencyMetadataProvider delegate, @Nullable Executor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	/**
+	 * Create an instance that builds the metadata sequentially using a
+	 * {@link DefaultDependencyMetadataProvider}.
+	 */
+	public PrecomputedDependencyMetadataProvider() {
+		this(new DefaultDependencyMetadataProvider(), null);
+	}
+
+	@Override
+	public DependencyMetadata get(InitializrMetadata metadata, Version bootVersion) {
+		Snapshot snapshot = this.snapshot.get();
+		DependencyMetadata dependencyMetadata = (snapshot != null && snapshot.revision() == metadata.getRevision())
+				? snapshot.dependencyMetadata().get(bootVersion) : null;
+		return (dependencyMetadata != null) ? dependencyMetadata : this.delegate.get(metadata, bootVersion);
+	}
+
+	/**
+	 * Build the {@link DependencyMetadata} of every Spring Boot version of the specified
+	 * {@link InitializrMetadata metadata}, unless it has been built already. Does nothing
+	 * if the metadata of a more recent revision is available.
+	 * @param metadata the metadata
+	 * @return the dependency metadata of each Spring Boot version, or an empty map if the
+	 * metadata is outdated
+	 */
+	public Map<Version, DependencyMetadata> prepare(InitializrMetadata metadata) {
+		long revision = metadata.getRevision();
+		Snapshot snapshot = this.snapshot.get();
+		if (snapshot != null && snapshot.revision() >= revision) {
+			return getDependencyMetadata(snapshot, revision);
+		}
+		Snapshot built = new Snapshot(revision, build(metadata));
+		while (!this.snapshot.compareAndSet(snapshot, built)) {
+			snapshot = this.snapshot.get();
+			if (snapshot != null && snapshot.revision() >= revision) {
+				return getDependencyMetadata(snapshot, revision);
+			}
+		}
+		return built.dependencyMetadata();
+	}
+
+	private Map<Version, DependencyMetadata> getDependencyMetadata(Snapshot snapshot, long revision) {
+		return (snapshot.revision() == revision) ? snapshot.dependencyMetadata() : Collections.emptyMap();
+	}
+
+	private Map<Version, DependencyMetadata> build(InitializrMetadata metadata) {
+		List<Version> bootVersions = new ArrayList<>();
+		for (DefaultMetadataElement element : metadata.getBootVersions().getContent()) {
+			String id = element.getId();
+			if (id != null) {
+				bootVersions.add(Version.parse(id));
+			}
+		}
+		Map<Version, DependencyMetadata> dependencyMetadata = new LinkedHashMap<>();
+		Executor executor = this.executor;
+		if (executor == null || bootVersions.size() < 2) {
+			for (Version bootVersion : bootVersions) {
+				dependencyMetadata.put(bootVersion, this.delegate.get(metadata, bootVersion));
+			}
+		}
+		else {
+			List<CompletableFuture<DependencyMetadata>> futures = new ArrayList<>();
+			for (Version bootVersion : bootVersions) {
+				futures.add(CompletableFuture.supplyAsync(() -> this.delegate.get(metadata, bootVersion), executor));
+			}
+			for (int i = 0; i < bootVersions.size(); i++) {
+				dependencyMetadata.put(bootVersions.get(i), join(futures.get(i)));
+			}
+		}
+		return Collections.unmodifiableMap(dependencyMetadata);
+	}
+
+	private DependencyMetadata join(CompletableFuture<DependencyMetadata> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	private record Snapshot(long revision, Map<Version, DependencyMetadata> dependencyMetadata) {
+
+	}
+
+}
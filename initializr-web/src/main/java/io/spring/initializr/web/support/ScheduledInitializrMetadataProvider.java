@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.support;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.metadata.InitializrMetadataProvider;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * An {@link InitializrMetadataProvider} that always returns the current
+ * {@link InitializrMetadata metadata} immediately and invokes a
+ * {@link InitializrMetadataUpdateStrategy} in the background on a schedule. Contrary to
+ * {@link DefaultInitializrMetadataProvider}, a caller never waits for the metadata to be
+ * updated, even if the strategy performs a network call.
+ * <p>
+ * A random jitter is added to the refresh interval so that several instances of the
+ * service do not update their metadata at the same time. At most one update is in
+ * progress at any given time. If an update fails, even with an {@link Error}, the current
+ * metadata is kept until the next attempt.
+ *
+ * @author agent
+ */
+public class ScheduledInitializrMetadataProvider implements InitializrMetadataProvider, SmartLifecycle {
+
+	private static final Log logger = LogFactory.getLog(ScheduledInitializrMetadataProvider.class);
+
+	private final InitializrMetadataUpdateStrategy initializrMetadataUpdateStrategy;
+
+	private final Duration refreshInterval;
+
+	private final Duration refreshJitter;
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private final Object lifecycleMonitor = new Object();
+
+	private volatile InitializrMetadata metadata;
+
+	private @Nullable ScheduledExecutorService executor;
+
+	/**
+	 * Create a new instance.
+	 * @param metadata the metadata to serve until it is first updated
+	 * @param initializrMetadataUpdateStrategy the strategy to use to update the metadata
+	 * @param refreshInterval the delay between two updates
+	 * @param refreshJitter the maximum random delay to add to the refresh interval
+	 */
+	public ScheduledInitializrMetadataProvider(InitializrMetadata metadata,
+			InitializrMetadataUpdateStrategy initializrMetadataUpdateStrategy, Duration refreshInterval,
+			Duration refreshJitter) {
+		this.metadata = metadata;
+		this.initializrMetadataUpdateStrategy = initializrMetadataUpdateStrategy;
+		this.refreshInterval = refreshInterval;
+		this.refreshJitter = refreshJitter;
+	}
+
+	@Override
+	public InitializrMetadata get() {
+		return this.metadata;
+	}
+
+	/**
+	 * Update the metadata using the {@link InitializrMetadataUpdateStrategy}, unless an
+	 * update is already in progress.
+	 * @return {@code true} if the metadata has been updated, {@code false} if another
+	 * update was in progress or if the update failed
+	 */
+	public boolean refresh() {
+		if (!this.refreshing.compareAndSet(false, true)) {
+			return false;
+		}
+		try {
+			this.metadata = this.initializrMetadataUpdateStrategy.update(this.metadata);
+			return true;
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to update metadata, keeping current metadata", ex);
+			return false;
+		}
+		finally {
+			this.refreshing.set(false);
+		}
+	}
+
+	@Override
+	public void start() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.executor == null) {
+				CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("initializr-metadata-");
+				threadFactory.setDaemon(true);
+				this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+				this.executor.execute(this::refreshAndReschedule);
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+				this.executor = null;
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		synchronized (this.lifecycleMonitor) {
+			return this.executor != null;
+		}
+	}
+
+	private void refreshAndReschedule() {
+		try {
+			refresh();
+		}
+		catch (Throwable ex) {
+			// Would be swallowed by the executor, and must not stop the next updates
+			logger.error("Unexpected failure while updating metadata, keeping current metadata", ex);
+		}
+		finally {
+			reschedule();
+		}
+	}
+
+	private void reschedule() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.executor != null) {
+				try {
+					this.executor.schedule(this::refreshAndReschedule, nextDelay(), TimeUnit.MILLISECONDS);
+				}
+				catch (RejectedExecutionException ex) {
+					// Stopped concurrently
+				}
+			}
+		}
+	}
+
+	private long nextDelay() {
+		long jitter = this.refreshJitter.toMillis();
+		return this.refreshInterval.toMillis() + ((jitter > 0) ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+	}
+
+}
@@ -16,20 +16,34 @@
 
 package io.spring.initializr.web.autoconfigure;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.configuration.CompleteConfiguration;
 import javax.cache.configuration.MutableConfiguration;
 
 import io.spring.initializr.generator.io.template.TemplateRenderer;
+import io.spring.initializr.generator.project.ParallelProjectAssetGenerator;
+import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationContextFactory;
+import io.spring.initializr.generator.project.contributor.ProjectResourceResolver;
 import io.spring.initializr.metadata.DependencyMetadataProvider;
 import io.spring.initializr.metadata.InitializrMetadataProvider;
 import io.spring.initializr.web.controller.CommandLineMetadataController;
+import io.spring.initializr.web.controller.MetadataContentCache;
 import io.spring.initializr.web.controller.ProjectGenerationController;
 import io.spring.initializr.web.controller.ProjectMetadataController;
 import io.spring.initializr.web.controller.SpringCliDistributionController;
+import io.spring.initializr.web.project.InMemoryProjectDirectoryFactory;
+import io.spring.initializr.web.project.ProjectArchiveCache;
+import io.spring.initializr.web.project.ProjectArchiveFragments;
+import io.spring.initializr.web.support.CopyOnWriteInitializrMetadataUpdateStrategy;
 import io.spring.initializr.web.support.DefaultInitializrMetadataProvider;
 import io.spring.initializr.web.support.InitializrMetadataUpdateStrategy;
+import io.spring.initializr.web.support.PrecomputedDependencyMetadataProvider;
+import io.spring.initializr.web.support.ScheduledInitializrMetadataProvider;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -45,6 +59,8 @@ import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -68,6 +84,25 @@ class InitializrAutoConfigurationTests {
 		this.contextRunner.run((context) -> assertThat(context).hasSingleBean(TemplateRenderer.class));
 	}
 
+	@Test
+	void autoConfigRegistersProjectResourceResolver() {
+		this.contextRunner.run((context) -> assertThat(context).hasSingleBean(ProjectResourceResolver.class));
+	}
+
+	@Test
+	void autoConfigWithoutCacheRegistersProjectResourceResolverWithoutCache() {
+		this.contextRunner.run((context) -> assertThat(context.getBean(ProjectResourceResolver.class))
+			.hasFieldOrPropertyWithValue("resourceCache", null));
+	}
+
+	@Test
+	void autoConfigWithCacheRegistersProjectResourceResolverWithCache() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+			.withUserConfiguration(CacheTestConfiguration.class)
+			.run((context) -> assertThat(context.getBean(ProjectResourceResolver.class)).extracting("resourceCache")
+				.isNotNull());
+	}
+
 	@Test
 	void autoConfigWhenTemplateRendererBeanPresentDoesNotRegisterTemplateRenderer() {
 		this.contextRunner.withUserConfiguration(CustomTemplateRendererConfiguration.class).run((context) -> {
@@ -91,6 +126,30 @@ class InitializrAutoConfigurationTests {
 			});
 	}
 
+	@Test
+	void metadataProviderWithCopyOnWriteWrapsInitializrMetadataUpdateStrategy() {
+		this.contextRunner.withUserConfiguration(CustomInitializrMetadataUpdateStrategyConfiguration.class)
+			.withPropertyValues("initializr.web.metadata.copy-on-write=true")
+			.run((context) -> assertThat(context.getBean(DefaultInitializrMetadataProvider.class))
+				.extracting("initializrMetadataUpdateStrategy")
+				.isInstanceOfSatisfying(CopyOnWriteInitializrMetadataUpdateStrategy.class,
+						(strategy) -> assertThat(strategy).hasFieldOrPropertyWithValue("delegate",
+								context.getBean("testInitializrMetadataUpdateStrategy"))));
+	}
+
+	@Test
+	void metadataProviderWithBackgroundRefreshRegistersScheduledProvider() {
+		this.contextRunner
+			.withPropertyValues("initializr.web.metadata.background-refresh=true",
+					"initializr.web.metadata.refresh-interval=5m")
+			.run((context) -> {
+				assertThat(context).hasSingleBean(InitializrMetadataProvider.class);
+				assertThat(context).hasSingleBean(ScheduledInitializrMetadataProvider.class);
+				assertThat(context.getBean(ScheduledInitializrMetadataProvider.class))
+					.hasFieldOrPropertyWithValue("refreshInterval", Duration.ofMinutes(5));
+			});
+	}
+
 	@Test
 	void metadataProviderWithCustomInitializrMetadataProvider() {
 		this.contextRunner.withUserConfiguration(CustomInitializrMetadataProviderConfiguration.class).run((context) -> {
@@ -112,6 +171,90 @@ class InitializrAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void autoConfigDoesNotRegisterPrecomputedDependencyMetadataProviderByDefault() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).hasSingleBean(DependencyMetadataProvider.class);
+			assertThat(context).doesNotHaveBean(PrecomputedDependencyMetadataProvider.class);
+		});
+	}
+
+	@Test
+	void autoConfigWithEagerDependenciesRegistersPrecomputedDependencyMetadataProvider() {
+		this.contextRunner.withPropertyValues("initializr.web.metadata.dependencies.eager=true").run((context) -> {
+			assertThat(context).hasSingleBean(DependencyMetadataProvider.class);
+			PrecomputedDependencyMetadataProvider provider = context
+				.getBean(PrecomputedDependencyMetadataProvider.class);
+			assertThat(provider).hasFieldOrPropertyWithValue("executor", null);
+			assertThat(context).doesNotHaveBean("initializrDependencyMetadataExecutor");
+			assertThat(provider).extracting("snapshot")
+				.isInstanceOfSatisfying(AtomicReference.class, (snapshot) -> assertThat(snapshot.get()).isNull());
+			context.getBean(InitializrMetadataProvider.class).get();
+			assertThat(provider).extracting("snapshot")
+				.isInstanceOfSatisfying(AtomicReference.class, (snapshot) -> assertThat(snapshot.get()).isNotNull());
+		});
+	}
+
+	@Test
+	void autoConfigWithEagerAndParallelDependenciesRegistersPrecomputedDependencyMetadataProviderWithExecutor() {
+		this.contextRunner
+			.withPropertyValues("initializr.web.metadata.dependencies.eager=true",
+					"initializr.web.metadata.dependencies.parallel=true")
+			.run((context) -> assertThat(context.getBean(PrecomputedDependencyMetadataProvider.class))
+				.extracting("executor")
+				.isSameAs(context.getBean("initializrDependencyMetadataExecutor"))
+				.isInstanceOf(ThreadPoolTaskExecutor.class));
+	}
+
+	@Test
+	void autoConfigWithEagerAndParallelDependenciesShutsDownThreadPoolWithContext() {
+		this.contextRunner
+			.withPropertyValues("initializr.web.metadata.dependencies.eager=true",
+					"initializr.web.metadata.dependencies.parallel=true")
+			.run((context) -> {
+				ThreadPoolTaskExecutor executor = context.getBean("initializrDependencyMetadataExecutor",
+						ThreadPoolTaskExecutor.class);
+				context.close();
+				assertThat(executor.getThreadPoolExecutor().isShutdown()).isTrue();
+			});
+	}
+
+	@Test
+	void autoConfigWithEagerAndParallelDependenciesAndVirtualThreadsUsesVirtualThreads() {
+		this.contextRunner
+			.withPropertyValues("initializr.web.metadata.dependencies.eager=true",
+					"initializr.web.metadata.dependencies.parallel=true", "spring.threads.virtual.enabled=true")
+			.run((context) -> assertThat(context.getBean(PrecomputedDependencyMetadataProvider.class))
+				.extracting("executor")
+				.isInstanceOf(SimpleAsyncTaskExecutor.class));
+	}
+
+	@Test
+	void autoConfigRegistersDiskBasedProjectDirectoryFactoryByDefault() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).hasSingleBean(ProjectDirectoryFactory.class);
+			assertThat(context).doesNotHaveBean(InMemoryProjectDirectoryFactory.class);
+		});
+	}
+
+	@Test
+	void autoConfigWithInMemoryGenerationRegistersInMemoryProjectDirectoryFactory() {
+		this.contextRunner.withPropertyValues("initializr.web.generation.in-memory=true").run((context) -> {
+			assertThat(context).hasSingleBean(ProjectDirectoryFactory.class);
+			assertThat(context).hasSingleBean(InMemoryProjectDirectoryFactory.class);
+		});
+	}
+
+	@Test
+	void autoConfigWithInMemoryGenerationAndNoJimfsRegistersDiskBasedProjectDirectoryFactory() {
+		this.contextRunner.withPropertyValues("initializr.web.generation.in-memory=true")
+			.withClassLoader(new FilteredClassLoader("com.google.common.jimfs"))
+			.run((context) -> {
+				assertThat(context).hasSingleBean(ProjectDirectoryFactory.class);
+				assertThat(context).doesNotHaveBean(InMemoryProjectDirectoryFactory.class);
+			});
+	}
+
 	@Test
 	void webConfiguration() {
 		WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
@@ -137,6 +280,159 @@ class InitializrAutoConfigurationTests {
 
 	}
 
+	@Test
+	void webConfigurationDoesNotRegisterProjectGenerationContextFactoryByDefault() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.run((context) -> assertThat(context).doesNotHaveBean(ProjectGenerationContextFactory.class));
+	}
+
+	@Test
+	void webConfigurationWithSharedConfigurationModelRegistersProjectGenerationContextFactory() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.share-configuration-model=true")
+			.run((context) -> assertThat(context).hasSingleBean(ProjectGenerationContextFactory.class));
+	}
+
+	@Test
+	void webConfigurationDoesNotRegisterParallelProjectAssetGeneratorByDefault() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.run((context) -> assertThat(context).doesNotHaveBean(ParallelProjectAssetGenerator.class));
+	}
+
+	@Test
+	void webConfigurationWithParallelContributorsRegistersParallelProjectAssetGenerator() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.contributors.parallel=true")
+			.run((context) -> assertThat(context).hasSingleBean(ParallelProjectAssetGenerator.class));
+	}
+
+	@Test
+	void webConfigurationWithParallelContributorsUsesBoundedThreadPool() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.contributors.parallel=true",
+					"initializr.web.generation.contributors.concurrency-limit=2",
+					"initializr.web.generation.contributors.pool-size=6")
+			.run((context) -> {
+				ParallelProjectAssetGenerator generator = context.getBean(ParallelProjectAssetGenerator.class);
+				assertThat(generator).hasFieldOrPropertyWithValue("concurrencyLimit", 2);
+				assertThat(generator).extracting("executor")
+					.isSameAs(context.getBean("initializrContributorExecutor"))
+					.isInstanceOfSatisfying(ThreadPoolTaskExecutor.class, (executor) -> {
+						assertThat(executor.getMaxPoolSize()).isEqualTo(6);
+						assertThat(executor.getQueueCapacity()).isZero();
+					});
+			});
+	}
+
+	@Test
+	void webConfigurationWithParallelContributorsShutsDownThreadPoolWithContext() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.contributors.parallel=true")
+			.run((context) -> {
+				ThreadPoolTaskExecutor executor = context.getBean("initializrContributorExecutor",
+						ThreadPoolTaskExecutor.class);
+				context.close();
+				assertThat(executor.getThreadPoolExecutor().isShutdown()).isTrue();
+			});
+	}
+
+	@Test
+	void webConfigurationWithParallelContributorsAndVirtualThreadsUsesVirtualThreads() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.contributors.parallel=true",
+					"spring.threads.virtual.enabled=true")
+			.run((context) -> assertThat(context.getBean(ParallelProjectAssetGenerator.class)).extracting("executor")
+				.isInstanceOf(SimpleAsyncTaskExecutor.class));
+	}
+
+	@Test
+	void webConfigurationDoesNotStreamArchivesByDefault() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.run((context) -> assertThat(context.getBean(ProjectGenerationController.class))
+				.hasFieldOrPropertyWithValue("streamArchives", false));
+	}
+
+	@Test
+	void webConfigurationWithStreamArchivesConfiguresController() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.stream-archives=true")
+			.run((context) -> assertThat(context.getBean(ProjectGenerationController.class))
+				.hasFieldOrPropertyWithValue("streamArchives", true));
+	}
+
+	@Test
+	void webConfigurationDoesNotRegisterProjectArchiveFragmentsByDefault() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.run((context) -> assertThat(context).doesNotHaveBean(ProjectArchiveFragments.class));
+	}
+
+	@Test
+	void webConfigurationWithReuseCompressedEntriesRegistersProjectArchiveFragments() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.reuse-compressed-entries=true")
+			.run((context) -> {
+				assertThat(context).hasSingleBean(ProjectArchiveFragments.class);
+				assertThat(context.getBean(ProjectGenerationController.class)).hasFieldOrPropertyWithValue(
+						"projectArchiveFragments", context.getBean(ProjectArchiveFragments.class));
+			});
+	}
+
+	@Test
+	void webConfigurationWithCompressedEntriesMaxSizeConfiguresProjectArchiveFragments() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.reuse-compressed-entries=true",
+					"initializr.web.generation.compressed-entries-max-size=2MB")
+			.run((context) -> assertThat(context.getBean(ProjectArchiveFragments.class))
+				.hasFieldOrPropertyWithValue("maxSize", 2L * 1024 * 1024));
+	}
+
+	@Test
+	void webConfigurationDoesNotRegisterMetadataContentCacheByDefault() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS).run((context) -> {
+			assertThat(context).doesNotHaveBean(MetadataContentCache.class);
+			assertThat(context.getBean(ProjectMetadataController.class))
+				.hasFieldOrPropertyWithValue("metadataContentCache", null);
+		});
+	}
+
+	@Test
+	void webConfigurationWithCacheContentRegistersMetadataContentCache() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.metadata.cache-content=true")
+			.run((context) -> {
+				assertThat(context).hasSingleBean(MetadataContentCache.class);
+				assertThat(context.getBean(ProjectMetadataController.class))
+					.hasFieldOrPropertyWithValue("metadataContentCache", context.getBean(MetadataContentCache.class));
+			});
+	}
+
+	@Test
+	void webConfigurationDoesNotRegisterProjectArchiveCacheByDefault() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.run((context) -> assertThat(context).doesNotHaveBean(ProjectArchiveCache.class));
+	}
+
+	@Test
+	void webConfigurationWithArchiveCacheEnabledAndNoCacheDoesNotCacheArchives() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withPropertyValues("initializr.web.generation.cache.enabled=true")
+			.run((context) -> assertThat(context.getBeanProvider(ProjectArchiveCache.class).getIfAvailable()).isNull());
+	}
+
+	@Test
+	void webConfigurationWithArchiveCacheEnabledRegistersProjectArchiveCache() {
+		new WebApplicationContextRunner().withConfiguration(BASIC_AUTO_CONFIGURATIONS)
+			.withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+			.withUserConfiguration(CacheTestConfiguration.class)
+			.withPropertyValues("initializr.web.generation.cache.enabled=true",
+					"initializr.web.generation.cache.max-size=1MB")
+			.run((context) -> {
+				assertThat(context).hasSingleBean(ProjectArchiveCache.class);
+				assertThat(context.getBean(ProjectArchiveCache.class)).hasFieldOrPropertyWithValue("maxSize",
+						1024L * 1024L);
+			});
+	}
+
 	@Test
 	void webConfigurationConditionalOnWebApplication() {
 		this.contextRunner.run((context) -> {
@@ -157,7 +453,8 @@ class InitializrAutoConfigurationTests {
 					.hasSingleBean(JCacheCacheManager.class);
 				JCacheCacheManager cacheManager = context.getBean(JCacheCacheManager.class);
 				assertThat(cacheManager.getCacheNames()).containsOnly("initializr.metadata",
-						"initializr.dependency-metadata", "initializr.project-resources", "initializr.templates");
+						"initializr.dependency-metadata", "initializr.project-resources", "initializr.project-archives",
+						"initializr.templates");
 				assertThat(getConfiguration(cacheManager, "initializr.metadata").isStatisticsEnabled()).isTrue();
 			});
 	}
@@ -170,8 +467,8 @@ class InitializrAutoConfigurationTests {
 				assertThat(context).getBeans(JCacheManagerCustomizer.class).hasSize(2);
 				JCacheCacheManager cacheManager = context.getBean(JCacheCacheManager.class);
 				assertThat(cacheManager.getCacheNames()).containsOnly("initializr.metadata",
-						"initializr.dependency-metadata", "initializr.project-resources", "initializr.templates",
-						"custom.cache");
+						"initializr.dependency-metadata", "initializr.project-resources", "initializr.project-archives",
+						"initializr.templates", "custom.cache");
 				assertThat(getConfiguration(cacheManager, "initializr.metadata").isStatisticsEnabled()).isFalse();
 			});
 	}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.metadata.DefaultMetadataElement;
+import io.spring.initializr.metadata.InitializrMetadata;
+import io.spring.initializr.web.controller.MetadataContentCache.Content;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MetadataContentCache}.
+ *
+ * @author agent
+ */
+class MetadataContentCacheTests {
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	@Test
+	void getWithSameRevisionAndKeyRendersContentOnce() {
+		MetadataContentCache cache = new MetadataContentCache(16);
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+		Content content = cache.get(metadata, "test", this::render);
+		assertThat(cache.get(metadata, "test", this::render)).isSameAs(content);
+		assertThat(this.counter).hasValue(1);
+	}
+
+	@Test
+	void getWithDifferentKeyRendersContent() {
+		MetadataContentCache cache = new MetadataContentCache(16);
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+		Content content = cache.get(metadata, List.of("test", 1), this::render);
+		assertThat(cache.get(metadata, List.of("test", 2), this::render)).isNotEqualTo(content);
+		assertThat(cache.get(metadata, List.of("test", 1), this::render)).isSameAs(content);
+		assertThat(this.counter).hasValue(2);
+	}
+
+	@Test
+	void getWithUpdatedMetadataRendersContentAgain() {
+		MetadataContentCache cache = new MetadataContentCache(16);
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+		Content content = cache.get(metadata, "test", this::render);
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+		assertThat(cache.get(metadata, "test", this::render)).isNotEqualTo(content);
+		assertThat(this.counter).hasValue(2);
+	}
+
+	@Test
+	void getWithPreviousRevisionDoesNotReplaceContent() {
+		MetadataContentCache cache = new MetadataContentCache(16);
+		InitializrMetadata previous = InitializrMetadataTestBuilder.withDefaults().build();
+		InitializrMetadata current = InitializrMetadataTestBuilder.withDefaults().build();
+		Content content = cache.get(current, "test", this::render);
+		cache.get(previous, "test", this::render);
+		assertThat(cache.get(current, "test", this::render)).isSameAs(content);
+		assertThat(this.counter).hasValue(2);
+	}
+
+	@Test
+	void getWhenMaxEntriesIsReachedDiscardsLeastRecentlyUsedContent() {
+		MetadataContentCache cache = new MetadataContentCache(2);
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+		Content first = cache.get(metadata, "first", this::render);
+		Content second = cache.get(metadata, "second", this::render);
+		cache.get(metadata, "first", this::render);
+		cache.get(metadata, "third", this::render);
+		assertThat(cache.get(metadata, "first", this::render)).isSameAs(first);
+		assertThat(cache.get(metadata, "second", this::render)).isNotSameAs(second);
+		assertThat(this.counter).hasValue(4);
+	}
+
+	@Test
+	void getCreatesGzipVariantOfContent() throws IOException {
+		MetadataContentCache cache = new MetadataContentCache(16);
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+		byte[] body = "{\"name\":\"test\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+		Content content = cache.get(metadata, "test", () -> new Content(body, "etag"));
+		byte[] gzipBody = content.gzipBody();
+		assertThat(gzipBody).isNotNull().hasSizeLessThan(body.length);
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+			assertThat(in.readAllBytes()).isEqualTo(body);
+		}
+	}
+
+	@Test
+	void getWithContentThatDoesNotCompressDoesNotCreateGzipVariant() {
+		MetadataContentCache cache = new MetadataContentCache(16);
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+		assertThat(cache.get(metadata, "test", this::render).gzipBody()).isNull();
+	}
+
+	private Content render() {
+		int count = this.counter.incrementAndGet();
+		return new Content(("content-" + count).getBytes(StandardCharsets.UTF_8), "etag-" + count);
+	}
+
+}
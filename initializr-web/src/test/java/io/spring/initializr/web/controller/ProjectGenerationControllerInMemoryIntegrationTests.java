@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.controller;
+
+import io.spring.initializr.generator.test.project.ProjectStructure;
+import io.spring.initializr.web.AbstractFullStackInitializrIntegrationTests;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for {@link ProjectGenerationController} generating projects in an
+ * in-memory file system.
+ *
+ * @author agent
+ */
+@ActiveProfiles("test-default")
+@TestPropertySource(properties = "initializr.web.generation.in-memory=true")
+class ProjectGenerationControllerInMemoryIntegrationTests extends AbstractFullStackInitializrIntegrationTests {
+
+	@Test
+	void zipWithInMemoryFileSystem() {
+		ProjectStructure project = downloadZip("/starter.zip");
+		assertDefaultProject(project);
+	}
+
+	@Test
+	void tgzWithInMemoryFileSystem() {
+		ProjectStructure project = downloadTgz("/starter.tgz");
+		assertDefaultProject(project);
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import io.spring.initializr.web.AbstractInitializrControllerIntegrationTests;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ProjectMetadataController} with a
+ * {@link MetadataContentCache}.
+ *
+ * @author agent
+ */
+@ActiveProfiles("test-default")
+@TestPropertySource(properties = "initializr.web.metadata.cache-content=true")
+class ProjectMetadataControllerCacheContentIntegrationTests extends AbstractInitializrControllerIntegrationTests {
+
+	@Test
+	void metadataIsServedFromCache() {
+		ResponseEntity<String> first = invokeHome(null, "application/vnd.initializr.v2.3+json");
+		ResponseEntity<String> second = invokeHome(null, "application/vnd.initializr.v2.3+json");
+		validateCurrentMetadata(second);
+		assertThat(second.getBody()).isEqualTo(first.getBody());
+		assertThat(second.getHeaders().getETag()).isNotNull().isEqualTo(first.getHeaders().getETag());
+	}
+
+	@Test
+	void metadataWithDifferentVersionHasDifferentETag() {
+		ResponseEntity<String> current = invokeHome(null, "application/vnd.initializr.v2.3+json");
+		ResponseEntity<String> previous = invokeHome(null, "application/vnd.initializr.v2.2+json");
+		assertThat(previous.getHeaders().getETag()).isNotNull().isNotEqualTo(current.getHeaders().getETag());
+	}
+
+	@Test
+	void metadataWithMatchingETagIsNotModified() {
+		ResponseEntity<String> response = invokeHome(null, "application/vnd.initializr.v2.3+json");
+		ResponseEntity<String> notModified = executeConditional("/metadata/client",
+				"application/vnd.initializr.v2.3+json", response.getHeaders().getETag());
+		assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(notModified.getBody()).isNull();
+	}
+
+	@Test
+	void dependenciesWithMatchingETagIsNotModified() {
+		ResponseEntity<String> response = execute("/dependencies", String.class, null,
+				"application/vnd.initializr.v2.3+json");
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		ResponseEntity<String> notModified = executeConditional("/dependencies", "application/vnd.initializr.v2.3+json",
+				response.getHeaders().getETag());
+		assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(notModified.getBody()).isNull();
+	}
+
+	@Test
+	void metadataWithGzipAcceptEncodingIsCompressed() throws IOException {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(List.of(CURRENT_METADATA_MEDIA_TYPE));
+		headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+		ResponseEntity<byte[]> response = getRestTemplate().exchange(createUrl("/metadata/client"), HttpMethod.GET,
+				new HttpEntity<Void>(headers), byte[].class);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+		ResponseEntity<String> identity = invokeHome(null, "application/vnd.initializr.v2.3+json");
+		assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getHeaders().getETag()).isNotEqualTo(identity.getHeaders().getETag());
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(identity.getBody());
+		}
+	}
+
+	@Test
+	void metadataWithGzipAcceptEncodingAndMatchingETagIsNotModified() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(List.of(CURRENT_METADATA_MEDIA_TYPE));
+		headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		ResponseEntity<byte[]> response = getRestTemplate().exchange(createUrl("/metadata/client"), HttpMethod.GET,
+				new HttpEntity<Void>(headers), byte[].class);
+		String eTag = response.getHeaders().getETag();
+		assertThat(eTag).startsWith("W/");
+		headers.setIfNoneMatch(eTag);
+		ResponseEntity<byte[]> notModified = getRestTemplate().exchange(createUrl("/metadata/client"), HttpMethod.GET,
+				new HttpEntity<Void>(headers), byte[].class);
+		assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+	}
+
+	@Test
+	void metadataWithGzipExcludedIsNotCompressed() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(List.of(CURRENT_METADATA_MEDIA_TYPE));
+		headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+		ResponseEntity<String> response = getRestTemplate().exchange(createUrl("/metadata/client"), HttpMethod.GET,
+				new HttpEntity<Void>(headers), String.class);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		validateCurrentMetadata(response);
+	}
+
+	private ResponseEntity<String> executeConditional(String contextPath, String acceptHeader, String eTag) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(List.of(MediaType.parseMediaType(acceptHeader)));
+		headers.setIfNoneMatch(eTag);
+		return getRestTemplate().exchange(createUrl(contextPath), HttpMethod.GET, new HttpEntity<Void>(headers),
+				String.class);
+	}
+
+}
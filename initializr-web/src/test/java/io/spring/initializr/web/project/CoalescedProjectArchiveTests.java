@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.spring.initializr.generator.project.MutableProjectDescription;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link CoalescedProjectArchive}.
+ *
+ * @author agent
+ */
+class CoalescedProjectArchiveTests {
+
+	private final MutableProjectDescription description = new MutableProjectDescription();
+
+	@Test
+	void writeSmallArchiveHoldsContentInMemory() throws IOException {
+		CoalescedProjectArchive archive = CoalescedProjectArchive.write(this.description, writing("test"), 4);
+		assertThat(archive.getContent()).isEqualTo("test".getBytes(StandardCharsets.UTF_8));
+		assertThat(getFile(archive)).isNull();
+		assertThat(write(archive.retain())).isEqualTo("test");
+		assertThat(write(archive.retain())).isEqualTo("test");
+	}
+
+	@Test
+	void writeLargeArchiveUsesTemporaryFile() throws IOException {
+		CoalescedProjectArchive archive = CoalescedProjectArchive.write(this.description, writing("test"), 3);
+		assertThat(archive.getContent()).isNull();
+		Path file = getFile(archive);
+		assertThat(file).isNotNull().hasContent("test");
+		ProjectArchive first = archive.retain();
+		ProjectArchive second = archive.retain();
+		assertThat(write(first)).isEqualTo("test");
+		assertThat(file).exists();
+		assertThat(write(second)).isEqualTo("test");
+		assertThat(file).doesNotExist();
+		assertThat(archive.retain()).isNull();
+	}
+
+	@Test
+	void closeArchiveWithTemporaryFileWithoutWritingIt() throws IOException {
+		CoalescedProjectArchive archive = CoalescedProjectArchive.write(this.description, writing("test"), 3);
+		Path file = getFile(archive);
+		ProjectArchive first = archive.retain();
+		assertThat(first).isNotNull();
+		first.close();
+		first.close();
+		assertThat(file).doesNotExist();
+		assertThat(archive.retain()).isNull();
+	}
+
+	@Test
+	void writeFailureDeletesTemporaryFile() {
+		AtomicReference<Path> file = new AtomicReference<>();
+		assertThatIOException().isThrownBy(() -> CoalescedProjectArchive.write(this.description, (output) -> {
+			output.write("test".getBytes(StandardCharsets.UTF_8));
+			file.set((Path) ReflectionTestUtils.getField(output, "file"));
+			throw new IOException("test");
+		}, 3));
+		assertThat(file.get()).isNotNull().doesNotExist();
+	}
+
+	private static ProjectArchive.Content writing(String content) {
+		return (output) -> output.write(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String write(ProjectArchive archive) throws IOException {
+		assertThat(archive).isNotNull();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		archive.writeTo(output);
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	private static Path getFile(CoalescedProjectArchive archive) {
+		return (Path) ReflectionTestUtils.getField(archive, "file");
+	}
+
+}
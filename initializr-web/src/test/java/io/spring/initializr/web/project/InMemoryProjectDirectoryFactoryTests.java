@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.spring.initializr.generator.project.MutableProjectDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link InMemoryProjectDirectoryFactory}.
+ *
+ * @author agent
+ */
+class InMemoryProjectDirectoryFactoryTests {
+
+	private final InMemoryProjectDirectoryFactory factory = new InMemoryProjectDirectoryFactory();
+
+	@AfterEach
+	void close() throws IOException {
+		this.factory.close();
+	}
+
+	@Test
+	void createProjectDirectoryDoesNotUseDefaultFileSystem() throws IOException {
+		Path directory = this.factory.createProjectDirectory(new MutableProjectDescription());
+		assertThat(directory).isDirectory();
+		assertThat(directory.getFileSystem()).isNotEqualTo(FileSystems.getDefault());
+		assertThat(directory.getFileName().toString()).startsWith("project-");
+	}
+
+	@Test
+	void createProjectDirectoryCreatesDedicatedDirectory() throws IOException {
+		Path first = this.factory.createProjectDirectory(new MutableProjectDescription());
+		Path second = this.factory.createProjectDirectory(new MutableProjectDescription());
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Test
+	void projectDirectoryCanBeDeleted() throws IOException {
+		Path directory = this.factory.createProjectDirectory(new MutableProjectDescription());
+		Files.writeString(directory.resolve("test.txt"), "test");
+		assertThat(FileSystemUtils.deleteRecursively(directory)).isTrue();
+		assertThat(directory).doesNotExist();
+	}
+
+	@Test
+	void closeClosesFileSystem() throws IOException {
+		Path directory = this.factory.createProjectDirectory(new MutableProjectDescription());
+		this.factory.close();
+		assertThat(directory.getFileSystem().isOpen()).isFalse();
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import io.spring.initializr.generator.project.MutableProjectDescription;
+import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectArchiveCache}.
+ *
+ * @author agent
+ */
+class ProjectArchiveCacheTests {
+
+	private final InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache("test");
+
+	@Test
+	void createKeyWithCustomDescriptionType() {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		assertThat(archiveCache.createKey(this.metadata, new CustomProjectDescription(), "zip")).isNull();
+	}
+
+	@Test
+	void getWithUnknownKey() {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		ProjectArchiveKey key = archiveCache.createKey(this.metadata, new MutableProjectDescription(), "zip");
+		assertThat(key).isNotNull();
+		assertThat(archiveCache.get(key)).isNull();
+	}
+
+	@Test
+	void cacheOnWriteStoresArchive() throws IOException {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		MutableProjectDescription description = new MutableProjectDescription();
+		ProjectArchiveKey key = archiveCache.createKey(this.metadata, description, "zip");
+		assertThat(key).isNotNull();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		archiveCache.cacheOnWrite(key, description, writing("test")).writeTo(output);
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("test");
+		GeneratedProjectArchive archive = archiveCache.get(key);
+		assertThat(archive).isNotNull();
+		assertThat(archive.description()).isSameAs(description);
+		assertThat(archive.content()).isEqualTo("test".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void putStoresArchive() {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		MutableProjectDescription description = new MutableProjectDescription();
+		ProjectArchiveKey key = archiveCache.createKey(this.metadata, description, "zip");
+		assertThat(key).isNotNull();
+		byte[] content = "test".getBytes(StandardCharsets.UTF_8);
+		archiveCache.put(key, new GeneratedProjectArchive(description, content));
+		GeneratedProjectArchive archive = archiveCache.get(key);
+		assertThat(archive).isNotNull();
+		assertThat(archive.content()).isEqualTo(content);
+	}
+
+	@Test
+	void cacheOnWriteWithArchiveLargerThanMaxSizeDoesNotStoreArchive() throws IOException {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 4);
+		MutableProjectDescription description = new MutableProjectDescription();
+		ProjectArchiveKey key = archiveCache.createKey(this.metadata, description, "zip");
+		assertThat(key).isNotNull();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		archiveCache.cacheOnWrite(key, description, writing("too large")).writeTo(output);
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("too large");
+		assertThat(archiveCache.get(key)).isNull();
+	}
+
+	@Test
+	void cacheOnWriteEvictsLeastRecentlyUsedArchives() throws IOException {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 8);
+		ProjectArchiveKey first = store(archiveCache, "one", "1234");
+		ProjectArchiveKey second = store(archiveCache, "two", "5678");
+		assertThat(archiveCache.get(first)).isNotNull();
+		ProjectArchiveKey third = store(archiveCache, "three", "9012");
+		assertThat(archiveCache.get(first)).isNotNull();
+		assertThat(archiveCache.get(second)).isNull();
+		assertThat(archiveCache.get(third)).isNotNull();
+		assertThat(this.cache.getNativeCache()).hasSize(2);
+	}
+
+	@Test
+	void createKeyWithNewMetadataRevisionClearsCache() throws IOException {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		ProjectArchiveKey key = store(archiveCache, "one", "1234");
+		InitializrMetadata newMetadata = InitializrMetadataTestBuilder.withDefaults().build();
+		ProjectArchiveKey newKey = archiveCache.createKey(newMetadata, artifact("one"), "zip");
+		assertThat(newKey).isNotNull().isNotEqualTo(key);
+		assertThat(archiveCache.get(key)).isNull();
+		assertThat(archiveCache.get(newKey)).isNull();
+		assertThat(this.cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void createKeyWithOlderMetadataRevisionKeepsCache() throws IOException {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		InitializrMetadata newMetadata = InitializrMetadataTestBuilder.withDefaults().build();
+		MutableProjectDescription description = artifact("one");
+		ProjectArchiveKey key = archiveCache.createKey(newMetadata, description, "zip");
+		assertThat(key).isNotNull();
+		archiveCache.cacheOnWrite(key, description, writing("1234")).writeTo(new ByteArrayOutputStream());
+		ProjectArchiveKey staleKey = archiveCache.createKey(this.metadata, artifact("two"), "zip");
+		assertThat(staleKey).isNotNull();
+		assertThat(archiveCache.get(staleKey)).isNull();
+		archiveCache.cacheOnWrite(staleKey, artifact("two"), writing("5678")).writeTo(new ByteArrayOutputStream());
+		assertThat(archiveCache.get(staleKey)).isNull();
+		assertThat(archiveCache.get(key)).isNotNull();
+		assertThat(this.cache.getNativeCache()).hasSize(1);
+	}
+
+	@Test
+	void cacheOnWriteWithStaleRevisionDoesNotStoreArchive() throws IOException {
+		ProjectArchiveCache archiveCache = new ProjectArchiveCache(this.cache, 1024);
+		MutableProjectDescription description = artifact("one");
+		ProjectArchiveKey key = archiveCache.createKey(this.metadata, description, "zip");
+		assertThat(key).isNotNull();
+		archiveCache.createKey(InitializrMetadataTestBuilder.withDefaults().build(), description, "zip");
+		archiveCache.cacheOnWrite(key, description, writing("1234")).writeTo(new ByteArrayOutputStream());
+		assertThat(this.cache.getNativeCache()).isEmpty();
+	}
+
+	private ProjectArchiveKey store(ProjectArchiveCache archiveCache, String artifactId, String content)
+			throws IOException {
+		MutableProjectDescription description = artifact(artifactId);
+		ProjectArchiveKey key = archiveCache.createKey(this.metadata, description, "zip");
+		assertThat(key).isNotNull();
+		archiveCache.cacheOnWrite(key, description, writing(content)).writeTo(new ByteArrayOutputStream());
+		return key;
+	}
+
+	private static MutableProjectDescription artifact(String artifactId) {
+		MutableProjectDescription description = new MutableProjectDescription();
+		description.setArtifactId(artifactId);
+		return description;
+	}
+
+	private static ProjectArchive.Content writing(String content) {
+		return (output) -> output.write(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static class CustomProjectDescription extends MutableProjectDescription {
+
+	}
+
+}
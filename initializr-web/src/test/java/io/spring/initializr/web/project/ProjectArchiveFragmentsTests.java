@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import io.spring.initializr.web.project.ProjectArchiveFragments.Fragment;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectArchiveFragments}.
+ *
+ * @author agent
+ */
+class ProjectArchiveFragmentsTests {
+
+	private static final byte[] CONTENT = "#!/bin/sh\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	void getWithContentSeenOnceReturnsNull() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 2);
+		assertThat(fragments.get(CONTENT)).isNull();
+	}
+
+	@Test
+	void getWithContentSeenTwiceReturnsFragment() throws IOException {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 2);
+		fragments.get(CONTENT);
+		Fragment fragment = fragments.get(CONTENT);
+		assertThat(fragment).isNotNull();
+		CRC32 crc = new CRC32();
+		crc.update(CONTENT);
+		assertThat(fragment.crc()).isEqualTo(crc.getValue());
+		assertThat(fragment.compressedContent()).hasSizeLessThan(CONTENT.length);
+		assertThat(inflate(fragment.compressedContent())).isEqualTo(CONTENT);
+		assertThat(fragments.get(CONTENT)).isSameAs(fragment);
+	}
+
+	@Test
+	void getWithContentSeenLessThanDefaultMinOccurrencesReturnsNull() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024);
+		for (int i = 0; i < 9; i++) {
+			assertThat(fragments.get(CONTENT)).isNull();
+		}
+		assertThat(fragments.get(CONTENT)).isNotNull();
+	}
+
+	@Test
+	void getWithContentSeenOnceAmongRecentContentsReturnsNull() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 2);
+		fragments.get(CONTENT);
+		for (int i = 0; i < 1024; i++) {
+			fragments.get(("build-" + i).getBytes(StandardCharsets.UTF_8));
+		}
+		assertThat(fragments.get(CONTENT)).isNull();
+	}
+
+	@Test
+	void getWithEqualContentReturnsFragment() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 2);
+		fragments.get(CONTENT);
+		Fragment fragment = fragments.get(CONTENT);
+		assertThat(fragments.get(CONTENT.clone())).isSameAs(fragment);
+	}
+
+	@Test
+	void getWhenMaxSizeIsReachedDoesNotRetainContent() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(4, 2);
+		fragments.get(CONTENT);
+		assertThat(fragments.get(CONTENT)).isNull();
+		assertThat(fragments.get(CONTENT)).isNull();
+	}
+
+	@Test
+	void getWhenMaxSizeIsReachedEvictsLeastRecentlyUsedContent() {
+		byte[] first = "a".repeat(1000).getBytes(StandardCharsets.UTF_8);
+		byte[] second = "b".repeat(1000).getBytes(StandardCharsets.UTF_8);
+		byte[] third = "c".repeat(1000).getBytes(StandardCharsets.UTF_8);
+		long fragmentSize = sizeOf(first);
+		assertThat(sizeOf(second)).isEqualTo(fragmentSize);
+		assertThat(sizeOf(third)).isEqualTo(fragmentSize);
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(fragmentSize * 2, 1);
+		Fragment firstFragment = fragments.get(first);
+		assertThat(fragments.get(second)).isNotNull();
+		assertThat(fragments.get(first)).isSameAs(firstFragment);
+		Fragment thirdFragment = fragments.get(third);
+		assertThat(thirdFragment).isNotNull();
+		assertThat(fragments.get(first)).isSameAs(firstFragment);
+		assertThat(fragments).extracting("fragments").asInstanceOf(InstanceOfAssertFactories.MAP).hasSize(2);
+		assertThat(fragments).extracting("size").isEqualTo(fragmentSize * 2);
+		assertThat(fragments.get(second)).isNotNull();
+		assertThat(fragments.get(first)).isSameAs(firstFragment);
+		assertThat(fragments.get(third)).isNotSameAs(thirdFragment);
+	}
+
+	@Test
+	void isSharedWithFileSeenLessThanMinOccurrencesReturnsFalse() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 3);
+		assertThat(fragments.isShared("mvnw", 42)).isFalse();
+		assertThat(fragments.isShared("mvnw", 42)).isFalse();
+		assertThat(fragments.isShared("mvnw", 42)).isTrue();
+		assertThat(fragments.isShared("mvnw", 42)).isTrue();
+	}
+
+	@Test
+	void isSharedWithSameNameAndDifferentSizeReturnsFalse() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 2);
+		assertThat(fragments.isShared("pom.xml", 1024)).isFalse();
+		assertThat(fragments.isShared("pom.xml", 1025)).isFalse();
+		assertThat(fragments.isShared("pom.xml", 1026)).isFalse();
+	}
+
+	@Test
+	void isSharedWithFileSeenOnceAmongRecentFilesReturnsFalse() {
+		ProjectArchiveFragments fragments = new ProjectArchiveFragments(1024, 2);
+		fragments.isShared("mvnw", 42);
+		for (int i = 0; i < 1024; i++) {
+			fragments.isShared("build-" + i, 42);
+		}
+		assertThat(fragments.isShared("mvnw", 42)).isFalse();
+	}
+
+	private static long sizeOf(byte[] content) {
+		Fragment fragment = new ProjectArchiveFragments(Long.MAX_VALUE, 1).get(content);
+		assertThat(fragment).isNotNull();
+		// The SHA-256 digest of the content is retained as well
+		return fragment.compressedContent().length + 32;
+	}
+
+	private static byte[] inflate(byte[] content) throws IOException {
+		try (InflaterInputStream input = new InflaterInputStream(new ByteArrayInputStream(content),
+				new Inflater(true))) {
+			return input.readAllBytes();
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.project;
+
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.project.MutableProjectDescription;
+import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProjectArchiveKey}.
+ *
+ * @author agent
+ */
+class ProjectArchiveKeyTests {
+
+	private final InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults().build();
+
+	@Test
+	void ofUsesResolvedDescription() {
+		MutableProjectDescription explicitDescription = new MutableProjectDescription();
+		explicitDescription.setGroupId("com.example");
+		explicitDescription.setArtifactId("demo");
+		assertThat(ProjectArchiveKey.of(this.metadata, new MutableProjectDescription(), "zip"))
+			.isEqualTo(ProjectArchiveKey.of(this.metadata, explicitDescription, "zip"));
+	}
+
+	@Test
+	void ofWithDifferentFormat() {
+		MutableProjectDescription description = new MutableProjectDescription();
+		assertThat(ProjectArchiveKey.of(this.metadata, description, "zip"))
+			.isNotEqualTo(ProjectArchiveKey.of(this.metadata, description, "tar.gz"));
+	}
+
+	@Test
+	void ofWithDifferentDependencies() {
+		MutableProjectDescription description = new MutableProjectDescription();
+		description.addDependency("web", Dependency.withCoordinates("org.example", "web"));
+		assertThat(ProjectArchiveKey.of(this.metadata, description, "zip"))
+			.isNotEqualTo(ProjectArchiveKey.of(this.metadata, new MutableProjectDescription(), "zip"));
+	}
+
+	@Test
+	void ofWithDifferentMetadataRevision() {
+		InitializrMetadata otherMetadata = InitializrMetadataTestBuilder.withDefaults().build();
+		MutableProjectDescription description = new MutableProjectDescription();
+		assertThat(ProjectArchiveKey.of(this.metadata, description, "zip"))
+			.isNotEqualTo(ProjectArchiveKey.of(otherMetadata, description, "zip"));
+	}
+
+	@Test
+	void ofWithCustomDescriptionType() {
+		assertThat(ProjectArchiveKey.of(this.metadata, new CustomProjectDescription(), "zip")).isNull();
+	}
+
+	static class CustomProjectDescription extends MutableProjectDescription {
+
+	}
+
+}
@@ -16,11 +16,23 @@
 
 package io.spring.initializr.web.project;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
@@ -29,18 +41,21 @@ import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
 import io.spring.initializr.generator.project.ProjectAssetGenerator;
 import io.spring.initializr.generator.project.ProjectDescription;
 import io.spring.initializr.generator.project.ProjectDirectoryFactory;
+import io.spring.initializr.generator.project.ProjectGenerationException;
 import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
 import io.spring.initializr.generator.test.buildsystem.gradle.GroovyDslGradleBuildAssert;
 import io.spring.initializr.generator.test.buildsystem.maven.MavenBuildAssert;
 import io.spring.initializr.generator.test.project.ProjectStructure;
 import io.spring.initializr.metadata.InitializrMetadata;
 import io.spring.initializr.metadata.InitializrMetadataProvider;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentMatcher;
 
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -48,6 +63,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -176,7 +193,7 @@ class ProjectGenerationInvokerTests {
 	}
 
 	@Test
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "removal" })
 	void createDistributionDirectory(@TempDir Path tempDir) {
 		ProjectRequest request = new ProjectRequest();
 		request.setType("gradle-project");
@@ -218,6 +235,279 @@ class ProjectGenerationInvokerTests {
 		verifyProjectSuccessfulEventFor(webRequest);
 	}
 
+	@Test
+	void invokeProjectArchiveGenerationCleansTempFilesOnceWritten() throws IOException {
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		List<Path> rootDirectories = new ArrayList<>();
+		ProjectArchive archive = this.invoker.invokeProjectArchiveGeneration(request, "zip", (result, output) -> {
+			rootDirectories.add(result.getRootDirectory());
+			output.write("test".getBytes(StandardCharsets.UTF_8));
+		});
+		assertThat(archive.getProjectDescription().getArtifactId()).isEqualTo("demo");
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		archive.writeTo(output);
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("test");
+		assertThat(rootDirectories).singleElement().satisfies((directory) -> assertThat(directory).doesNotExist());
+		verifyProjectSuccessfulEventFor(request);
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationCleansTempFilesOnCloseIfNotWritten() {
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		List<Path> rootDirectories = new ArrayList<>();
+		ProjectArchive archive = this.invoker.invokeProjectArchiveGeneration(request, "zip",
+				(result, output) -> rootDirectories.add(result.getRootDirectory()));
+		Map<Path, List<Path>> tempFiles = getTempFiles();
+		assertThat(tempFiles).hasSize(1);
+		Path rootDirectory = tempFiles.keySet().iterator().next();
+		assertThat(rootDirectory).exists();
+		archive.close();
+		assertThat(rootDirectory).doesNotExist();
+		assertThat(tempFiles).isEmpty();
+		assertThat(rootDirectories).isEmpty();
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationCleansTempFilesIfWritingFails() {
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		List<Path> rootDirectories = new ArrayList<>();
+		ProjectArchive archive = this.invoker.invokeProjectArchiveGeneration(request, "zip", (result, output) -> {
+			rootDirectories.add(result.getRootDirectory());
+			throw new IOException("Connection reset by peer");
+		});
+		assertThatIOException().isThrownBy(() -> archive.writeTo(new ByteArrayOutputStream()))
+			.withMessage("Connection reset by peer");
+		assertThat(rootDirectories).singleElement().satisfies((directory) -> assertThat(directory).doesNotExist());
+		assertThat(getTempFiles()).isEmpty();
+		archive.close();
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCacheReusesArchive() throws IOException {
+		this.invoker.setProjectArchiveCache(new ProjectArchiveCache(new ConcurrentMapCache("test"), 1024));
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		AtomicInteger invocations = new AtomicInteger();
+		ProjectArchiver archiver = (result, output) -> output
+			.write(("test" + invocations.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver).writeTo(first);
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver).writeTo(second);
+		assertThat(invocations).hasValue(1);
+		assertThat(first.toString(StandardCharsets.UTF_8)).isEqualTo("test1");
+		assertThat(second.toString(StandardCharsets.UTF_8)).isEqualTo("test1");
+		verify(this.eventPublisher, times(2)).publishEvent(argThat(new ProjectGeneratedEventMatcher(request)));
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCacheAndDifferentFormat() throws IOException {
+		this.invoker.setProjectArchiveCache(new ProjectArchiveCache(new ConcurrentMapCache("test"), 1024));
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		AtomicInteger invocations = new AtomicInteger();
+		ProjectArchiver archiver = (result, output) -> invocations.incrementAndGet();
+		this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver).writeTo(new ByteArrayOutputStream());
+		this.invoker.invokeProjectArchiveGeneration(request, "tar.gz", archiver).writeTo(new ByteArrayOutputStream());
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCoalescingSharesInFlightGeneration() throws Exception {
+		this.invoker.setCoalesceIdenticalRequests(true);
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger invocations = new AtomicInteger();
+		ProjectArchiver archiver = (result, output) -> {
+			invocations.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			output.write("test".getBytes(StandardCharsets.UTF_8));
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<ProjectArchive> leader = executor
+				.submit(() -> this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			AtomicReference<Thread> followerThread = new AtomicReference<>();
+			Future<ProjectArchive> follower = executor.submit(() -> {
+				followerThread.set(Thread.currentThread());
+				return this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver);
+			});
+			long deadline = System.currentTimeMillis() + 5000;
+			while ((followerThread.get() == null || followerThread.get().getState() != Thread.State.TIMED_WAITING)
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			release.countDown();
+			ByteArrayOutputStream leaderOutput = new ByteArrayOutputStream();
+			leader.get(5, TimeUnit.SECONDS).writeTo(leaderOutput);
+			ByteArrayOutputStream followerOutput = new ByteArrayOutputStream();
+			follower.get(5, TimeUnit.SECONDS).writeTo(followerOutput);
+			assertThat(invocations).hasValue(1);
+			assertThat(leaderOutput.toString(StandardCharsets.UTF_8)).isEqualTo("test");
+			assertThat(followerOutput.toString(StandardCharsets.UTF_8)).isEqualTo("test");
+			verify(this.eventPublisher, times(2)).publishEvent(argThat(new ProjectGeneratedEventMatcher(request)));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCoalescingAndErrorFailsFollowers() throws Exception {
+		this.invoker.setCoalesceIdenticalRequests(true);
+		this.invoker.setCoalescingTimeout(Duration.ofMinutes(1));
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ProjectArchiver archiver = (result, output) -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			throw new OutOfMemoryError("test");
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<ProjectArchive> leader = executor
+				.submit(() -> this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			AtomicReference<Thread> followerThread = new AtomicReference<>();
+			Future<ProjectArchive> follower = executor.submit(() -> {
+				followerThread.set(Thread.currentThread());
+				return this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver);
+			});
+			long deadline = System.currentTimeMillis() + 5000;
+			while ((followerThread.get() == null || followerThread.get().getState() != Thread.State.TIMED_WAITING)
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			release.countDown();
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(OutOfMemoryError.class);
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(ProjectGenerationException.class);
+			assertThat(ReflectionTestUtils.getField(this.invoker, "inFlightArchives"))
+				.asInstanceOf(InstanceOfAssertFactories.MAP)
+				.isEmpty();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCoalescingGeneratesIndependentlyOnTimeout() throws Exception {
+		this.invoker.setCoalesceIdenticalRequests(true);
+		this.invoker.setCoalescingTimeout(Duration.ofMillis(50));
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger invocations = new AtomicInteger();
+		ProjectArchiver archiver = (result, output) -> {
+			if (invocations.incrementAndGet() == 1) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			output.write(("test" + invocations.get()).getBytes(StandardCharsets.UTF_8));
+		};
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<ProjectArchive> leader = executor
+				.submit(() -> this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			ByteArrayOutputStream followerOutput = new ByteArrayOutputStream();
+			try (ProjectArchive follower = this.invoker.invokeProjectArchiveGeneration(request, "zip", archiver)) {
+				follower.writeTo(followerOutput);
+			}
+			assertThat(followerOutput.toString(StandardCharsets.UTF_8)).startsWith("test");
+			release.countDown();
+			ByteArrayOutputStream leaderOutput = new ByteArrayOutputStream();
+			leader.get(5, TimeUnit.SECONDS).writeTo(leaderOutput);
+			assertThat(invocations).hasValue(2);
+			verify(this.eventPublisher, times(2)).publishEvent(argThat(new ProjectGeneratedEventMatcher(request)));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCoalescingAndLargeArchive() throws IOException {
+		this.invoker.setCoalesceIdenticalRequests(true);
+		this.invoker.setCoalescingMaxInMemorySize(2);
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		ProjectArchive archive = this.invoker.invokeProjectArchiveGeneration(request, "zip",
+				(result, output) -> output.write("test".getBytes(StandardCharsets.UTF_8)));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		archive.writeTo(output);
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("test");
+		archive.close();
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCoalescingCleansTempFiles() {
+		this.invoker.setCoalesceIdenticalRequests(true);
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		List<Path> rootDirectories = new ArrayList<>();
+		this.invoker.invokeProjectArchiveGeneration(request, "zip",
+				(result, output) -> rootDirectories.add(result.getRootDirectory()));
+		assertThat(rootDirectories).singleElement().satisfies((directory) -> assertThat(directory).doesNotExist());
+		assertThat(ReflectionTestUtils.getField(this.invoker, "inFlightArchives"))
+			.asInstanceOf(InstanceOfAssertFactories.MAP)
+			.isEmpty();
+	}
+
+	@Test
+	void invokeProjectArchiveGenerationWithCoalescingAndArchiveFailure() {
+		this.invoker.setCoalesceIdenticalRequests(true);
+		WebProjectRequest request = new WebProjectRequest();
+		request.initialize(metadata);
+		request.setType("maven-project");
+		IOException failure = new IOException("test");
+		assertThatExceptionOfType(ProjectGenerationException.class)
+			.isThrownBy(() -> this.invoker.invokeProjectArchiveGeneration(request, "zip", (result, output) -> {
+				throw failure;
+			}))
+			.satisfies((ex) -> {
+				assertThat(ex).hasCause(failure);
+				verifyProjectFailedEventFor(request, ex);
+			});
+	}
+
 	private void setupContext() {
 		InitializrMetadataProvider metadataProvider = mock(InitializrMetadataProvider.class);
 		given(metadataProvider.get()).willReturn(InitializrMetadataTestBuilder.withDefaults().build());
@@ -226,6 +516,14 @@ class ProjectGenerationInvokerTests {
 		this.context.refresh();
 	}
 
+	@SuppressWarnings("unchecked")
+	private Map<Path, List<Path>> getTempFiles() {
+		Map<Path, List<Path>> tempFiles = (Map<Path, List<Path>>) ReflectionTestUtils.getField(this.invoker,
+				"temporaryFiles");
+		assertThat(tempFiles).isNotNull();
+		return tempFiles;
+	}
+
 	protected void verifyProjectSuccessfulEventFor(ProjectRequest request) {
 		verify(this.eventPublisher, times(1)).publishEvent(argThat(new ProjectGeneratedEventMatcher(request)));
 	}
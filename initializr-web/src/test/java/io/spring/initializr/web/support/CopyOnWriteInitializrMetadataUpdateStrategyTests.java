@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.support;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.metadata.DefaultMetadataElement;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CopyOnWriteInitializrMetadataUpdateStrategy}.
+ *
+ * @author agent
+ */
+class CopyOnWriteInitializrMetadataUpdateStrategyTests {
+
+	private final AtomicInteger snapshots = new AtomicInteger();
+
+	private final Supplier<InitializrMetadata> snapshotFactory = () -> {
+		this.snapshots.incrementAndGet();
+		return createMetadata();
+	};
+
+	@Test
+	void updateInvokesDelegateWithNewSnapshot() {
+		InitializrMetadata current = createMetadata();
+		InitializrMetadata updated = new CopyOnWriteInitializrMetadataUpdateStrategy(this.snapshotFactory,
+				(snapshot) -> {
+					assertThat(snapshot).isNotSameAs(current);
+					snapshot.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+					return snapshot;
+				})
+			.update(current);
+		assertThat(updated).isNotSameAs(current);
+		assertThat(updated.getRevision()).isNotEqualTo(current.getRevision());
+	}
+
+	@Test
+	void updateDoesNotModifyCurrentMetadata() {
+		InitializrMetadata current = createMetadata();
+		long revision = current.getRevision();
+		List<DefaultMetadataElement> bootVersions = current.getBootVersions().getContent();
+		InitializrMetadata updated = new CopyOnWriteInitializrMetadataUpdateStrategy(this.snapshotFactory,
+				(snapshot) -> {
+					snapshot.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+					return snapshot;
+				})
+			.update(current);
+		assertThat(updated.getBootVersions().getContent()).singleElement()
+			.satisfies((element) -> assertThat(element.getId()).isEqualTo("4.0.0"));
+		assertThat(current.getBootVersions().getContent()).isEqualTo(bootVersions);
+		assertThat(current.getRevision()).isEqualTo(revision);
+	}
+
+	@Test
+	void updateWhenDelegateDoesNotUpdateSnapshotReturnsCurrentMetadata() {
+		InitializrMetadata current = createMetadata();
+		long revision = current.getRevision();
+		InitializrMetadata updated = new CopyOnWriteInitializrMetadataUpdateStrategy(this.snapshotFactory,
+				(snapshot) -> snapshot)
+			.update(current);
+		assertThat(updated).isSameAs(current);
+		assertThat(updated.getRevision()).isEqualTo(revision);
+	}
+
+	@Test
+	void updateWithSameBootVersionsReturnsCurrentMetadata() {
+		InitializrMetadata current = createMetadata();
+		current.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+		long revision = current.getRevision();
+		InitializrMetadata updated = new CopyOnWriteInitializrMetadataUpdateStrategy(this.snapshotFactory,
+				(snapshot) -> {
+					snapshot.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+					return snapshot;
+				})
+			.update(current);
+		assertThat(updated).isSameAs(current);
+		assertThat(updated.getRevision()).isEqualTo(revision);
+	}
+
+	@Test
+	void updateWhenDelegateDoesNotUpdateSnapshotReusesSnapshot() {
+		InitializrMetadata current = createMetadata();
+		CopyOnWriteInitializrMetadataUpdateStrategy strategy = new CopyOnWriteInitializrMetadataUpdateStrategy(
+				this.snapshotFactory, (snapshot) -> snapshot);
+		assertThat(strategy.update(current)).isSameAs(current);
+		assertThat(strategy.update(current)).isSameAs(current);
+		assertThat(this.snapshots).hasValue(1);
+	}
+
+	@Test
+	void updateAfterUpdatedSnapshotIsPublishedCreatesNewSnapshot() {
+		InitializrMetadata current = createMetadata();
+		CopyOnWriteInitializrMetadataUpdateStrategy strategy = new CopyOnWriteInitializrMetadataUpdateStrategy(
+				this.snapshotFactory, (snapshot) -> {
+					snapshot.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+					return snapshot;
+				});
+		InitializrMetadata updated = strategy.update(current);
+		assertThat(updated).isNotSameAs(current);
+		InitializrMetadata next = strategy.update(updated);
+		assertThat(next).isSameAs(updated);
+		assertThat(next.getRevision()).isEqualTo(updated.getRevision());
+		assertThat(this.snapshots).hasValue(2);
+	}
+
+	@Test
+	void updateRetainsBootVersionsOfCurrentMetadataIfDelegateDoesNotUpdateThem() {
+		InitializrMetadata current = createMetadata();
+		current.updateSpringBootVersions(List.of(DefaultMetadataElement.create("4.0.0", true)));
+		InitializrMetadata updated = new CopyOnWriteInitializrMetadataUpdateStrategy(this.snapshotFactory,
+				(snapshot) -> snapshot)
+			.update(current);
+		assertThat(updated.getBootVersions().getContent()).singleElement()
+			.satisfies((element) -> assertThat(element.getId()).isEqualTo("4.0.0"));
+	}
+
+	private static InitializrMetadata createMetadata() {
+		return InitializrMetadataTestBuilder.withDefaults().build();
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.spring.initializr.generator.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.DefaultMetadataElement;
+import io.spring.initializr.metadata.Dependency;
+import io.spring.initializr.metadata.DependencyMetadata;
+import io.spring.initializr.metadata.DependencyMetadataProvider;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests for {@link PrecomputedDependencyMetadataProvider}.
+ *
+ * @author agent
+ */
+class PrecomputedDependencyMetadataProviderTests {
+
+	@Test
+	void prepareBuildsDependencyMetadataOfEveryBootVersion() {
+		InitializrMetadata metadata = createMetadata();
+		Map<Version, DependencyMetadata> dependencyMetadata = new PrecomputedDependencyMetadataProvider()
+			.prepare(metadata);
+		assertThat(dependencyMetadata).containsOnlyKeys(Version.parse("2.2.17.RELEASE"), Version.parse("2.3.3.RELEASE"),
+				Version.parse("2.4.1"), Version.parse("2.5.0-SNAPSHOT"));
+		assertThat(dependencyMetadata.get(Version.parse("2.2.17.RELEASE")).getDependencies()).containsOnlyKeys("web");
+		assertThat(dependencyMetadata.get(Version.parse("2.4.1")).getDependencies()).containsOnlyKeys("web", "recent");
+	}
+
+	@Test
+	void getWithKnownBootVersionReturnsPrecomputedDependencyMetadata() {
+		DependencyMetadataProvider delegate = spy(new DefaultDependencyMetadataProvider());
+		PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider(delegate, null);
+		InitializrMetadata metadata = createMetadata();
+		provider.prepare(metadata);
+		DependencyMetadata dependencyMetadata = provider.get(metadata, Version.parse("2.4.1"));
+		assertThat(provider.get(metadata, Version.parse("2.4.1"))).isSameAs(dependencyMetadata);
+		assertThat(provider.get(metadata, Version.parse("2.3.3.RELEASE"))).isNotNull();
+		verify(delegate, times(4)).get(any(), any());
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	void getBeforePrepareUsesDelegate() {
+		DependencyMetadataProvider delegate = spy(new DefaultDependencyMetadataProvider());
+		PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider(delegate, null);
+		InitializrMetadata metadata = createMetadata();
+		DependencyMetadata dependencyMetadata = provider.get(metadata, Version.parse("2.4.1"));
+		assertThat(dependencyMetadata.getDependencies()).containsOnlyKeys("web", "recent");
+		verify(delegate).get(metadata, Version.parse("2.4.1"));
+		verifyNoMoreInteractions(delegate);
+		assertThat(provider).extracting("snapshot")
+			.isInstanceOfSatisfying(AtomicReference.class, (snapshot) -> assertThat(snapshot.get()).isNull());
+	}
+
+	@Test
+	void getWhileDependencyMetadataIsBuiltUsesDelegate() {
+		DependencyMetadataProvider defaultProvider = new DefaultDependencyMetadataProvider();
+		AtomicReference<PrecomputedDependencyMetadataProvider> provider = new AtomicReference<>();
+		AtomicBoolean building = new AtomicBoolean();
+		DependencyMetadataProvider delegate = (metadata, bootVersion) -> {
+			if (building.compareAndSet(false, true)) {
+				DependencyMetadata lookup = CompletableFuture
+					.supplyAsync(() -> provider.get().get(metadata, Version.parse("2.4.1")))
+					.orTimeout(5, TimeUnit.SECONDS)
+					.join();
+				assertThat(lookup.getDependencies()).containsOnlyKeys("web", "recent");
+			}
+			return defaultProvider.get(metadata, bootVersion);
+		};
+		provider.set(new PrecomputedDependencyMetadataProvider(delegate, null));
+		assertThat(provider.get().prepare(createMetadata())).hasSize(4);
+	}
+
+	@Test
+	void getWithUnknownBootVersionUsesDelegate() {
+		DependencyMetadataProvider delegate = spy(new DefaultDependencyMetadataProvider());
+		PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider(delegate, null);
+		InitializrMetadata metadata = createMetadata();
+		provider.prepare(metadata);
+		DependencyMetadata dependencyMetadata = provider.get(metadata, Version.parse("2.4.2"));
+		assertThat(dependencyMetadata.getDependencies()).containsOnlyKeys("web", "recent");
+		verify(delegate).get(metadata, Version.parse("2.4.2"));
+	}
+
+	@Test
+	void getWithUpdatedMetadataBuildsDependencyMetadataAgain() {
+		PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider();
+		InitializrMetadata metadata = createMetadata();
+		assertThat(provider.prepare(metadata)).hasSize(4);
+		metadata.updateSpringBootVersions(List.of(DefaultMetadataElement.create("2.4.5", true)));
+		assertThat(provider.prepare(metadata)).containsOnlyKeys(Version.parse("2.4.5"));
+		assertThat(provider.get(metadata, Version.parse("2.4.5")).getDependencies()).containsOnlyKeys("web", "recent");
+	}
+
+	@Test
+	void prepareWithOutdatedMetadataDoesNotReplaceDependencyMetadata() {
+		PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider();
+		InitializrMetadata previous = createMetadata();
+		InitializrMetadata current = createMetadata();
+		Map<Version, DependencyMetadata> dependencyMetadata = provider.prepare(current);
+		assertThat(provider.prepare(previous)).isEmpty();
+		assertThat(provider.get(previous, Version.parse("2.4.1")).getDependencies()).containsOnlyKeys("web", "recent");
+		assertThat(provider.prepare(current)).isSameAs(dependencyMetadata);
+	}
+
+	@Test
+	void prepareWithExecutorBuildsDependencyMetadataConcurrently() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider(
+					new DefaultDependencyMetadataProvider(), executor);
+			Map<Version, DependencyMetadata> dependencyMetadata = provider.prepare(createMetadata());
+			assertThat(dependencyMetadata.keySet()).containsExactly(Version.parse("2.2.17.RELEASE"),
+					Version.parse("2.3.3.RELEASE"), Version.parse("2.4.1"), Version.parse("2.5.0-SNAPSHOT"));
+			assertThat(dependencyMetadata.get(Version.parse("2.5.0-SNAPSHOT")).getDependencies())
+				.containsOnlyKeys("web", "recent");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void prepareWithExecutorAndFailureRethrowsException() {
+		DependencyMetadataProvider delegate = mock(DependencyMetadataProvider.class);
+		given(delegate.get(any(), any())).willThrow(new IllegalStateException("test"));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			PrecomputedDependencyMetadataProvider provider = new PrecomputedDependencyMetadataProvider(delegate,
+					executor);
+			assertThatIllegalStateException().isThrownBy(() -> provider.prepare(createMetadata())).withMessage("test");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private InitializrMetadata createMetadata() {
+		Dependency web = Dependency.withId("web", "org.foo", "web");
+		Dependency recent = Dependency.withId("recent", "org.foo", "recent");
+		recent.setCompatibilityRange("2.4.0");
+		return InitializrMetadataTestBuilder.withDefaults().addDependencyGroup("test", web, recent).build();
+	}
+
+}
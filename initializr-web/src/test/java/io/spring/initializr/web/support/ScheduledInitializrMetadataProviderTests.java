@@ -0,0 +1,136 @@
+/*
+ * Copyright 2012 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.web.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ScheduledInitializrMetadataProvider}.
+ *
+ * @author agent
+ */
+class ScheduledInitializrMetadataProviderTests {
+
+	private final InitializrMetadata metadata = mock(InitializrMetadata.class);
+
+	private final InitializrMetadataUpdateStrategy updateStrategy = mock(InitializrMetadataUpdateStrategy.class);
+
+	@Test
+	void getDoesNotInvokeStrategy() {
+		ScheduledInitializrMetadataProvider provider = createProvider();
+		assertThat(provider.get()).isSameAs(this.metadata);
+		verifyNoInteractions(this.updateStrategy);
+	}
+
+	@Test
+	void refreshUpdatesMetadata() {
+		InitializrMetadata updatedMetadata = mock(InitializrMetadata.class);
+		given(this.updateStrategy.update(this.metadata)).willReturn(updatedMetadata);
+		ScheduledInitializrMetadataProvider provider = createProvider();
+		assertThat(provider.refresh()).isTrue();
+		assertThat(provider.get()).isSameAs(updatedMetadata);
+	}
+
+	@Test
+	void refreshWhenStrategyFailsKeepsCurrentMetadata() {
+		given(this.updateStrategy.update(this.metadata)).willThrow(new IllegalStateException("test"));
+		ScheduledInitializrMetadataProvider provider = createProvider();
+		assertThat(provider.refresh()).isFalse();
+		assertThat(provider.get()).isSameAs(this.metadata);
+	}
+
+	@Test
+	void refreshWhenUpdateIsInProgressReturnsImmediately() throws Exception {
+		CountDownLatch updateStarted = new CountDownLatch(1);
+		CountDownLatch updateReleased = new CountDownLatch(1);
+		given(this.updateStrategy.update(this.metadata)).willAnswer((invocation) -> {
+			updateStarted.countDown();
+			updateReleased.await(5, TimeUnit.SECONDS);
+			return this.metadata;
+		});
+		ScheduledInitializrMetadataProvider provider = createProvider();
+		CompletableFuture<Boolean> firstRefresh = CompletableFuture.supplyAsync(provider::refresh);
+		assertThat(updateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(provider.refresh()).isFalse();
+		assertThat(provider.get()).isSameAs(this.metadata);
+		updateReleased.countDown();
+		assertThat(firstRefresh.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void startUpdatesMetadataInTheBackground() throws InterruptedException {
+		InitializrMetadata updatedMetadata = mock(InitializrMetadata.class);
+		CountDownLatch updated = new CountDownLatch(1);
+		given(this.updateStrategy.update(any())).willAnswer((invocation) -> {
+			updated.countDown();
+			return updatedMetadata;
+		});
+		ScheduledInitializrMetadataProvider provider = createProvider();
+		provider.start();
+		try {
+			assertThat(provider.isRunning()).isTrue();
+			assertThat(updated.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			provider.stop();
+		}
+		assertThat(provider.isRunning()).isFalse();
+	}
+
+	@Test
+	void startWhenStrategyThrowsErrorKeepsUpdatingMetadata() throws InterruptedException {
+		InitializrMetadata updatedMetadata = mock(InitializrMetadata.class);
+		CountDownLatch updated = new CountDownLatch(1);
+		given(this.updateStrategy.update(any())).willThrow(new NoClassDefFoundError("test"))
+			.willAnswer((invocation) -> {
+				// Invoked with the metadata of a previous update: the provider has kept
+				// going
+				if (invocation.getArgument(0) == updatedMetadata) {
+					updated.countDown();
+				}
+				return updatedMetadata;
+			});
+		ScheduledInitializrMetadataProvider provider = new ScheduledInitializrMetadataProvider(this.metadata,
+				this.updateStrategy, Duration.ofMillis(10), Duration.ZERO);
+		provider.start();
+		try {
+			assertThat(updated.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(provider.get()).isSameAs(updatedMetadata);
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	private ScheduledInitializrMetadataProvider createProvider() {
+		return new ScheduledInitializrMetadataProvider(this.metadata, this.updateStrategy, Duration.ofMinutes(10),
+				Duration.ofMinutes(1));
+	}
+
+}